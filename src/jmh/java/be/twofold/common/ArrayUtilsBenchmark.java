@@ -0,0 +1,117 @@
+package be.twofold.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayUtilsBenchmark {
+
+    @Param({"16", "4096"})
+    private int size;
+
+    private byte[] bytes1;
+    private byte[] bytes2;
+    private int[] ints1;
+    private int[] ints2;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        bytes1 = new byte[size];
+        random.nextBytes(bytes1);
+        bytes2 = bytes1.clone();
+        bytes2[size - 1]++;
+
+        ints1 = random.ints(size).toArray();
+        ints2 = ints1.clone();
+        ints2[size - 1]++;
+    }
+
+    @Benchmark
+    public int indexOfByteArrayUtils() {
+        return ArrayUtils.indexOf(bytes2, 0, size, bytes2[size - 1]);
+    }
+
+    @Benchmark
+    public int indexOfIntArrayUtils() {
+        return ArrayUtils.indexOf(ints2, 0, size, ints2[size - 1]);
+    }
+
+    @Benchmark
+    public boolean equalsByteArrayUtils() {
+        return ArrayUtils.equals(bytes1, bytes2);
+    }
+
+    @Benchmark
+    public boolean equalsByteArrays() {
+        return Arrays.equals(bytes1, bytes2);
+    }
+
+    @Benchmark
+    public boolean equalsIntArrayUtils() {
+        return ArrayUtils.equals(ints1, ints2);
+    }
+
+    @Benchmark
+    public boolean equalsIntArrays() {
+        return Arrays.equals(ints1, ints2);
+    }
+
+    @Benchmark
+    public int compareByteArrayUtils() {
+        return ArrayUtils.compare(bytes1, bytes2);
+    }
+
+    @Benchmark
+    public int compareByteArrays() {
+        return Arrays.compare(bytes1, bytes2);
+    }
+
+    @Benchmark
+    public int compareIntArrayUtils() {
+        return ArrayUtils.compare(ints1, ints2);
+    }
+
+    @Benchmark
+    public int compareIntArrays() {
+        return Arrays.compare(ints1, ints2);
+    }
+
+    @Benchmark
+    public int hashCodeByteArrayUtils() {
+        return ArrayUtils.hashCode(bytes1);
+    }
+
+    @Benchmark
+    public int hashCodeByteArrays() {
+        return Arrays.hashCode(bytes1);
+    }
+
+    @Benchmark
+    public int hashCodeIntArrayUtils() {
+        return ArrayUtils.hashCode(ints1);
+    }
+
+    @Benchmark
+    public int hashCodeIntArrays() {
+        return Arrays.hashCode(ints1);
+    }
+
+    @Benchmark
+    public String toStringIntArrayUtils() {
+        return ArrayUtils.toString(ints1);
+    }
+
+    @Benchmark
+    public String toStringIntArrays() {
+        return Arrays.toString(ints1);
+    }
+
+}
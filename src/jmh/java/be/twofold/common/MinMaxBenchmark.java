@@ -0,0 +1,79 @@
+package be.twofold.common;
+
+import be.twofold.common.tuple.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinMaxBenchmark {
+
+    @Param({"16", "65536"})
+    private int size;
+
+    @Param({"random", "ascending"})
+    private String order;
+
+    private int[] ints;
+    private double[] doubles;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        ints = random.ints(size).toArray();
+        doubles = random.doubles(size).toArray();
+        if (order.equals("ascending")) {
+            Arrays.sort(ints);
+            Arrays.sort(doubles);
+        }
+    }
+
+    @Benchmark
+    public int maxInt() {
+        return NumberUtils.max(ints);
+    }
+
+    @Benchmark
+    public IntPair minMaxInt() {
+        return NumberUtils.minMax(ints);
+    }
+
+    @Benchmark
+    public double maxDouble() {
+        return NumberUtils.max(doubles);
+    }
+
+    @Benchmark
+    public DoublePair minMaxDouble() {
+        return NumberUtils.minMax(doubles);
+    }
+
+    @Benchmark
+    public int maxIntLoop() {
+        int max = ints[0];
+        for (int i = 1; i < ints.length; i++) {
+            if (ints[i] > max) {
+                max = ints[i];
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public double maxDoubleLoop() {
+        double max = doubles[0];
+        for (int i = 1; i < doubles.length; i++) {
+            if (doubles[i] > max) {
+                max = doubles[i];
+            }
+        }
+        return max;
+    }
+
+}
@@ -0,0 +1,59 @@
+package be.twofold.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberUtilsBenchmark {
+
+    @Param({"valid", "invalid"})
+    private String input;
+
+    private String intString;
+    private String longString;
+    private String doubleString;
+
+    @Setup
+    public void setup() {
+        boolean valid = input.equals("valid");
+        intString = valid ? "1234567890" : "12345x7890";
+        longString = valid ? "1234567890123456789" : "123456789012345678x";
+        doubleString = valid ? "12345.678901234567" : "12345.6789x1234567";
+    }
+
+    @Benchmark
+    public OptionalInt tryParseInt() {
+        return NumberUtils.tryParseInt(intString);
+    }
+
+    @Benchmark
+    public OptionalLong tryParseLong() {
+        return NumberUtils.tryParseLong(longString);
+    }
+
+    @Benchmark
+    public OptionalDouble tryParseDouble() {
+        return NumberUtils.tryParseDouble(doubleString);
+    }
+
+    private final byte[] buffer = new byte[32];
+    private long longValue = 1234567890123456789L;
+
+    @Benchmark
+    public int writeLong() {
+        return NumberUtils.writeTo(longValue, buffer, 0);
+    }
+
+    @Benchmark
+    public String longToString() {
+        return Long.toString(longValue);
+    }
+
+}
@@ -0,0 +1,90 @@
+package be.twofold.common.collect;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashMapBenchmark {
+
+    @Param({"1024", "65536"})
+    private int distinct;
+
+    private int[] keys;
+    private int[] members;
+    private int[] lookups;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        keys = random.ints(100_000, 0, distinct).toArray();
+
+        // Spread out keys, half of the lookups hit
+        members = random.ints(distinct).toArray();
+        lookups = new int[100_000];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = random.nextBoolean() ? members[random.nextInt(distinct)] : random.nextInt();
+        }
+    }
+
+    @Benchmark
+    public IntIntMap countIntIntMap() {
+        IntIntMap map = new IntIntMap();
+        for (int key : keys) {
+            map.addTo(key, 1);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> countHashMap() {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int key : keys) {
+            map.merge(key, 1, Integer::sum);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int containsIntSet(SetState state) {
+        int count = 0;
+        for (int key : lookups) {
+            if (state.intSet.contains(key)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int containsHashSet(SetState state) {
+        int count = 0;
+        for (int key : lookups) {
+            if (state.hashSet.contains(key)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @State(Scope.Benchmark)
+    public static class SetState {
+        private final IntSet intSet = new IntSet();
+        private final Set<Integer> hashSet = new HashSet<>();
+
+        @Setup
+        public void setup(HashMapBenchmark benchmark) {
+            for (int member : benchmark.members) {
+                intSet.add(member);
+                hashSet.add(member);
+            }
+        }
+    }
+
+}
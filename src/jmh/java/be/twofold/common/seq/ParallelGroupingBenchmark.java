@@ -0,0 +1,55 @@
+package be.twofold.common.seq;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelGroupingBenchmark {
+
+    @Param({"16", "500000"})
+    private int distinct;
+
+    private List<Integer> keys;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        keys = new Random(42).ints(1_000_000, 0, distinct).boxed().collect(Collectors.toList());
+        pool = new ForkJoinPool(4);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countByAuto() {
+        return Seq.seq(keys).parallel(pool).countBy(i -> i, ParallelSeq.Grouping.Auto);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countByPartitioned() {
+        return Seq.seq(keys).parallel(pool).countBy(i -> i, ParallelSeq.Grouping.Partitioned);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countByConcurrent() {
+        return Seq.seq(keys).parallel(pool).countBy(i -> i, ParallelSeq.Grouping.Concurrent);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countByStream() {
+        return pool.submit(() -> keys.parallelStream()
+            .collect(Collectors.groupingByConcurrent(i -> i, Collectors.counting()))).join();
+    }
+
+}
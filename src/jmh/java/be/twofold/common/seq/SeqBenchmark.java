@@ -0,0 +1,193 @@
+package be.twofold.common.seq;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeqBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = new Random(42).ints(size, 0, 1000).boxed().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long filterMapSumSeq() {
+        return Seq.seq(list)
+            .filter(i -> i % 3 == 0)
+            .map(i -> i * 2)
+            .sum(Integer::longValue);
+    }
+
+    @Benchmark
+    public long filterMapSumStream() {
+        return list.stream()
+            .filter(i -> i % 3 == 0)
+            .map(i -> i * 2)
+            .mapToLong(Integer::longValue)
+            .sum();
+    }
+
+    @Benchmark
+    public long mapToIntSumSeq() {
+        return Seq.seq(list)
+            .mapToLong(Integer::longValue)
+            .sum();
+    }
+
+    @Benchmark
+    public long mapToIntSumStream() {
+        return list.stream()
+            .mapToLong(Integer::longValue)
+            .sum();
+    }
+
+    @Benchmark
+    public List<Integer> deepPipelineToListSeq() {
+        return Seq.seq(list)
+            .drop(10)
+            .filter(i -> i > 100)
+            .map(i -> i + 1)
+            .filter(i -> i % 2 == 0)
+            .map(i -> i - 1)
+            .take(size / 2)
+            .toList();
+    }
+
+    @Benchmark
+    public List<Integer> deepPipelineToListStream() {
+        return list.stream()
+            .skip(10)
+            .filter(i -> i > 100)
+            .map(i -> i + 1)
+            .filter(i -> i % 2 == 0)
+            .map(i -> i - 1)
+            .limit(size / 2)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int countSeq() {
+        return Seq.seq(list)
+            .filter(i -> i < 500)
+            .count();
+    }
+
+    @Benchmark
+    public long countStream() {
+        return list.stream()
+            .filter(i -> i < 500)
+            .count();
+    }
+
+    @Benchmark
+    public Integer firstSeq() {
+        return Seq.seq(list)
+            .filter(i -> i == 999)
+            .firstOptional()
+            .orElse(null);
+    }
+
+    @Benchmark
+    public Integer firstStream() {
+        return list.stream()
+            .filter(i -> i == 999)
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBySeq() {
+        return Seq.seq(list)
+            .groupBy(i -> i % 16);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupByStream() {
+        return list.stream()
+            .collect(Collectors.groupingBy(i -> i % 16));
+    }
+
+    @Benchmark
+    public long indexedSum() {
+        return Seq.seq(list)
+            .indexed()
+            .mapToLong(pair -> (long) pair.getFirst() * pair.getSecond())
+            .sum();
+    }
+
+    @Benchmark
+    public long withIndexSum() {
+        return Seq.seq(list)
+            .withIndex()
+            .mapToLong(pair -> (long) pair.getFirst() * pair.getSecond())
+            .sum();
+    }
+
+    @Benchmark
+    public long chunkedSum() {
+        long[] sum = {0};
+        Seq.seq(list)
+            .chunked(100)
+            .forEach(chunk -> sum[0] += chunk.size());
+        return sum[0];
+    }
+
+    @Benchmark
+    public long forEachChunkSum() {
+        long[] sum = {0};
+        Seq.seq(list)
+            .forEachChunk(100, chunk -> sum[0] += chunk.size());
+        return sum[0];
+    }
+
+    @Benchmark
+    public List<Integer> topSeq() {
+        return Seq.seq(list)
+            .top(100)
+            .toList();
+    }
+
+    @Benchmark
+    public List<Integer> topStream() {
+        return list.stream()
+            .sorted(Comparator.reverseOrder())
+            .limit(100)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countByGroupBy() {
+        Map<Integer, Long> result = new HashMap<>();
+        Seq.seq(list)
+            .groupBy(i -> i % 16)
+            .forEach((key, values) -> result.put(key, (long) values.size()));
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countBySeq() {
+        return Seq.seq(list)
+            .countBy(i -> i % 16);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> countByStream() {
+        return list.stream()
+            .collect(Collectors.groupingBy(i -> i % 16, Collectors.counting()));
+    }
+
+}
@@ -0,0 +1,64 @@
+package be.twofold.common.text;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharPredicateBenchmark {
+
+    private static final CharPredicate Whitespace = CharPredicate.from(Character::isWhitespace);
+    private static final CharPredicate Blank = CharPredicate.among(" \t\r\n");
+    private static final CharPredicate Identifier = CharPredicate.range('a', 'z')
+        .or(CharPredicate.range('A', 'Z'))
+        .or(CharPredicate.range('0', '9'))
+        .or(CharPredicate.among("_$"));
+    private static final CharPredicate IdentifierPrecomputed = Identifier.precompute();
+
+    @Param({"8", "256"})
+    private int padding;
+
+    private String string;
+
+    @Setup
+    public void setup() {
+        String pad = " \t".repeat(padding / 2);
+        string = pad + "the quick brown fox jumps over the lazy dog" + pad;
+    }
+
+    @Benchmark
+    public String stripFromWhitespace() {
+        return Whitespace.stripFrom(string);
+    }
+
+    @Benchmark
+    public String stripFromAmong() {
+        return Blank.stripFrom(string);
+    }
+
+    @Benchmark
+    public String stripString() {
+        return string.strip();
+    }
+
+    @Benchmark
+    public int countIdentifier() {
+        return Identifier.countIn(string);
+    }
+
+    @Benchmark
+    public int countIdentifierPrecomputed() {
+        return IdentifierPrecomputed.countIn(string);
+    }
+
+    @Benchmark
+    public String trimAndCollapseFrom() {
+        return Blank.trimAndCollapseFrom(string, ' ');
+    }
+
+}
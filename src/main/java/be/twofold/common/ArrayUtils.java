@@ -1,5 +1,9 @@
 package be.twofold.common;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
@@ -11,6 +15,12 @@ import java.util.Objects;
  */
 public final class ArrayUtils {
 
+    private static final int Pow31x2 = 31 * 31;
+    private static final int Pow31x3 = 31 * 31 * 31;
+    private static final int Pow31x4 = 31 * 31 * 31 * 31;
+
+    private static final VarHandle LongView = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
     private ArrayUtils() {
         throw new UnsupportedOperationException();
     }
@@ -228,7 +238,16 @@ public final class ArrayUtils {
     public static int indexOf(byte[] array, int fromIndex, int toIndex, byte value) {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
-        for (int i = fromIndex; i < toIndex; i++) {
+        // Test eight bytes at a time, the first match is the lowest flagged byte
+        long pattern = broadcast(value);
+        int i = fromIndex;
+        for (; i <= toIndex - Long.BYTES; i += Long.BYTES) {
+            long found = zeroBytes((long) LongView.get(array, i) ^ pattern);
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < toIndex; i++) {
             if (array[i] == value) {
                 return i;
             }
@@ -510,7 +529,16 @@ public final class ArrayUtils {
     public static int lastIndexOf(byte[] array, int fromIndex, int toIndex, byte value) {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
-        for (int i = toIndex - 1; i >= fromIndex; i--) {
+        // Test eight bytes at a time, the last match is the highest flagged byte
+        long pattern = broadcast(value);
+        int i = toIndex - 1;
+        for (; i - Long.BYTES + 1 >= fromIndex; i -= Long.BYTES) {
+            long found = zeroBytes((long) LongView.get(array, i - Long.BYTES + 1) ^ pattern);
+            if (found != 0) {
+                return i - (Long.numberOfLeadingZeros(found) >>> 3);
+            }
+        }
+        for (; i >= fromIndex; i--) {
             if (array[i] == value) {
                 return i;
             }
@@ -924,13 +952,9 @@ public final class ArrayUtils {
 
         int aLength = aToIndex - aFromIndex;
         int bLength = bToIndex - bFromIndex;
-        int limit = Math.min(aLength, bLength);
-
-        for (int i = 0; i < limit; i++) {
-            int compare = Byte.compare(a[aFromIndex + i], b[bFromIndex + i]);
-            if (compare != 0) {
-                return compare;
-            }
+        int i = Arrays.mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+        if (i >= 0 && i < Math.min(aLength, bLength)) {
+            return Byte.compare(a[aFromIndex + i], b[bFromIndex + i]);
         }
         return aLength - bLength;
     }
@@ -941,13 +965,9 @@ public final class ArrayUtils {
 
         int aLength = aToIndex - aFromIndex;
         int bLength = bToIndex - bFromIndex;
-        int limit = Math.min(aLength, bLength);
-
-        for (int i = 0; i < limit; i++) {
-            int compare = Short.compare(a[aFromIndex + i], b[bFromIndex + i]);
-            if (compare != 0) {
-                return compare;
-            }
+        int i = Arrays.mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+        if (i >= 0 && i < Math.min(aLength, bLength)) {
+            return Short.compare(a[aFromIndex + i], b[bFromIndex + i]);
         }
         return aLength - bLength;
     }
@@ -958,13 +978,9 @@ public final class ArrayUtils {
 
         int aLength = aToIndex - aFromIndex;
         int bLength = bToIndex - bFromIndex;
-        int limit = Math.min(aLength, bLength);
-
-        for (int i = 0; i < limit; i++) {
-            int compare = Integer.compare(a[aFromIndex + i], b[bFromIndex + i]);
-            if (compare != 0) {
-                return compare;
-            }
+        int i = Arrays.mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+        if (i >= 0 && i < Math.min(aLength, bLength)) {
+            return Integer.compare(a[aFromIndex + i], b[bFromIndex + i]);
         }
         return aLength - bLength;
     }
@@ -975,13 +991,9 @@ public final class ArrayUtils {
 
         int aLength = aToIndex - aFromIndex;
         int bLength = bToIndex - bFromIndex;
-        int limit = Math.min(aLength, bLength);
-
-        for (int i = 0; i < limit; i++) {
-            int compare = Long.compare(a[aFromIndex + i], b[bFromIndex + i]);
-            if (compare != 0) {
-                return compare;
-            }
+        int i = Arrays.mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+        if (i >= 0 && i < Math.min(aLength, bLength)) {
+            return Long.compare(a[aFromIndex + i], b[bFromIndex + i]);
         }
         return aLength - bLength;
     }
@@ -992,13 +1004,9 @@ public final class ArrayUtils {
 
         int aLength = aToIndex - aFromIndex;
         int bLength = bToIndex - bFromIndex;
-        int limit = Math.min(aLength, bLength);
-
-        for (int i = 0; i < limit; i++) {
-            int compare = Float.compare(a[aFromIndex + i], b[bFromIndex + i]);
-            if (compare != 0) {
-                return compare;
-            }
+        int i = Arrays.mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+        if (i >= 0 && i < Math.min(aLength, bLength)) {
+            return Float.compare(a[aFromIndex + i], b[bFromIndex + i]);
         }
         return aLength - bLength;
     }
@@ -1009,13 +1017,9 @@ public final class ArrayUtils {
 
         int aLength = aToIndex - aFromIndex;
         int bLength = bToIndex - bFromIndex;
-        int limit = Math.min(aLength, bLength);
-
-        for (int i = 0; i < limit; i++) {
-            int compare = Double.compare(a[aFromIndex + i], b[bFromIndex + i]);
-            if (compare != 0) {
-                return compare;
-            }
+        int i = Arrays.mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+        if (i >= 0 && i < Math.min(aLength, bLength)) {
+            return Double.compare(a[aFromIndex + i], b[bFromIndex + i]);
         }
         return aLength - bLength;
     }
@@ -1026,13 +1030,9 @@ public final class ArrayUtils {
 
         int aLength = aToIndex - aFromIndex;
         int bLength = bToIndex - bFromIndex;
-        int limit = Math.min(aLength, bLength);
-
-        for (int i = 0; i < limit; i++) {
-            int compare = Character.compare(a[aFromIndex + i], b[bFromIndex + i]);
-            if (compare != 0) {
-                return compare;
-            }
+        int i = Arrays.mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+        if (i >= 0 && i < Math.min(aLength, bLength)) {
+            return Character.compare(a[aFromIndex + i], b[bFromIndex + i]);
         }
         return aLength - bLength;
     }
@@ -1043,13 +1043,9 @@ public final class ArrayUtils {
 
         int aLength = aToIndex - aFromIndex;
         int bLength = bToIndex - bFromIndex;
-        int limit = Math.min(aLength, bLength);
-
-        for (int i = 0; i < limit; i++) {
-            int compare = Boolean.compare(a[aFromIndex + i], b[bFromIndex + i]);
-            if (compare != 0) {
-                return compare;
-            }
+        int i = Arrays.mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+        if (i >= 0 && i < Math.min(aLength, bLength)) {
+            return Boolean.compare(a[aFromIndex + i], b[bFromIndex + i]);
         }
         return aLength - bLength;
     }
@@ -1170,7 +1166,16 @@ public final class ArrayUtils {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
         int result = 1;
-        for (int i = fromIndex; i < toIndex; i++) {
+        int i = fromIndex;
+        // Four elements per step, the multiplications by powers of 31 don't depend on each other
+        for (; i <= toIndex - 4; i += 4) {
+            result = Pow31x4 * result
+                + Pow31x3 * Byte.hashCode(array[i])
+                + Pow31x2 * Byte.hashCode(array[i + 1])
+                + 31 * Byte.hashCode(array[i + 2])
+                + Byte.hashCode(array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
             result = 31 * result + Byte.hashCode(array[i]);
         }
         return result;
@@ -1180,7 +1185,15 @@ public final class ArrayUtils {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
         int result = 1;
-        for (int i = fromIndex; i < toIndex; i++) {
+        int i = fromIndex;
+        for (; i <= toIndex - 4; i += 4) {
+            result = Pow31x4 * result
+                + Pow31x3 * Short.hashCode(array[i])
+                + Pow31x2 * Short.hashCode(array[i + 1])
+                + 31 * Short.hashCode(array[i + 2])
+                + Short.hashCode(array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
             result = 31 * result + Short.hashCode(array[i]);
         }
         return result;
@@ -1190,7 +1203,15 @@ public final class ArrayUtils {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
         int result = 1;
-        for (int i = fromIndex; i < toIndex; i++) {
+        int i = fromIndex;
+        for (; i <= toIndex - 4; i += 4) {
+            result = Pow31x4 * result
+                + Pow31x3 * Integer.hashCode(array[i])
+                + Pow31x2 * Integer.hashCode(array[i + 1])
+                + 31 * Integer.hashCode(array[i + 2])
+                + Integer.hashCode(array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
             result = 31 * result + Integer.hashCode(array[i]);
         }
         return result;
@@ -1200,7 +1221,15 @@ public final class ArrayUtils {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
         int result = 1;
-        for (int i = fromIndex; i < toIndex; i++) {
+        int i = fromIndex;
+        for (; i <= toIndex - 4; i += 4) {
+            result = Pow31x4 * result
+                + Pow31x3 * Long.hashCode(array[i])
+                + Pow31x2 * Long.hashCode(array[i + 1])
+                + 31 * Long.hashCode(array[i + 2])
+                + Long.hashCode(array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
             result = 31 * result + Long.hashCode(array[i]);
         }
         return result;
@@ -1210,7 +1239,15 @@ public final class ArrayUtils {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
         int result = 1;
-        for (int i = fromIndex; i < toIndex; i++) {
+        int i = fromIndex;
+        for (; i <= toIndex - 4; i += 4) {
+            result = Pow31x4 * result
+                + Pow31x3 * Float.hashCode(array[i])
+                + Pow31x2 * Float.hashCode(array[i + 1])
+                + 31 * Float.hashCode(array[i + 2])
+                + Float.hashCode(array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
             result = 31 * result + Float.hashCode(array[i]);
         }
         return result;
@@ -1220,7 +1257,15 @@ public final class ArrayUtils {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
         int result = 1;
-        for (int i = fromIndex; i < toIndex; i++) {
+        int i = fromIndex;
+        for (; i <= toIndex - 4; i += 4) {
+            result = Pow31x4 * result
+                + Pow31x3 * Double.hashCode(array[i])
+                + Pow31x2 * Double.hashCode(array[i + 1])
+                + 31 * Double.hashCode(array[i + 2])
+                + Double.hashCode(array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
             result = 31 * result + Double.hashCode(array[i]);
         }
         return result;
@@ -1230,7 +1275,15 @@ public final class ArrayUtils {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
         int result = 1;
-        for (int i = fromIndex; i < toIndex; i++) {
+        int i = fromIndex;
+        for (; i <= toIndex - 4; i += 4) {
+            result = Pow31x4 * result
+                + Pow31x3 * Character.hashCode(array[i])
+                + Pow31x2 * Character.hashCode(array[i + 1])
+                + 31 * Character.hashCode(array[i + 2])
+                + Character.hashCode(array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
             result = 31 * result + Character.hashCode(array[i]);
         }
         return result;
@@ -1240,7 +1293,15 @@ public final class ArrayUtils {
         Check.fromToIndex(fromIndex, toIndex, array.length);
 
         int result = 1;
-        for (int i = fromIndex; i < toIndex; i++) {
+        int i = fromIndex;
+        for (; i <= toIndex - 4; i += 4) {
+            result = Pow31x4 * result
+                + Pow31x3 * Boolean.hashCode(array[i])
+                + Pow31x2 * Boolean.hashCode(array[i + 1])
+                + 31 * Boolean.hashCode(array[i + 2])
+                + Boolean.hashCode(array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
             result = 31 * result + Boolean.hashCode(array[i]);
         }
         return result;
@@ -1300,11 +1361,21 @@ public final class ArrayUtils {
             return "[]";
         }
 
-        StringBuilder builder = new StringBuilder().append('[').append(array[fromIndex]);
+        long length = 2L * (toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            length += NumberUtils.stringLength(array[i]);
+        }
+
+        byte[] buffer = newStringBuffer(length);
+        buffer[0] = '[';
+        int position = NumberUtils.writeTo(array[fromIndex], buffer, 1);
         for (int i = fromIndex + 1; i < toIndex; i++) {
-            builder.append(", ").append(array[i]);
+            buffer[position++] = ',';
+            buffer[position++] = ' ';
+            position = NumberUtils.writeTo(array[i], buffer, position);
         }
-        return builder.append(']').toString();
+        buffer[position] = ']';
+        return new String(buffer, StandardCharsets.ISO_8859_1);
     }
 
     public static String toString(short[] array, int fromIndex, int toIndex) {
@@ -1313,11 +1384,21 @@ public final class ArrayUtils {
             return "[]";
         }
 
-        StringBuilder builder = new StringBuilder().append('[').append(array[fromIndex]);
+        long length = 2L * (toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            length += NumberUtils.stringLength(array[i]);
+        }
+
+        byte[] buffer = newStringBuffer(length);
+        buffer[0] = '[';
+        int position = NumberUtils.writeTo(array[fromIndex], buffer, 1);
         for (int i = fromIndex + 1; i < toIndex; i++) {
-            builder.append(", ").append(array[i]);
+            buffer[position++] = ',';
+            buffer[position++] = ' ';
+            position = NumberUtils.writeTo(array[i], buffer, position);
         }
-        return builder.append(']').toString();
+        buffer[position] = ']';
+        return new String(buffer, StandardCharsets.ISO_8859_1);
     }
 
     public static String toString(int[] array, int fromIndex, int toIndex) {
@@ -1326,11 +1407,21 @@ public final class ArrayUtils {
             return "[]";
         }
 
-        StringBuilder builder = new StringBuilder().append('[').append(array[fromIndex]);
+        long length = 2L * (toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            length += NumberUtils.stringLength(array[i]);
+        }
+
+        byte[] buffer = newStringBuffer(length);
+        buffer[0] = '[';
+        int position = NumberUtils.writeTo(array[fromIndex], buffer, 1);
         for (int i = fromIndex + 1; i < toIndex; i++) {
-            builder.append(", ").append(array[i]);
+            buffer[position++] = ',';
+            buffer[position++] = ' ';
+            position = NumberUtils.writeTo(array[i], buffer, position);
         }
-        return builder.append(']').toString();
+        buffer[position] = ']';
+        return new String(buffer, StandardCharsets.ISO_8859_1);
     }
 
     public static String toString(long[] array, int fromIndex, int toIndex) {
@@ -1339,11 +1430,21 @@ public final class ArrayUtils {
             return "[]";
         }
 
-        StringBuilder builder = new StringBuilder().append('[').append(array[fromIndex]);
+        long length = 2L * (toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            length += NumberUtils.stringLength(array[i]);
+        }
+
+        byte[] buffer = newStringBuffer(length);
+        buffer[0] = '[';
+        int position = NumberUtils.writeTo(array[fromIndex], buffer, 1);
         for (int i = fromIndex + 1; i < toIndex; i++) {
-            builder.append(", ").append(array[i]);
+            buffer[position++] = ',';
+            buffer[position++] = ' ';
+            position = NumberUtils.writeTo(array[i], buffer, position);
         }
-        return builder.append(']').toString();
+        buffer[position] = ']';
+        return new String(buffer, StandardCharsets.ISO_8859_1);
     }
 
     public static String toString(float[] array, int fromIndex, int toIndex) {
@@ -1411,4 +1512,26 @@ public final class ArrayUtils {
         return builder.append(']').toString();
     }
 
+    /**
+     * The ASCII buffer for a string of the given length, failing like {@link StringBuilder} when it's too long.
+     */
+    private static byte[] newStringBuffer(long length) {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Requested string length exceeds VM limit");
+        }
+        return new byte[(int) length];
+    }
+
+    private static long broadcast(byte value) {
+        return (value & 0xFFL) * 0x0101010101010101L;
+    }
+
+    /**
+     * Sets the high bit of every byte in the word that is zero, and clears all other bits.
+     */
+    private static long zeroBytes(long word) {
+        long low = (word & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL;
+        return ~(low | word | 0x7F7F7F7F7F7F7F7FL);
+    }
+
 }
@@ -0,0 +1,76 @@
+package be.twofold.common;
+
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * A {@link CharSequence} view over a range of a {@link ByteBuffer}, mapping each byte to one char, as in ISO-8859-1.
+ * <p>
+ * No characters are copied until {@link #toString()} is called.
+ * Two views are equal if they contain the same characters, and the hash code is the same as for the equivalent String.
+ */
+final class ByteCharSequence implements CharSequence {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    ByteCharSequence(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(offset + Objects.checkIndex(index, length)) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Check.fromToIndex(start, end, length);
+        return new ByteCharSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ByteCharSequence)) {
+            return false;
+        }
+
+        ByteCharSequence other = (ByteCharSequence) obj;
+        if (length != other.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != other.buffer.get(other.offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + (buffer.get(offset + i) & 0xFF);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buffer.duplicate().position(offset).get(bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
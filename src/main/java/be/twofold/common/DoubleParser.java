@@ -0,0 +1,362 @@
+package be.twofold.common;
+
+import java.math.*;
+import java.nio.charset.*;
+
+/**
+ * Parses doubles with the same result as {@link Double#parseDouble(String)}, without allocating or throwing.
+ * <p>
+ * Decimal input is converted with Clinger's fast path when the digits and the exponent are small,
+ * and with the Eisel-Lemire algorithm otherwise. Hexadecimal input, {@code NaN}, {@code Infinity},
+ * subnormal results and the rare ambiguous cases fall back to {@link Double#parseDouble(String)}.
+ * <p>
+ * The result is returned as raw bits, with {@link #Invalid} for input that is not a valid double.
+ */
+final class DoubleParser {
+
+    /**
+     * A signaling NaN, which is never returned for a valid input.
+     */
+    static final long Invalid = 0x7FF0000000000001L;
+    private static final long Fallback = 0x7FF0000000000002L;
+
+    private static final long InfinityBits = 0x7FF0000000000000L;
+    private static final int MaxDigits = 19;
+    private static final int MaxExponent = 100_000;
+    private static final int SmallestPowerOfTen = -342;
+    private static final int LargestPowerOfTen = 308;
+
+    private static final double[] PowersOfTen = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long[] PowersOfFive = powersOfFive();
+
+    private DoubleParser() {
+        throw new UnsupportedOperationException();
+    }
+
+    static long parse(CharSequence cs, int from, int to) {
+        while (from < to && cs.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && cs.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return Invalid;
+        }
+        int end = to;
+
+        int i = from;
+        boolean negative = false;
+        char c = cs.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        if (i < to) {
+            c = cs.charAt(i);
+            if (c == 'N' || c == 'I' || c == '0' && i + 1 < to && (cs.charAt(i + 1) | 0x20) == 'x') {
+                return fallback(cs.subSequence(from, end).toString());
+            }
+        }
+        int last = cs.charAt(to - 1) | 0x20;
+        if (last == 'd' || last == 'f') {
+            to--;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+        boolean anyDigits = false;
+
+        for (; i < to; i++) {
+            int digit = cs.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            anyDigits = true;
+            if (digits < MaxDigits) {
+                if (mantissa != 0 || digit != 0) {
+                    mantissa = mantissa * 10 + digit;
+                    digits++;
+                }
+            } else {
+                exponent++;
+                truncated |= digit != 0;
+            }
+        }
+        if (i < to && cs.charAt(i) == '.') {
+            for (i++; i < to; i++) {
+                int digit = cs.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                anyDigits = true;
+                if (digits < MaxDigits) {
+                    if (mantissa != 0 || digit != 0) {
+                        mantissa = mantissa * 10 + digit;
+                        digits++;
+                    }
+                    exponent--;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+        }
+        if (!anyDigits) {
+            return Invalid;
+        }
+
+        if (i < to && (cs.charAt(i) | 0x20) == 'e') {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && (cs.charAt(i) == '-' || cs.charAt(i) == '+')) {
+                negativeExponent = cs.charAt(i) == '-';
+                i++;
+            }
+            int start = i;
+            int explicit = 0;
+            for (; i < to; i++) {
+                int digit = cs.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (explicit < MaxExponent) {
+                    explicit = explicit * 10 + digit;
+                }
+            }
+            if (i == start) {
+                return Invalid;
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (i != to) {
+            return Invalid;
+        }
+
+        long bits = toBits(negative, mantissa, exponent, truncated);
+        return bits == Fallback ? fallback(cs.subSequence(from, end).toString()) : bits;
+    }
+
+    static long parse(byte[] bytes, int from, int to) {
+        while (from < to && (bytes[from] & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (bytes[to - 1] & 0xFF) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return Invalid;
+        }
+        int end = to;
+
+        int i = from;
+        boolean negative = false;
+        byte c = bytes[i];
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        if (i < to) {
+            c = bytes[i];
+            if (c == 'N' || c == 'I' || c == '0' && i + 1 < to && (bytes[i + 1] | 0x20) == 'x') {
+                return fallback(new String(bytes, from, end - from, StandardCharsets.ISO_8859_1));
+            }
+        }
+        int last = bytes[to - 1] | 0x20;
+        if (last == 'd' || last == 'f') {
+            to--;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+        boolean anyDigits = false;
+
+        for (; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            anyDigits = true;
+            if (digits < MaxDigits) {
+                if (mantissa != 0 || digit != 0) {
+                    mantissa = mantissa * 10 + digit;
+                    digits++;
+                }
+            } else {
+                exponent++;
+                truncated |= digit != 0;
+            }
+        }
+        if (i < to && bytes[i] == '.') {
+            for (i++; i < to; i++) {
+                int digit = bytes[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                anyDigits = true;
+                if (digits < MaxDigits) {
+                    if (mantissa != 0 || digit != 0) {
+                        mantissa = mantissa * 10 + digit;
+                        digits++;
+                    }
+                    exponent--;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+        }
+        if (!anyDigits) {
+            return Invalid;
+        }
+
+        if (i < to && (bytes[i] | 0x20) == 'e') {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+            int start = i;
+            int explicit = 0;
+            for (; i < to; i++) {
+                int digit = bytes[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (explicit < MaxExponent) {
+                    explicit = explicit * 10 + digit;
+                }
+            }
+            if (i == start) {
+                return Invalid;
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (i != to) {
+            return Invalid;
+        }
+
+        long bits = toBits(negative, mantissa, exponent, truncated);
+        return bits == Fallback ? fallback(new String(bytes, from, end - from, StandardCharsets.ISO_8859_1)) : bits;
+    }
+
+    /**
+     * Converts {@code mantissa * 10^exponent} to the bits of the nearest double.
+     * The mantissa is unsigned, if {@code truncated} is set, the exact value lies between it and the next mantissa.
+     */
+    private static long toBits(boolean negative, long mantissa, int exponent, boolean truncated) {
+        long sign = negative ? Long.MIN_VALUE : 0;
+        if (mantissa == 0) {
+            return sign;
+        }
+
+        // Clinger: both the mantissa and the power of ten are exact, so a single operation rounds correctly
+        if (!truncated && exponent >= -22 && exponent <= 22 && mantissa >= 0 && mantissa <= 1L << 53) {
+            double value = exponent < 0
+                ? (double) mantissa / PowersOfTen[-exponent]
+                : (double) mantissa * PowersOfTen[exponent];
+            return Double.doubleToRawLongBits(value) | sign;
+        }
+
+        long bits = eiselLemire(mantissa, exponent);
+        if (bits == Fallback || truncated && bits != eiselLemire(mantissa + 1, exponent)) {
+            return Fallback;
+        }
+        return bits | sign;
+    }
+
+    private static long eiselLemire(long w, int q) {
+        if (q < SmallestPowerOfTen) {
+            return 0;
+        }
+        if (q > LargestPowerOfTen) {
+            return InfinityBits;
+        }
+
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+
+        int index = 2 * (q - SmallestPowerOfTen);
+        long high = unsignedMultiplyHigh(w, PowersOfFive[index]);
+        long low = w * PowersOfFive[index];
+        if ((high & 0x1FF) == 0x1FF) {
+            long secondHigh = unsignedMultiplyHigh(w, PowersOfFive[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+            if ((high & 0x1FF) == 0x1FF && low == -1) {
+                return Fallback;
+            }
+        }
+
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 9;
+        long mantissa = high >>> shift;
+        int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - lz + 1023;
+        if (power2 <= 0) {
+            return Fallback;
+        }
+
+        // Exactly halfway, round to even instead of up
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= -4 && q <= 23 && (mantissa & 3) == 1 && mantissa << shift == high) {
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= 1L << 53) {
+            mantissa = 1L << 52;
+            power2++;
+        }
+        mantissa &= ~(1L << 52);
+        if (power2 >= 0x7FF) {
+            return InfinityBits;
+        }
+        return (long) power2 << 52 | mantissa;
+    }
+
+    private static long fallback(String s) {
+        try {
+            return Double.doubleToRawLongBits(Double.parseDouble(s));
+        } catch (NumberFormatException e) {
+            return Invalid;
+        }
+    }
+
+    private static long unsignedMultiplyHigh(long a, long b) {
+        return Math.multiplyHigh(a, b) + (a >> 63 & b) + (b >> 63 & a);
+    }
+
+    /**
+     * The 128-bit approximations of 5^q for q in [-342, 308], normalized so the top bit is set.
+     * Positive powers are truncated, negative powers are rounded up.
+     */
+    private static long[] powersOfFive() {
+        long[] table = new long[2 * (LargestPowerOfTen - SmallestPowerOfTen + 1)];
+        BigInteger five = BigInteger.valueOf(5);
+        for (int q = SmallestPowerOfTen; q <= LargestPowerOfTen; q++) {
+            BigInteger value;
+            if (q < 0) {
+                BigInteger power = five.pow(-q);
+                int z = power.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+            } else {
+                value = five.pow(q).shiftLeft(128);
+            }
+            value = value.shiftRight(value.bitLength() - 128);
+
+            int index = 2 * (q - SmallestPowerOfTen);
+            table[index] = value.shiftRight(64).longValue();
+            table[index + 1] = value.longValue();
+        }
+        return table;
+    }
+
+}
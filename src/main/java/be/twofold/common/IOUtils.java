@@ -1,9 +1,23 @@
 package be.twofold.common;
 
+import be.twofold.common.seq.*;
+
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
 
 public final class IOUtils {
 
+    private static final int MappedRegionSize = 1 << 30;
+    private static final int BufferSize = 8192;
+
+    private static final Pool<byte[]> ByteArrays = new Pool<>(() -> new byte[BufferSize]);
+    private static final Pool<char[]> CharArrays = new Pool<>(() -> new char[BufferSize]);
+    private static final Pool<ByteBuffer> DirectBuffers = new Pool<>(() -> ByteBuffer.allocateDirect(BufferSize));
+
     private IOUtils() {
         throw new UnsupportedOperationException();
     }
@@ -16,6 +30,22 @@ public final class IOUtils {
             : new BufferedInputStream(input);
     }
 
+    /**
+     * Wraps the input in a {@link BufferedInputStream} with the given buffer size, unless it is one already.
+     *
+     * @param input The input to wrap
+     * @param size The size of the buffer
+     * @return The buffered input
+     */
+    public static BufferedInputStream buffered(InputStream input, int size) {
+        Check.notNull(input, "input");
+        Check.argument(size > 0, "size must be positive");
+
+        return input instanceof BufferedInputStream
+            ? (BufferedInputStream) input
+            : new BufferedInputStream(input, size);
+    }
+
     public static BufferedOutputStream buffered(OutputStream output) {
         Check.notNull(output, "output");
 
@@ -24,6 +54,22 @@ public final class IOUtils {
             : new BufferedOutputStream(output);
     }
 
+    /**
+     * Wraps the output in a {@link BufferedOutputStream} with the given buffer size, unless it is one already.
+     *
+     * @param output The output to wrap
+     * @param size The size of the buffer
+     * @return The buffered output
+     */
+    public static BufferedOutputStream buffered(OutputStream output, int size) {
+        Check.notNull(output, "output");
+        Check.argument(size > 0, "size must be positive");
+
+        return output instanceof BufferedOutputStream
+            ? (BufferedOutputStream) output
+            : new BufferedOutputStream(output, size);
+    }
+
     public static BufferedReader buffered(Reader reader) {
         Check.notNull(reader, "reader");
 
@@ -32,6 +78,22 @@ public final class IOUtils {
             : new BufferedReader(reader);
     }
 
+    /**
+     * Wraps the reader in a {@link BufferedReader} with the given buffer size, unless it is one already.
+     *
+     * @param reader The reader to wrap
+     * @param size The size of the buffer
+     * @return The buffered reader
+     */
+    public static BufferedReader buffered(Reader reader, int size) {
+        Check.notNull(reader, "reader");
+        Check.argument(size > 0, "size must be positive");
+
+        return reader instanceof BufferedReader
+            ? (BufferedReader) reader
+            : new BufferedReader(reader, size);
+    }
+
     public static BufferedWriter buffered(Writer writer) {
         Check.notNull(writer, "writer");
 
@@ -40,12 +102,63 @@ public final class IOUtils {
             : new BufferedWriter(writer);
     }
 
+    /**
+     * Wraps the writer in a {@link BufferedWriter} with the given buffer size, unless it is one already.
+     *
+     * @param writer The writer to wrap
+     * @param size The size of the buffer
+     * @return The buffered writer
+     */
+    public static BufferedWriter buffered(Writer writer, int size) {
+        Check.notNull(writer, "writer");
+        Check.argument(size > 0, "size must be positive");
+
+        return writer instanceof BufferedWriter
+            ? (BufferedWriter) writer
+            : new BufferedWriter(writer, size);
+    }
+
+    /**
+     * Copies all bytes from the input stream to the output stream.
+     * <p>
+     * If both streams are file streams, the bytes are transferred between their channels,
+     * without copying them through the Java heap. The positions of both streams are updated.
+     *
+     * @param input  The stream to read from
+     * @param output The stream to write to
+     * @return The number of bytes copied
+     */
     public static long copy(InputStream input, OutputStream output) throws IOException {
         Check.notNull(input, "input");
         Check.notNull(output, "output");
 
+        if (input instanceof FileInputStream && output instanceof FileOutputStream) {
+            return transfer(((FileInputStream) input).getChannel(), ((FileOutputStream) output).getChannel());
+        }
+
+        byte[] buffer = ByteArrays.borrow();
+        try {
+            return copy(input, output, buffer);
+        } finally {
+            ByteArrays.release(buffer);
+        }
+    }
+
+    /**
+     * Copies all bytes from the input stream to the output stream, using the given buffer.
+     *
+     * @param input  The stream to read from
+     * @param output The stream to write to
+     * @param buffer The buffer to copy through
+     * @return The number of bytes copied
+     */
+    public static long copy(InputStream input, OutputStream output, byte[] buffer) throws IOException {
+        Check.notNull(input, "input");
+        Check.notNull(output, "output");
+        Check.notNull(buffer, "buffer");
+        Check.argument(buffer.length > 0, "buffer is empty");
+
         long count = 0;
-        byte[] buffer = new byte[8192];
         while (true) {
             int read = input.read(buffer);
             if (read == -1) {
@@ -57,12 +170,104 @@ public final class IOUtils {
         return count;
     }
 
+    /**
+     * Copies all bytes from the input channel to the output channel.
+     * <p>
+     * If the input is a {@link FileChannel}, the bytes are transferred using {@link FileChannel#transferTo},
+     * which lets the operating system copy them directly. Otherwise, or when the size of the file is unknown,
+     * they are copied through a direct buffer.
+     *
+     * @param input  The channel to read from
+     * @param output The channel to write to
+     * @return The number of bytes copied
+     */
+    public static long copy(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        Check.notNull(input, "input");
+        Check.notNull(output, "output");
+
+        if (input instanceof FileChannel) {
+            return transfer((FileChannel) input, output);
+        }
+        return copyBuffered(input, output);
+    }
+
+    /**
+     * Copies all bytes from the input channel to the output channel, using the given buffer.
+     * The buffer is cleared before use.
+     *
+     * @param input  The channel to read from
+     * @param output The channel to write to
+     * @param buffer The buffer to copy through
+     * @return The number of bytes copied
+     */
+    public static long copy(ReadableByteChannel input, WritableByteChannel output, ByteBuffer buffer) throws IOException {
+        Check.notNull(input, "input");
+        Check.notNull(output, "output");
+        Check.notNull(buffer, "buffer");
+        Check.argument(buffer.capacity() > 0, "buffer is empty");
+
+        long count = 0;
+        buffer.clear();
+        while (input.read(buffer) != -1) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                count += output.write(buffer);
+            }
+            buffer.clear();
+        }
+        return count;
+    }
+
+    /**
+     * Copies a file, replacing the target if it exists.
+     * Like {@link Files#copy(Path, Path, CopyOption...)}, nothing is copied when both are the same file.
+     *
+     * @param source The file to read from
+     * @param target The file to write to
+     * @return The number of bytes copied
+     */
+    public static long copy(Path source, Path target) throws IOException {
+        Check.notNull(source, "source");
+        Check.notNull(target, "target");
+
+        // Opening the target truncates it, which would empty the source first
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            return 0;
+        }
+
+        try (FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel output = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return transfer(input, output);
+        }
+    }
+
     public static long copy(Reader reader, Writer writer) throws IOException {
         Check.notNull(reader, "reader");
         Check.notNull(writer, "writer");
 
+        char[] buffer = CharArrays.borrow();
+        try {
+            return copy(reader, writer, buffer);
+        } finally {
+            CharArrays.release(buffer);
+        }
+    }
+
+    /**
+     * Copies all chars from the reader to the writer, using the given buffer.
+     *
+     * @param reader The reader to read from
+     * @param writer The writer to write to
+     * @param buffer The buffer to copy through
+     * @return The number of chars copied
+     */
+    public static long copy(Reader reader, Writer writer, char[] buffer) throws IOException {
+        Check.notNull(reader, "reader");
+        Check.notNull(writer, "writer");
+        Check.notNull(buffer, "buffer");
+        Check.argument(buffer.length > 0, "buffer is empty");
+
         long count = 0;
-        char[] buffer = new char[8192];
         while (true) {
             int read = reader.read(buffer);
             if (read == -1) {
@@ -74,4 +279,230 @@ public final class IOUtils {
         return count;
     }
 
+    /**
+     * Returns a sequence of the lines in a file, read through a memory mapping.
+     * <p>
+     * Lines are terminated by {@code \n}, {@code \r} or {@code \r\n}, and don't include the terminator.
+     * Each line is a view over the mapped file, no String is created unless {@link CharSequence#toString()} is called.
+     * Each byte is mapped to one char, as in ISO-8859-1, so this is meant for ASCII content, like most log files.
+     * <p>
+     * The file is opened each time the sequence is iterated. I/O errors are thrown as {@link UncheckedIOException}.
+     *
+     * @param path The file to read
+     * @return The sequence of lines
+     */
+    public static Seq<CharSequence> lines(Path path) {
+        Check.notNull(path, "path");
+
+        return () -> new LineIterator(path);
+    }
+
+    /**
+     * Returns a sequence of fixed size records in a file, read through a memory mapping.
+     * <p>
+     * Each record is a read-only {@link ByteBuffer} slice of the mapped file.
+     * If the size of the file is not a multiple of {@code recordSize}, the last record is shorter.
+     * <p>
+     * The file is opened each time the sequence is iterated. I/O errors are thrown as {@link UncheckedIOException}.
+     *
+     * @param path       The file to read
+     * @param recordSize The size of each record in bytes
+     * @return The sequence of records
+     */
+    public static Seq<ByteBuffer> records(Path path, int recordSize) {
+        Check.notNull(path, "path");
+        Check.argument(recordSize > 0 && recordSize <= MappedRegionSize, "recordSize out of range");
+
+        return () -> new RecordIterator(path, recordSize);
+    }
+
+    private static long transfer(FileChannel input, WritableByteChannel output) throws IOException {
+        long position;
+        long size;
+        try {
+            position = input.position();
+            size = input.size();
+        } catch (IOException e) {
+            // Not seekable, like a pipe
+            return copyBuffered(input, output);
+        }
+
+        long count = 0;
+        if (size > position) {
+            long remaining = size - position;
+            while (count < remaining) {
+                long transferred = input.transferTo(position + count, remaining - count, output);
+                if (transferred <= 0) {
+                    break;
+                }
+                count += transferred;
+            }
+            input.position(position + count);
+        }
+
+        // Files like the ones in /proc report a size of 0, and files can be shorter or longer than reported
+        return count + copyBuffered(input, output);
+    }
+
+    private static long copyBuffered(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        ByteBuffer buffer = DirectBuffers.borrow();
+        try {
+            return copy(input, output, buffer);
+        } finally {
+            DirectBuffers.release(buffer);
+        }
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer map(Path path, long position, long size) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Keeps one buffer per thread. A buffer is taken out while in use,
+     * so a nested copy on the same thread gets a fresh one instead of sharing it.
+     */
+    private static final class Pool<T> {
+        private final ThreadLocal<T> cache = new ThreadLocal<>();
+        private final Supplier<T> factory;
+
+        private Pool(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        private T borrow() {
+            T value = cache.get();
+            if (value == null) {
+                return factory.get();
+            }
+            cache.set(null);
+            return value;
+        }
+
+        private void release(T value) {
+            cache.set(value);
+        }
+    }
+
+    private static final class LineIterator implements Iterator<CharSequence> {
+        private final Path path;
+        private final long fileSize;
+        private ByteBuffer buffer;
+        private long bufferStart;
+        private int position;
+        private CharSequence next;
+
+        private LineIterator(Path path) {
+            this.path = path;
+            this.fileSize = size(path);
+            this.buffer = map(path, 0, Math.min(fileSize, MappedRegionSize));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CharSequence result = next;
+            next = null;
+            return result;
+        }
+
+        private CharSequence advance() {
+            while (true) {
+                int limit = buffer.limit();
+                boolean lastRegion = bufferStart + limit == fileSize;
+                for (int i = position; i < limit; i++) {
+                    byte b = buffer.get(i);
+                    if (b != '\n' && b != '\r') {
+                        continue;
+                    }
+                    if (b == '\r' && i + 1 == limit && !lastRegion) {
+                        break;
+                    }
+
+                    CharSequence line = new ByteCharSequence(buffer, position, i - position);
+                    position = b == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n' ? i + 2 : i + 1;
+                    return line;
+                }
+
+                if (lastRegion) {
+                    if (position == limit) {
+                        return null;
+                    }
+                    CharSequence line = new ByteCharSequence(buffer, position, limit - position);
+                    position = limit;
+                    return line;
+                }
+                if (position == 0) {
+                    throw new UncheckedIOException(new IOException("Line longer than " + MappedRegionSize + " bytes"));
+                }
+
+                // The line continues past this region, map the next region starting at the line
+                bufferStart += position;
+                buffer = map(path, bufferStart, Math.min(fileSize - bufferStart, MappedRegionSize));
+                position = 0;
+            }
+        }
+    }
+
+    private static final class RecordIterator implements Iterator<ByteBuffer> {
+        private final Path path;
+        private final long fileSize;
+        private final int recordSize;
+        private final int regionSize;
+        private ByteBuffer buffer;
+        private long bufferStart;
+        private int position;
+
+        private RecordIterator(Path path, int recordSize) {
+            this.path = path;
+            this.fileSize = size(path);
+            this.recordSize = recordSize;
+            this.regionSize = MappedRegionSize / recordSize * recordSize;
+            this.buffer = map(path, 0, Math.min(fileSize, regionSize));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return bufferStart + position < fileSize;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (position == buffer.limit()) {
+                bufferStart += position;
+                buffer = map(path, bufferStart, Math.min(fileSize - bufferStart, regionSize));
+                position = 0;
+            }
+
+            int length = Math.min(recordSize, buffer.limit() - position);
+            ByteBuffer record = buffer.duplicate().position(position).limit(position + length).slice();
+            position += length;
+            return record.asReadOnlyBuffer();
+        }
+    }
+
 }
@@ -1,5 +1,8 @@
 package be.twofold.common;
 
+import be.twofold.common.tuple.*;
+
+import java.io.*;
 import java.util.*;
 
 public final class NumberUtils {
@@ -10,81 +13,148 @@ public final class NumberUtils {
 
     // region max
 
+    // For the integral types, the range versions keep four independent accumulators with branch-free Math.max
+    // and Math.min, so there is no single long dependency chain, and no mispredicted branches on sorted input.
+    // Float and double keep a plain comparison: NaN is ignored unless it's the first element,
+    // and the first of two equal values wins, which Math.max and Math.min don't do for NaN and zeros.
+
     public static byte max(byte... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        byte max = array[0];
-        for (int i = 1; i < array.length; i++) {
-            if (array[i] > max) {
-                max = array[i];
-            }
-        }
+        return max(array, 0, array.length);
+    }
 
-        return max;
+    public static byte max(byte[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        int max0 = array[fromIndex];
+        int max1 = max0;
+        int max2 = max0;
+        int max3 = max0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            max0 = Math.max(max0, array[i]);
+            max1 = Math.max(max1, array[i + 1]);
+            max2 = Math.max(max2, array[i + 2]);
+            max3 = Math.max(max3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            max0 = Math.max(max0, array[i]);
+        }
+        return (byte) Math.max(Math.max(max0, max1), Math.max(max2, max3));
     }
 
     public static short max(short... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        short max = array[0];
-        for (int i = 1; i < array.length; i++) {
-            if (array[i] > max) {
-                max = array[i];
-            }
-        }
+        return max(array, 0, array.length);
+    }
 
-        return max;
+    public static short max(short[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        int max0 = array[fromIndex];
+        int max1 = max0;
+        int max2 = max0;
+        int max3 = max0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            max0 = Math.max(max0, array[i]);
+            max1 = Math.max(max1, array[i + 1]);
+            max2 = Math.max(max2, array[i + 2]);
+            max3 = Math.max(max3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            max0 = Math.max(max0, array[i]);
+        }
+        return (short) Math.max(Math.max(max0, max1), Math.max(max2, max3));
     }
 
     public static int max(int... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        int max = array[0];
-        for (int i = 1; i < array.length; i++) {
-            if (array[i] > max) {
-                max = array[i];
-            }
-        }
+        return max(array, 0, array.length);
+    }
 
-        return max;
+    public static int max(int[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        int max0 = array[fromIndex];
+        int max1 = max0;
+        int max2 = max0;
+        int max3 = max0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            max0 = Math.max(max0, array[i]);
+            max1 = Math.max(max1, array[i + 1]);
+            max2 = Math.max(max2, array[i + 2]);
+            max3 = Math.max(max3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            max0 = Math.max(max0, array[i]);
+        }
+        return Math.max(Math.max(max0, max1), Math.max(max2, max3));
     }
 
     public static long max(long... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        long max = array[0];
-        for (int i = 1; i < array.length; i++) {
-            if (array[i] > max) {
-                max = array[i];
-            }
-        }
+        return max(array, 0, array.length);
+    }
 
-        return max;
+    public static long max(long[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        long max0 = array[fromIndex];
+        long max1 = max0;
+        long max2 = max0;
+        long max3 = max0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            max0 = Math.max(max0, array[i]);
+            max1 = Math.max(max1, array[i + 1]);
+            max2 = Math.max(max2, array[i + 2]);
+            max3 = Math.max(max3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            max0 = Math.max(max0, array[i]);
+        }
+        return Math.max(Math.max(max0, max1), Math.max(max2, max3));
     }
 
     public static float max(float... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        float max = array[0];
-        for (int i = 1; i < array.length; i++) {
+        return max(array, 0, array.length);
+    }
+
+    public static float max(float[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        float max = array[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
             if (array[i] > max) {
                 max = array[i];
             }
         }
-
         return max;
     }
 
     public static double max(double... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        double max = array[0];
-        for (int i = 1; i < array.length; i++) {
+        return max(array, 0, array.length);
+    }
+
+    public static double max(double[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        double max = array[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
             if (array[i] > max) {
                 max = array[i];
             }
         }
-
         return max;
     }
 
@@ -95,120 +165,1055 @@ public final class NumberUtils {
     public static byte min(byte... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        byte min = array[0];
-        for (int i = 1; i < array.length; i++) {
-            if (array[i] < min) {
-                min = array[i];
-            }
-        }
+        return min(array, 0, array.length);
+    }
 
-        return min;
+    public static byte min(byte[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        int min0 = array[fromIndex];
+        int min1 = min0;
+        int min2 = min0;
+        int min3 = min0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            min0 = Math.min(min0, array[i]);
+            min1 = Math.min(min1, array[i + 1]);
+            min2 = Math.min(min2, array[i + 2]);
+            min3 = Math.min(min3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            min0 = Math.min(min0, array[i]);
+        }
+        return (byte) Math.min(Math.min(min0, min1), Math.min(min2, min3));
     }
 
     public static short min(short... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        short min = array[0];
-        for (int i = 1; i < array.length; i++) {
-            if (array[i] < min) {
-                min = array[i];
-            }
-        }
+        return min(array, 0, array.length);
+    }
 
-        return min;
+    public static short min(short[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        int min0 = array[fromIndex];
+        int min1 = min0;
+        int min2 = min0;
+        int min3 = min0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            min0 = Math.min(min0, array[i]);
+            min1 = Math.min(min1, array[i + 1]);
+            min2 = Math.min(min2, array[i + 2]);
+            min3 = Math.min(min3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            min0 = Math.min(min0, array[i]);
+        }
+        return (short) Math.min(Math.min(min0, min1), Math.min(min2, min3));
     }
 
     public static int min(int... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        int min = array[0];
-        for (int i = 1; i < array.length; i++) {
-            if (array[i] < min) {
-                min = array[i];
-            }
-        }
+        return min(array, 0, array.length);
+    }
 
-        return min;
+    public static int min(int[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        int min0 = array[fromIndex];
+        int min1 = min0;
+        int min2 = min0;
+        int min3 = min0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            min0 = Math.min(min0, array[i]);
+            min1 = Math.min(min1, array[i + 1]);
+            min2 = Math.min(min2, array[i + 2]);
+            min3 = Math.min(min3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            min0 = Math.min(min0, array[i]);
+        }
+        return Math.min(Math.min(min0, min1), Math.min(min2, min3));
     }
 
     public static long min(long... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        long min = array[0];
-        for (int i = 1; i < array.length; i++) {
-            if (array[i] < min) {
-                min = array[i];
-            }
-        }
+        return min(array, 0, array.length);
+    }
 
-        return min;
+    public static long min(long[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        long min0 = array[fromIndex];
+        long min1 = min0;
+        long min2 = min0;
+        long min3 = min0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            min0 = Math.min(min0, array[i]);
+            min1 = Math.min(min1, array[i + 1]);
+            min2 = Math.min(min2, array[i + 2]);
+            min3 = Math.min(min3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            min0 = Math.min(min0, array[i]);
+        }
+        return Math.min(Math.min(min0, min1), Math.min(min2, min3));
     }
 
     public static float min(float... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        float min = array[0];
-        for (int i = 1; i < array.length; i++) {
+        return min(array, 0, array.length);
+    }
+
+    public static float min(float[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        float min = array[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
             if (array[i] < min) {
                 min = array[i];
             }
         }
-
         return min;
     }
 
     public static double min(double... array) {
         Check.argument(array.length > 0, "array is empty");
 
-        double min = array[0];
-        for (int i = 1; i < array.length; i++) {
+        return min(array, 0, array.length);
+    }
+
+    public static double min(double[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        double min = array[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
             if (array[i] < min) {
                 min = array[i];
             }
         }
-
         return min;
     }
 
     // endregion
 
+    // region minMax
+
+    /**
+     * Returns the minimum and maximum of the elements, in a single pass.
+     * The result is the same as calling {@link #min(int...)} and {@link #max(int...)}.
+     *
+     * @param array The elements
+     * @return The minimum as the first value, and the maximum as the second value
+     */
+    public static IntPair minMax(int... array) {
+        Check.argument(array.length > 0, "array is empty");
+
+        return minMax(array, 0, array.length);
+    }
+
+    /**
+     * Returns the minimum and maximum of a range of elements, in a single pass.
+     * The result is the same as calling {@link #min(int[], int, int)} and {@link #max(int[], int, int)}.
+     *
+     * @param array     The elements
+     * @param fromIndex The index of the first element
+     * @param toIndex   The index after the last element
+     * @return The minimum as the first value, and the maximum as the second value
+     */
+    public static IntPair minMax(int[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        int min0 = array[fromIndex];
+        int max0 = min0;
+        int min1 = min0;
+        int max1 = min0;
+        int min2 = min0;
+        int max2 = min0;
+        int min3 = min0;
+        int max3 = min0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            min0 = Math.min(min0, array[i]);
+            max0 = Math.max(max0, array[i]);
+            min1 = Math.min(min1, array[i + 1]);
+            max1 = Math.max(max1, array[i + 1]);
+            min2 = Math.min(min2, array[i + 2]);
+            max2 = Math.max(max2, array[i + 2]);
+            min3 = Math.min(min3, array[i + 3]);
+            max3 = Math.max(max3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            min0 = Math.min(min0, array[i]);
+            max0 = Math.max(max0, array[i]);
+        }
+        return IntPair.of(
+            Math.min(Math.min(min0, min1), Math.min(min2, min3)),
+            Math.max(Math.max(max0, max1), Math.max(max2, max3))
+        );
+    }
+
+    /**
+     * Returns the minimum and maximum of the elements, in a single pass.
+     * The result is the same as calling {@link #min(long...)} and {@link #max(long...)}.
+     *
+     * @param array The elements
+     * @return The minimum as the first value, and the maximum as the second value
+     */
+    public static LongPair minMax(long... array) {
+        Check.argument(array.length > 0, "array is empty");
+
+        return minMax(array, 0, array.length);
+    }
+
+    /**
+     * Returns the minimum and maximum of a range of elements, in a single pass.
+     * The result is the same as calling {@link #min(long[], int, int)} and {@link #max(long[], int, int)}.
+     *
+     * @param array     The elements
+     * @param fromIndex The index of the first element
+     * @param toIndex   The index after the last element
+     * @return The minimum as the first value, and the maximum as the second value
+     */
+    public static LongPair minMax(long[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        long min0 = array[fromIndex];
+        long max0 = min0;
+        long min1 = min0;
+        long max1 = min0;
+        long min2 = min0;
+        long max2 = min0;
+        long min3 = min0;
+        long max3 = min0;
+        int i = fromIndex + 1;
+        for (; i <= toIndex - 4; i += 4) {
+            min0 = Math.min(min0, array[i]);
+            max0 = Math.max(max0, array[i]);
+            min1 = Math.min(min1, array[i + 1]);
+            max1 = Math.max(max1, array[i + 1]);
+            min2 = Math.min(min2, array[i + 2]);
+            max2 = Math.max(max2, array[i + 2]);
+            min3 = Math.min(min3, array[i + 3]);
+            max3 = Math.max(max3, array[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            min0 = Math.min(min0, array[i]);
+            max0 = Math.max(max0, array[i]);
+        }
+        return LongPair.of(
+            Math.min(Math.min(min0, min1), Math.min(min2, min3)),
+            Math.max(Math.max(max0, max1), Math.max(max2, max3))
+        );
+    }
+
+    /**
+     * Returns the minimum and maximum of the elements, in a single pass.
+     * The result is the same as calling {@link #min(float...)} and {@link #max(float...)}.
+     *
+     * @param array The elements
+     * @return The minimum as the first value, and the maximum as the second value
+     */
+    public static DoublePair minMax(float... array) {
+        Check.argument(array.length > 0, "array is empty");
+
+        return minMax(array, 0, array.length);
+    }
+
+    /**
+     * Returns the minimum and maximum of a range of elements, in a single pass.
+     * The result is the same as calling {@link #min(float[], int, int)} and {@link #max(float[], int, int)}.
+     *
+     * @param array     The elements
+     * @param fromIndex The index of the first element
+     * @param toIndex   The index after the last element
+     * @return The minimum as the first value, and the maximum as the second value
+     */
+    public static DoublePair minMax(float[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        float min = array[fromIndex];
+        float max = min;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            float value = array[i];
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+        return DoublePair.of(min, max);
+    }
+
+    /**
+     * Returns the minimum and maximum of the elements, in a single pass.
+     * The result is the same as calling {@link #min(double...)} and {@link #max(double...)}.
+     *
+     * @param array The elements
+     * @return The minimum as the first value, and the maximum as the second value
+     */
+    public static DoublePair minMax(double... array) {
+        Check.argument(array.length > 0, "array is empty");
+
+        return minMax(array, 0, array.length);
+    }
+
+    /**
+     * Returns the minimum and maximum of a range of elements, in a single pass.
+     * The result is the same as calling {@link #min(double[], int, int)} and {@link #max(double[], int, int)}.
+     *
+     * @param array     The elements
+     * @param fromIndex The index of the first element
+     * @param toIndex   The index after the last element
+     * @return The minimum as the first value, and the maximum as the second value
+     */
+    public static DoublePair minMax(double[] array, int fromIndex, int toIndex) {
+        checkNotEmpty(array.length, fromIndex, toIndex);
+
+        double min = array[fromIndex];
+        double max = min;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            double value = array[i];
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+        return DoublePair.of(min, max);
+    }
+
+    private static void checkNotEmpty(int length, int fromIndex, int toIndex) {
+        Check.fromToIndex(fromIndex, toIndex, length);
+        Check.argument(fromIndex < toIndex, "range is empty");
+    }
+
+    // endregion
+
     // region tryParse
 
     public static OptionalInt tryParseInt(String s) {
         if (s == null) {
             return OptionalInt.empty();
         }
+        return tryParseInt(s, 0, s.length(), 10);
+    }
 
-        try {
-            return OptionalInt.of(Integer.parseInt(s));
-        } catch (NumberFormatException e) {
-            return OptionalInt.empty();
-        }
+    /**
+     * Parses a decimal int from a range of a char sequence, without throwing on invalid input.
+     *
+     * @param cs   The sequence to parse
+     * @param from The index of the first char
+     * @param to   The index after the last char
+     * @return The value, or an empty optional if the range is not a valid int
+     */
+    public static OptionalInt tryParseInt(CharSequence cs, int from, int to) {
+        return tryParseInt(cs, from, to, 10);
+    }
+
+    /**
+     * Parses an int in the given radix from a range of a char sequence, without throwing on invalid input.
+     * The accepted format is the same as for {@link Integer#parseInt(String, int)}.
+     *
+     * @param cs    The sequence to parse
+     * @param from  The index of the first char
+     * @param to    The index after the last char
+     * @param radix The radix to use
+     * @return The value, or an empty optional if the range is not a valid int
+     */
+    public static OptionalInt tryParseInt(CharSequence cs, int from, int to, int radix) {
+        long value = parseInt(cs, from, to, radix);
+        return value == InvalidInt ? OptionalInt.empty() : OptionalInt.of((int) value);
+    }
+
+    /**
+     * Parses a decimal int from a range of ASCII bytes, without throwing on invalid input.
+     *
+     * @param bytes The bytes to parse
+     * @param from  The index of the first byte
+     * @param to    The index after the last byte
+     * @return The value, or an empty optional if the range is not a valid int
+     */
+    public static OptionalInt tryParseInt(byte[] bytes, int from, int to) {
+        return tryParseInt(bytes, from, to, 10);
+    }
+
+    /**
+     * Parses an int in the given radix from a range of ASCII bytes, without throwing on invalid input.
+     *
+     * @param bytes The bytes to parse
+     * @param from  The index of the first byte
+     * @param to    The index after the last byte
+     * @param radix The radix to use
+     * @return The value, or an empty optional if the range is not a valid int
+     */
+    public static OptionalInt tryParseInt(byte[] bytes, int from, int to, int radix) {
+        long value = parseInt(bytes, from, to, radix);
+        return value == InvalidInt ? OptionalInt.empty() : OptionalInt.of((int) value);
+    }
+
+    /**
+     * Parses an int in the given radix from a range of a char sequence,
+     * returning {@code defaultValue} on invalid input. Nothing is allocated.
+     *
+     * @param cs           The sequence to parse
+     * @param from         The index of the first char
+     * @param to           The index after the last char
+     * @param radix        The radix to use
+     * @param defaultValue The value to return if the range is not a valid int
+     * @return The value, or {@code defaultValue}
+     */
+    public static int parseInt(CharSequence cs, int from, int to, int radix, int defaultValue) {
+        long value = parseInt(cs, from, to, radix);
+        return value == InvalidInt ? defaultValue : (int) value;
+    }
+
+    /**
+     * Parses an int in the given radix from a range of ASCII bytes,
+     * returning {@code defaultValue} on invalid input. Nothing is allocated.
+     *
+     * @param bytes        The bytes to parse
+     * @param from         The index of the first byte
+     * @param to           The index after the last byte
+     * @param radix        The radix to use
+     * @param defaultValue The value to return if the range is not a valid int
+     * @return The value, or {@code defaultValue}
+     */
+    public static int parseInt(byte[] bytes, int from, int to, int radix, int defaultValue) {
+        long value = parseInt(bytes, from, to, radix);
+        return value == InvalidInt ? defaultValue : (int) value;
     }
 
     public static OptionalLong tryParseLong(String s) {
         if (s == null) {
             return OptionalLong.empty();
         }
+        return tryParseLong(s, 0, s.length(), 10);
+    }
 
-        try {
-            return OptionalLong.of(Long.parseLong(s));
-        } catch (NumberFormatException e) {
+    /**
+     * Parses a decimal long from a range of a char sequence, without throwing on invalid input.
+     *
+     * @param cs   The sequence to parse
+     * @param from The index of the first char
+     * @param to   The index after the last char
+     * @return The value, or an empty optional if the range is not a valid long
+     */
+    public static OptionalLong tryParseLong(CharSequence cs, int from, int to) {
+        return tryParseLong(cs, from, to, 10);
+    }
+
+    /**
+     * Parses a long in the given radix from a range of a char sequence, without throwing on invalid input.
+     * The accepted format is the same as for {@link Long#parseLong(String, int)}.
+     *
+     * @param cs    The sequence to parse
+     * @param from  The index of the first char
+     * @param to    The index after the last char
+     * @param radix The radix to use
+     * @return The value, or an empty optional if the range is not a valid long
+     */
+    public static OptionalLong tryParseLong(CharSequence cs, int from, int to, int radix) {
+        long value = parseLong(cs, from, to, radix, InvalidLong);
+        if (value == InvalidLong && parseLong(cs, from, to, radix, 0) != InvalidLong) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(value);
+    }
+
+    /**
+     * Parses a decimal long from a range of ASCII bytes, without throwing on invalid input.
+     *
+     * @param bytes The bytes to parse
+     * @param from  The index of the first byte
+     * @param to    The index after the last byte
+     * @return The value, or an empty optional if the range is not a valid long
+     */
+    public static OptionalLong tryParseLong(byte[] bytes, int from, int to) {
+        return tryParseLong(bytes, from, to, 10);
+    }
+
+    /**
+     * Parses a long in the given radix from a range of ASCII bytes, without throwing on invalid input.
+     *
+     * @param bytes The bytes to parse
+     * @param from  The index of the first byte
+     * @param to    The index after the last byte
+     * @param radix The radix to use
+     * @return The value, or an empty optional if the range is not a valid long
+     */
+    public static OptionalLong tryParseLong(byte[] bytes, int from, int to, int radix) {
+        long value = parseLong(bytes, from, to, radix, InvalidLong);
+        if (value == InvalidLong && parseLong(bytes, from, to, radix, 0) != InvalidLong) {
             return OptionalLong.empty();
         }
+        return OptionalLong.of(value);
     }
 
+    /**
+     * Parses a long in the given radix from a range of a char sequence,
+     * returning {@code defaultValue} on invalid input. Nothing is allocated.
+     *
+     * @param cs           The sequence to parse
+     * @param from         The index of the first char
+     * @param to           The index after the last char
+     * @param radix        The radix to use
+     * @param defaultValue The value to return if the range is not a valid long
+     * @return The value, or {@code defaultValue}
+     */
+    public static long parseLong(CharSequence cs, int from, int to, int radix, long defaultValue) {
+        int start = checkAndSkipSign(cs.length(), from, to, radix, from < to ? cs.charAt(from) : 0);
+        boolean negative = start > from && cs.charAt(from) == '-';
+        long value = accumulate(cs, start, to, radix, negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+        return value == Invalid ? defaultValue : negative ? value : -value;
+    }
+
+    /**
+     * Parses a long in the given radix from a range of ASCII bytes,
+     * returning {@code defaultValue} on invalid input. Nothing is allocated.
+     *
+     * @param bytes        The bytes to parse
+     * @param from         The index of the first byte
+     * @param to           The index after the last byte
+     * @param radix        The radix to use
+     * @param defaultValue The value to return if the range is not a valid long
+     * @return The value, or {@code defaultValue}
+     */
+    public static long parseLong(byte[] bytes, int from, int to, int radix, long defaultValue) {
+        int start = checkAndSkipSign(bytes.length, from, to, radix, from < to ? bytes[from] : 0);
+        boolean negative = start > from && bytes[from] == '-';
+        long value = accumulate(bytes, start, to, radix, negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+        return value == Invalid ? defaultValue : negative ? value : -value;
+    }
+
+    /**
+     * Parses a double from a string, without throwing on invalid input.
+     * The accepted format and the result are the same as for {@link Double#parseDouble(String)}.
+     *
+     * @param s The string to parse
+     * @return The value, or an empty optional if the string is not a valid double
+     */
     public static OptionalDouble tryParseDouble(String s) {
         if (s == null) {
             return OptionalDouble.empty();
         }
+        return tryParseDouble(s, 0, s.length());
+    }
+
+    /**
+     * Parses a double from a range of a char sequence, without throwing on invalid input.
+     * The accepted format and the result are the same as for {@link Double#parseDouble(String)}.
+     * <p>
+     * Decimal input is converted without allocating, only hexadecimal input, {@code NaN}, {@code Infinity}
+     * and some rare inputs that need more than 64 bits of precision fall back to {@link Double#parseDouble(String)}.
+     *
+     * @param cs   The sequence to parse
+     * @param from The index of the first char
+     * @param to   The index after the last char
+     * @return The value, or an empty optional if the range is not a valid double
+     */
+    public static OptionalDouble tryParseDouble(CharSequence cs, int from, int to) {
+        Check.fromToIndex(from, to, cs.length());
+        long bits = DoubleParser.parse(cs, from, to);
+        return bits == DoubleParser.Invalid ? OptionalDouble.empty() : OptionalDouble.of(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Parses a double from a range of ASCII bytes, without throwing on invalid input.
+     * The accepted format and the result are the same as for {@link Double#parseDouble(String)}.
+     *
+     * @param bytes The bytes to parse
+     * @param from  The index of the first byte
+     * @param to    The index after the last byte
+     * @return The value, or an empty optional if the range is not a valid double
+     */
+    public static OptionalDouble tryParseDouble(byte[] bytes, int from, int to) {
+        Check.fromToIndex(from, to, bytes.length);
+        long bits = DoubleParser.parse(bytes, from, to);
+        return bits == DoubleParser.Invalid ? OptionalDouble.empty() : OptionalDouble.of(Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Parses a double from a range of a char sequence, returning {@code defaultValue} on invalid input.
+     *
+     * @param cs           The sequence to parse
+     * @param from         The index of the first char
+     * @param to           The index after the last char
+     * @param defaultValue The value to return if the range is not a valid double
+     * @return The value, or {@code defaultValue}
+     */
+    public static double parseDouble(CharSequence cs, int from, int to, double defaultValue) {
+        Check.fromToIndex(from, to, cs.length());
+        long bits = DoubleParser.parse(cs, from, to);
+        return bits == DoubleParser.Invalid ? defaultValue : Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses a double from a range of ASCII bytes, returning {@code defaultValue} on invalid input.
+     *
+     * @param bytes        The bytes to parse
+     * @param from         The index of the first byte
+     * @param to           The index after the last byte
+     * @param defaultValue The value to return if the range is not a valid double
+     * @return The value, or {@code defaultValue}
+     */
+    public static double parseDouble(byte[] bytes, int from, int to, double defaultValue) {
+        Check.fromToIndex(from, to, bytes.length);
+        long bits = DoubleParser.parse(bytes, from, to);
+        return bits == DoubleParser.Invalid ? defaultValue : Double.longBitsToDouble(bits);
+    }
+
+    // Sign and digits are parsed like Long.parseLong: the magnitude is accumulated as a negative number,
+    // so the most negative value doesn't overflow. Invalid input returns a positive sentinel instead of throwing.
+
+    private static final long Invalid = 1;
+    private static final long InvalidInt = Long.MIN_VALUE;
+
+    // Every long is a valid result, so a try-parse that gets this back parses again with another default to be sure
+    private static final long InvalidLong = Long.MIN_VALUE;
+
+    private static long parseInt(CharSequence cs, int from, int to, int radix) {
+        int start = checkAndSkipSign(cs.length(), from, to, radix, from < to ? cs.charAt(from) : 0);
+        boolean negative = start > from && cs.charAt(from) == '-';
+        long value = accumulate(cs, start, to, radix, negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE);
+        return value == Invalid ? InvalidInt : negative ? value : -value;
+    }
+
+    private static long parseInt(byte[] bytes, int from, int to, int radix) {
+        int start = checkAndSkipSign(bytes.length, from, to, radix, from < to ? bytes[from] : 0);
+        boolean negative = start > from && bytes[from] == '-';
+        long value = accumulate(bytes, start, to, radix, negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE);
+        return value == Invalid ? InvalidInt : negative ? value : -value;
+    }
+
+    private static int checkAndSkipSign(int length, int from, int to, int radix, int first) {
+        Check.fromToIndex(from, to, length);
+        Check.argument(radix >= Character.MIN_RADIX && radix <= Character.MAX_RADIX, "radix out of range");
+
+        return first == '-' || first == '+' ? from + 1 : from;
+    }
+
+    private static long accumulate(CharSequence cs, int from, int to, int radix, long limit) {
+        if (from >= to) {
+            return Invalid;
+        }
 
+        long multiplyLimit = limit / radix;
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = Character.digit(cs.charAt(i), radix);
+            if (digit < 0 || result < multiplyLimit) {
+                return Invalid;
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return Invalid;
+            }
+            result -= digit;
+        }
+        return result;
+    }
+
+    private static long accumulate(byte[] bytes, int from, int to, int radix, long limit) {
+        if (from >= to) {
+            return Invalid;
+        }
+
+        long multiplyLimit = limit / radix;
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = asciiDigit(bytes[i], radix);
+            if (digit < 0 || result < multiplyLimit) {
+                return Invalid;
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return Invalid;
+            }
+            result -= digit;
+        }
+        return result;
+    }
+
+    private static int asciiDigit(int c, int radix) {
+        int digit;
+        if (c >= '0' && c <= '9') {
+            digit = c - '0';
+        } else if (c >= 'a' && c <= 'z') {
+            digit = c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'Z') {
+            digit = c - 'A' + 10;
+        } else {
+            return -1;
+        }
+        return digit < radix ? digit : -1;
+    }
+
+    // endregion
+
+    // region write
+
+    private static final byte[] DigitPairs = digitPairs();
+    private static final long[] PowersOfTen = powersOfTen();
+    private static final int MaxDoubleLength = 24;
+    private static final long MaxPlainDouble = 10_000_000;
+
+    /**
+     * Returns the number of chars in the decimal representation of an int, including the sign.
+     *
+     * @param value The value
+     * @return The length of {@code Integer.toString(value)}
+     */
+    public static int stringLength(int value) {
+        return digitCount(Math.abs((long) value)) + (value >>> 31);
+    }
+
+    /**
+     * Returns the number of chars in the decimal representation of a long, including the sign.
+     *
+     * @param value The value
+     * @return The length of {@code Long.toString(value)}
+     */
+    public static int stringLength(long value) {
+        if (value == Long.MIN_VALUE) {
+            return 20;
+        }
+        return digitCount(Math.abs(value)) + (int) (value >>> 63);
+    }
+
+    /**
+     * Writes the decimal representation of an int as ASCII bytes.
+     * The output is the same as {@link Integer#toString(int)}.
+     *
+     * @param value  The value to write
+     * @param dst    The destination array
+     * @param offset The index of the first byte to write
+     * @return The index after the last written byte
+     */
+    public static int writeTo(int value, byte[] dst, int offset) {
+        int end = offset + stringLength(value);
+        Check.fromToIndex(offset, end, dst.length);
+
+        int negative = value < 0 ? value : -value;
+        int pos = end;
+        while (negative <= -100) {
+            int quotient = negative / 100;
+            int pair = (quotient * 100 - negative) * 2;
+            negative = quotient;
+            dst[--pos] = DigitPairs[pair + 1];
+            dst[--pos] = DigitPairs[pair];
+        }
+        if (negative <= -10) {
+            dst[--pos] = DigitPairs[-negative * 2 + 1];
+            dst[--pos] = DigitPairs[-negative * 2];
+        } else {
+            dst[--pos] = (byte) ('0' - negative);
+        }
+        if (value < 0) {
+            dst[--pos] = '-';
+        }
+        return end;
+    }
+
+    /**
+     * Writes the decimal representation of an int as chars.
+     * The output is the same as {@link Integer#toString(int)}.
+     *
+     * @param value  The value to write
+     * @param dst    The destination array
+     * @param offset The index of the first char to write
+     * @return The index after the last written char
+     */
+    public static int writeTo(int value, char[] dst, int offset) {
+        int end = offset + stringLength(value);
+        Check.fromToIndex(offset, end, dst.length);
+
+        int negative = value < 0 ? value : -value;
+        int pos = end;
+        while (negative <= -100) {
+            int quotient = negative / 100;
+            int pair = (quotient * 100 - negative) * 2;
+            negative = quotient;
+            dst[--pos] = (char) DigitPairs[pair + 1];
+            dst[--pos] = (char) DigitPairs[pair];
+        }
+        if (negative <= -10) {
+            dst[--pos] = (char) DigitPairs[-negative * 2 + 1];
+            dst[--pos] = (char) DigitPairs[-negative * 2];
+        } else {
+            dst[--pos] = (char) ('0' - negative);
+        }
+        if (value < 0) {
+            dst[--pos] = '-';
+        }
+        return end;
+    }
+
+    /**
+     * Writes the decimal representation of a long as ASCII bytes.
+     * The output is the same as {@link Long#toString(long)}.
+     *
+     * @param value  The value to write
+     * @param dst    The destination array
+     * @param offset The index of the first byte to write
+     * @return The index after the last written byte
+     */
+    public static int writeTo(long value, byte[] dst, int offset) {
+        if (value == (int) value) {
+            return writeTo((int) value, dst, offset);
+        }
+        int end = offset + stringLength(value);
+        Check.fromToIndex(offset, end, dst.length);
+
+        // Divide in longs until the rest fits in an int, which divides faster
+        long negative = value < 0 ? value : -value;
+        int pos = end;
+        while (negative < Integer.MIN_VALUE) {
+            long quotient = negative / 100;
+            int pair = (int) (quotient * 100 - negative) * 2;
+            negative = quotient;
+            dst[--pos] = DigitPairs[pair + 1];
+            dst[--pos] = DigitPairs[pair];
+        }
+        int rest = (int) negative;
+        while (rest <= -100) {
+            int quotient = rest / 100;
+            int pair = (quotient * 100 - rest) * 2;
+            rest = quotient;
+            dst[--pos] = DigitPairs[pair + 1];
+            dst[--pos] = DigitPairs[pair];
+        }
+        if (rest <= -10) {
+            dst[--pos] = DigitPairs[-rest * 2 + 1];
+            dst[--pos] = DigitPairs[-rest * 2];
+        } else {
+            dst[--pos] = (byte) ('0' - rest);
+        }
+        if (value < 0) {
+            dst[--pos] = '-';
+        }
+        return end;
+    }
+
+    /**
+     * Writes the decimal representation of a long as chars.
+     * The output is the same as {@link Long#toString(long)}.
+     *
+     * @param value  The value to write
+     * @param dst    The destination array
+     * @param offset The index of the first char to write
+     * @return The index after the last written char
+     */
+    public static int writeTo(long value, char[] dst, int offset) {
+        if (value == (int) value) {
+            return writeTo((int) value, dst, offset);
+        }
+        int end = offset + stringLength(value);
+        Check.fromToIndex(offset, end, dst.length);
+
+        long negative = value < 0 ? value : -value;
+        int pos = end;
+        while (negative < Integer.MIN_VALUE) {
+            long quotient = negative / 100;
+            int pair = (int) (quotient * 100 - negative) * 2;
+            negative = quotient;
+            dst[--pos] = (char) DigitPairs[pair + 1];
+            dst[--pos] = (char) DigitPairs[pair];
+        }
+        int rest = (int) negative;
+        while (rest <= -100) {
+            int quotient = rest / 100;
+            int pair = (quotient * 100 - rest) * 2;
+            rest = quotient;
+            dst[--pos] = (char) DigitPairs[pair + 1];
+            dst[--pos] = (char) DigitPairs[pair];
+        }
+        if (rest <= -10) {
+            dst[--pos] = (char) DigitPairs[-rest * 2 + 1];
+            dst[--pos] = (char) DigitPairs[-rest * 2];
+        } else {
+            dst[--pos] = (char) ('0' - rest);
+        }
+        if (value < 0) {
+            dst[--pos] = '-';
+        }
+        return end;
+    }
+
+    /**
+     * Writes the representation of a double as ASCII bytes.
+     * The output is the same as {@link Double#toString(double)}.
+     * <p>
+     * Integral values below 10<sup>7</sup> are written directly, other values go through {@link Double#toString(double)}.
+     *
+     * @param value  The value to write
+     * @param dst    The destination array
+     * @param offset The index of the first byte to write
+     * @return The index after the last written byte
+     */
+    public static int writeTo(double value, byte[] dst, int offset) {
+        long integral = (long) value;
+        if (isPlainIntegral(value, integral)) {
+            int end = offset + stringLength(integral) + 2;
+            Check.fromToIndex(offset, end, dst.length);
+            int pos = writeTo(integral, dst, offset);
+            dst[pos] = '.';
+            dst[pos + 1] = '0';
+            return end;
+        }
+
+        String s = Double.toString(value);
+        int end = offset + s.length();
+        Check.fromToIndex(offset, end, dst.length);
+        for (int i = 0, pos = offset; pos < end; i++, pos++) {
+            dst[pos] = (byte) s.charAt(i);
+        }
+        return end;
+    }
+
+    /**
+     * Writes the representation of a double as chars.
+     * The output is the same as {@link Double#toString(double)}.
+     * <p>
+     * Integral values below 10<sup>7</sup> are written directly, other values go through {@link Double#toString(double)}.
+     *
+     * @param value  The value to write
+     * @param dst    The destination array
+     * @param offset The index of the first char to write
+     * @return The index after the last written char
+     */
+    public static int writeTo(double value, char[] dst, int offset) {
+        long integral = (long) value;
+        if (isPlainIntegral(value, integral)) {
+            int end = offset + stringLength(integral) + 2;
+            Check.fromToIndex(offset, end, dst.length);
+            int pos = writeTo(integral, dst, offset);
+            dst[pos] = '.';
+            dst[pos + 1] = '0';
+            return end;
+        }
+
+        String s = Double.toString(value);
+        int end = offset + s.length();
+        Check.fromToIndex(offset, end, dst.length);
+        s.getChars(0, s.length(), dst, offset);
+        return end;
+    }
+
+    /**
+     * Appends the decimal representation of an int.
+     * The output is the same as {@link Integer#toString(int)}.
+     *
+     * @param value      The value to append
+     * @param appendable The destination
+     * @param <A>        The type of the destination
+     * @return The destination
+     * @throws UncheckedIOException If the destination throws an {@link IOException}
+     */
+    public static <A extends Appendable> A appendTo(int value, A appendable) {
+        Check.notNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(value);
+            return appendable;
+        }
+        char[] buffer = new char[11];
+        return append(appendable, buffer, writeTo(value, buffer, 0));
+    }
+
+    /**
+     * Appends the decimal representation of a long.
+     * The output is the same as {@link Long#toString(long)}.
+     *
+     * @param value      The value to append
+     * @param appendable The destination
+     * @param <A>        The type of the destination
+     * @return The destination
+     * @throws UncheckedIOException If the destination throws an {@link IOException}
+     */
+    public static <A extends Appendable> A appendTo(long value, A appendable) {
+        Check.notNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(value);
+            return appendable;
+        }
+        char[] buffer = new char[20];
+        return append(appendable, buffer, writeTo(value, buffer, 0));
+    }
+
+    /**
+     * Appends the representation of a double.
+     * The output is the same as {@link Double#toString(double)}.
+     *
+     * @param value      The value to append
+     * @param appendable The destination
+     * @param <A>        The type of the destination
+     * @return The destination
+     * @throws UncheckedIOException If the destination throws an {@link IOException}
+     */
+    public static <A extends Appendable> A appendTo(double value, A appendable) {
+        Check.notNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(value);
+            return appendable;
+        }
+        char[] buffer = new char[MaxDoubleLength];
+        return append(appendable, buffer, writeTo(value, buffer, 0));
+    }
+
+    private static <A extends Appendable> A append(A appendable, char[] buffer, int length) {
         try {
-            return OptionalDouble.of(Double.parseDouble(s));
-        } catch (NumberFormatException e) {
-            return OptionalDouble.empty();
+            for (int i = 0; i < length; i++) {
+                appendable.append(buffer[i]);
+            }
+            return appendable;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Double.toString writes integral values below 10^7 as the integer followed by ".0",
+     * except for negative zero, which (long) would turn into a positive one.
+     */
+    private static boolean isPlainIntegral(double value, long integral) {
+        return integral == value
+            && integral > -MaxPlainDouble && integral < MaxPlainDouble
+            && (integral != 0 || Double.doubleToRawLongBits(value) == 0);
+    }
+
+    /**
+     * The bit length gives an estimate of the digit count that is at most one too low, which one comparison fixes.
+     */
+    private static int digitCount(long magnitude) {
+        int estimate = (64 - Long.numberOfLeadingZeros(magnitude | 1)) * 1233 >>> 12;
+        return (magnitude | 1) >= PowersOfTen[estimate] ? estimate + 1 : estimate;
+    }
+
+    private static long[] powersOfTen() {
+        long[] powers = new long[19];
+        powers[0] = 1;
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 10;
+        }
+        return powers;
+    }
 
+    private static byte[] digitPairs() {
+        byte[] pairs = new byte[200];
+        for (int i = 0; i < 100; i++) {
+            pairs[i * 2] = (byte) ('0' + i / 10);
+            pairs[i * 2 + 1] = (byte) ('0' + i % 10);
         }
+        return pairs;
     }
 
     // endregion
@@ -0,0 +1,176 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.*;
+
+import java.util.*;
+
+/**
+ * A growable list of primitive {@code byte} values, backed by a single array.
+ * <p>
+ * Meant for building up binary data, {@link #array()} gives access to the backing array without copying.
+ * The list is not thread-safe.
+ */
+public final class ByteList {
+
+    private byte[] array;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public ByteList() {
+        this(Lists.DefaultCapacity);
+    }
+
+    /**
+     * Creates an empty list that holds {@code capacity} values without growing.
+     *
+     * @param capacity The initial capacity
+     */
+    public ByteList(int capacity) {
+        this.array = new byte[Lists.checkCapacity(capacity)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public byte get(int index) {
+        Check.index(index, size);
+        return array[index];
+    }
+
+    /**
+     * Replaces the value at the index.
+     *
+     * @param index The index
+     * @param value The new value
+     * @return The old value
+     */
+    public byte set(int index, byte value) {
+        Check.index(index, size);
+        byte oldValue = array[index];
+        array[index] = value;
+        return oldValue;
+    }
+
+    public void add(byte value) {
+        if (size == array.length) {
+            array = Arrays.copyOf(array, Lists.grow(array.length, size + 1));
+        }
+        array[size++] = value;
+    }
+
+    public void addAll(byte[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Appends the values from {@code fromIndex} to {@code toIndex} with a single copy.
+     *
+     * @param values    The values to add
+     * @param fromIndex The index of the first value, inclusive
+     * @param toIndex   The index of the last value, exclusive
+     */
+    public void addAll(byte[] values, int fromIndex, int toIndex) {
+        Check.fromToIndex(fromIndex, toIndex, values.length);
+
+        int length = toIndex - fromIndex;
+        ensureCapacity(size + length);
+        System.arraycopy(values, fromIndex, array, size, length);
+        size += length;
+    }
+
+    public void addAll(ByteList values) {
+        Check.notNull(values, "values");
+        addAll(values.array, 0, values.size);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean contains(byte value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(byte value) {
+        return ArrayUtils.indexOf(array, 0, size, value);
+    }
+
+    public int lastIndexOf(byte value) {
+        return ArrayUtils.lastIndexOf(array, 0, size, value);
+    }
+
+    /**
+     * Makes sure the list holds at least {@code minCapacity} values without growing.
+     *
+     * @param minCapacity The minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            array = Arrays.copyOf(array, Lists.grow(array.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the size of the list.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            array = Arrays.copyOf(array, size);
+        }
+    }
+
+    public void sort() {
+        Arrays.sort(array, 0, size);
+    }
+
+    public void sortDescending() {
+        ArrayUtils.sortDescending(array, 0, size);
+    }
+
+    public void reverse() {
+        ArrayUtils.reverse(array, 0, size);
+    }
+
+    /**
+     * Returns the backing array, without copying. Only the first {@link #size()} values are part of the list.
+     * <p>
+     * Writes to the array are visible in the list, until it grows and replaces the array.
+     */
+    public byte[] array() {
+        return array;
+    }
+
+    /**
+     * Returns a copy of the values in the list.
+     */
+    public byte[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ByteList)) return false;
+
+        ByteList other = (ByteList) obj;
+        return ArrayUtils.equals(array, 0, size, other.array, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        return ArrayUtils.hashCode(array, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return ArrayUtils.toString(array, 0, size);
+    }
+
+}
@@ -0,0 +1,214 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.*;
+import be.twofold.common.seq.*;
+
+import java.util.*;
+
+/**
+ * A growable list of primitive {@code double} values, backed by a single array.
+ * <p>
+ * The list is itself an {@link DoubleSeq}, so it can be used directly as the source of a sequence.
+ * {@link #array()} gives access to the backing array without copying.
+ * The list is not thread-safe, and should not be iterated while it's modified.
+ */
+public final class DoubleList implements DoubleSeq {
+
+    private double[] array;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public DoubleList() {
+        this(Lists.DefaultCapacity);
+    }
+
+    /**
+     * Creates an empty list that holds {@code capacity} values without growing.
+     *
+     * @param capacity The initial capacity
+     */
+    public DoubleList(int capacity) {
+        this.array = new double[Lists.checkCapacity(capacity)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double get(int index) {
+        Check.index(index, size);
+        return array[index];
+    }
+
+    /**
+     * Replaces the value at the index.
+     *
+     * @param index The index
+     * @param value The new value
+     * @return The old value
+     */
+    public double set(int index, double value) {
+        Check.index(index, size);
+        double oldValue = array[index];
+        array[index] = value;
+        return oldValue;
+    }
+
+    public void add(double value) {
+        if (size == array.length) {
+            array = Arrays.copyOf(array, Lists.grow(array.length, size + 1));
+        }
+        array[size++] = value;
+    }
+
+    public void addAll(double[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Appends the values from {@code fromIndex} to {@code toIndex} with a single copy.
+     *
+     * @param values    The values to add
+     * @param fromIndex The index of the first value, inclusive
+     * @param toIndex   The index of the last value, exclusive
+     */
+    public void addAll(double[] values, int fromIndex, int toIndex) {
+        Check.fromToIndex(fromIndex, toIndex, values.length);
+
+        int length = toIndex - fromIndex;
+        ensureCapacity(size + length);
+        System.arraycopy(values, fromIndex, array, size, length);
+        size += length;
+    }
+
+    /**
+     * Appends all elements of the sequence. Another list is copied in one go.
+     *
+     * @param values The values to add
+     */
+    public void addAll(DoubleSeq values) {
+        Check.notNull(values, "values");
+
+        if (values instanceof DoubleList) {
+            DoubleList list = (DoubleList) values;
+            addAll(list.array, 0, list.size);
+        } else {
+            values.forEach(this::add);
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(double value) {
+        return ArrayUtils.indexOf(array, 0, size, value);
+    }
+
+    public int lastIndexOf(double value) {
+        return ArrayUtils.lastIndexOf(array, 0, size, value);
+    }
+
+    /**
+     * Makes sure the list holds at least {@code minCapacity} values without growing.
+     *
+     * @param minCapacity The minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            array = Arrays.copyOf(array, Lists.grow(array.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the size of the list.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            array = Arrays.copyOf(array, size);
+        }
+    }
+
+    public void sort() {
+        Arrays.sort(array, 0, size);
+    }
+
+    public void sortDescending() {
+        ArrayUtils.sortDescending(array, 0, size);
+    }
+
+    public void reverse() {
+        ArrayUtils.reverse(array, 0, size);
+    }
+
+    /**
+     * Returns the backing array, without copying. Only the first {@link #size()} values are part of the list.
+     * <p>
+     * Writes to the array are visible in the list, until it grows and replaces the array.
+     */
+    public double[] array() {
+        return array;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public int count() {
+        return size;
+    }
+
+    @Override
+    public double[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof DoubleList)) return false;
+
+        DoubleList other = (DoubleList) obj;
+        return ArrayUtils.equals(array, 0, size, other.array, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        return ArrayUtils.hashCode(array, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return ArrayUtils.toString(array, 0, size);
+    }
+
+    private final class Itr implements PrimitiveIterator.OfDouble {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return array[index++];
+        }
+    }
+
+}
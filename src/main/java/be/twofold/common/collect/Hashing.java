@@ -0,0 +1,70 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.*;
+
+/**
+ * Shared sizing and hashing for the open-addressing collections.
+ * <p>
+ * All of them use linear probing over a power-of-two table, with {@code 0} marking a free slot.
+ * The key {@code 0} itself is stored outside the table. Keys are scrambled before masking,
+ * so sequential ids don't end up in one long run of occupied slots.
+ */
+final class Hashing {
+
+    static final int DefaultExpectedSize = 16;
+    static final int MaxCapacity = 1 << 30;
+
+    private static final float LoadFactor = 0.75f;
+
+    private Hashing() {
+        throw new UnsupportedOperationException();
+    }
+
+    static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ hash >>> 16;
+    }
+
+    static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    /**
+     * Returns the table capacity needed to hold {@code expectedSize} keys without growing.
+     */
+    static int capacity(int expectedSize) {
+        Check.argument(expectedSize >= 0, "expectedSize must be non-negative");
+
+        long needed = (long) Math.ceil(expectedSize / (double) LoadFactor);
+        if (needed >= MaxCapacity) {
+            return MaxCapacity;
+        }
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    /**
+     * Returns the number of keys in the table that triggers a resize, always leaving one slot free.
+     */
+    static int maxFill(int capacity) {
+        return Math.min(capacity - 1, (int) Math.ceil(capacity * LoadFactor));
+    }
+
+    static int grow(int capacity) {
+        if (capacity == MaxCapacity) {
+            throw new IllegalStateException("Hash table is full, can't grow past " + MaxCapacity + " slots");
+        }
+        return capacity * 2;
+    }
+
+    /**
+     * Returns whether the key in slot {@code pos}, with home slot {@code home}, may move to the free slot {@code free}.
+     * That's the case unless its home lies cyclically in {@code (free, pos]}.
+     */
+    static boolean canShift(int free, int home, int pos) {
+        return free <= pos
+            ? free >= home || home > pos
+            : free >= home && home > pos;
+    }
+
+}
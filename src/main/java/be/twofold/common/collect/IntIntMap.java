@@ -0,0 +1,330 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.*;
+import be.twofold.common.seq.*;
+import be.twofold.common.tuple.*;
+
+import java.util.*;
+
+/**
+ * A map from primitive {@code int} keys to primitive {@code int} values, using open addressing with linear probing.
+ * <p>
+ * Keys and values are stored in two parallel arrays, so there is no boxing and no node per entry.
+ * The map is not thread-safe, and the sequences it returns should not be iterated while it's modified.
+ */
+public final class IntIntMap {
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int maxFill;
+    private int size;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntIntMap() {
+        this(Hashing.DefaultExpectedSize);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} entries without resizing.
+     *
+     * @param expectedSize The expected number of entries
+     */
+    public IntIntMap(int expectedSize) {
+        allocate(Hashing.capacity(expectedSize));
+    }
+
+    public int size() {
+        return hasZeroKey ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the value for the key, or {@code defaultValue} if the map doesn't contain the key.
+     *
+     * @param key          The key
+     * @param defaultValue The value to return if the key is not in the map
+     * @return The value, or {@code defaultValue}
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int index = find(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    /**
+     * Associates the value with the key.
+     *
+     * @param key   The key
+     * @param value The value
+     */
+    public void put(int key, int value) {
+        if (key == 0) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+
+        int index = Hashing.mix(key) & mask;
+        for (int k; (k = keys[index]) != 0; index = (index + 1) & mask) {
+            if (k == key) {
+                values[index] = value;
+                return;
+            }
+        }
+        insert(index, key, value);
+    }
+
+    /**
+     * Adds {@code delta} to the value for the key, where a missing key counts as {@code 0}.
+     * Meant for counting, without a separate lookup and store.
+     *
+     * @param key   The key
+     * @param delta The value to add
+     * @return The new value
+     */
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            zeroValue = hasZeroKey ? zeroValue + delta : delta;
+            hasZeroKey = true;
+            return zeroValue;
+        }
+
+        int index = Hashing.mix(key) & mask;
+        for (int k; (k = keys[index]) != 0; index = (index + 1) & mask) {
+            if (k == key) {
+                return values[index] += delta;
+            }
+        }
+        insert(index, key, delta);
+        return delta;
+    }
+
+    /**
+     * Removes the key from the map.
+     *
+     * @param key The key
+     * @return {@code true} if the map contained the key
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            boolean removed = hasZeroKey;
+            hasZeroKey = false;
+            zeroValue = 0;
+            return removed;
+        }
+
+        int index = find(key);
+        if (index < 0) {
+            return false;
+        }
+        shiftKeys(index);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = 0;
+    }
+
+    /**
+     * Returns the keys of the map, in no particular order.
+     */
+    public IntSeq keys() {
+        return () -> new KeyIterator();
+    }
+
+    /**
+     * Returns the values of the map, in the same order as {@link #keys()}.
+     */
+    public IntSeq values() {
+        return () -> new ValueIterator();
+    }
+
+    /**
+     * Returns the entries of the map, in the same order as {@link #keys()}.
+     */
+    public Seq<IntPair> entries() {
+        return EntryIterator::new;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof IntIntMap)) return false;
+
+        IntIntMap other = (IntIntMap) obj;
+        if (size() != other.size()) {
+            return false;
+        }
+        for (EntryIterator it = new EntryIterator(); it.hasNext(); ) {
+            int index = it.nextIndex();
+            int key = it.key(index);
+            if (!other.containsKey(key) || it.value(index) != other.getOrDefault(key, 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (EntryIterator it = new EntryIterator(); it.hasNext(); ) {
+            int index = it.nextIndex();
+            result += Integer.hashCode(it.key(index)) ^ Integer.hashCode(it.value(index));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (EntryIterator it = new EntryIterator(); it.hasNext(); ) {
+            int index = it.nextIndex();
+            joiner.add(it.key(index) + "=" + it.value(index));
+        }
+        return joiner.toString();
+    }
+
+    private int find(int key) {
+        int index = Hashing.mix(key) & mask;
+        for (int k; (k = keys[index]) != 0; index = (index + 1) & mask) {
+            if (k == key) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(int index, int key, int value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > maxFill) {
+            rehash(Hashing.grow(keys.length));
+        }
+    }
+
+    /**
+     * Closes the gap at {@code free} by moving back the entries after it, so no tombstones are needed.
+     */
+    private void shiftKeys(int free) {
+        int pos = free;
+        while (true) {
+            pos = (pos + 1) & mask;
+            int k = keys[pos];
+            if (k == 0) {
+                keys[free] = 0;
+                return;
+            }
+            if (Hashing.canShift(free, Hashing.mix(k) & mask, pos)) {
+                keys[free] = k;
+                values[free] = values[pos];
+                free = pos;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int index = Hashing.mix(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        maxFill = Hashing.maxFill(capacity);
+    }
+
+    /**
+     * Walks the zero key first, if present, then the occupied slots of the table.
+     * The zero key is reported as index {@code -1}.
+     */
+    private abstract class SlotIterator {
+        private int next = hasZeroKey ? -1 : advance(0);
+
+        private int advance(int index) {
+            while (index < keys.length && keys[index] == 0) {
+                index++;
+            }
+            return index;
+        }
+
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        int nextIndex() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int index = next;
+            next = advance(index + 1);
+            return index;
+        }
+
+        int key(int index) {
+            return index < 0 ? 0 : keys[index];
+        }
+
+        int value(int index) {
+            return index < 0 ? zeroValue : values[index];
+        }
+    }
+
+    private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+        @Override
+        public int nextInt() {
+            return key(nextIndex());
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+        @Override
+        public int nextInt() {
+            return value(nextIndex());
+        }
+    }
+
+    private final class EntryIterator extends SlotIterator implements Iterator<IntPair> {
+        @Override
+        public IntPair next() {
+            int index = nextIndex();
+            return IntPair.of(key(index), value(index));
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.*;
+
+/**
+ * Shared sizing for the growable primitive lists.
+ */
+final class Lists {
+
+    static final int DefaultCapacity = 10;
+
+    // Some VMs reserve header words in an array, so stay a bit below Integer.MAX_VALUE
+    private static final int MaxCapacity = Integer.MAX_VALUE - 8;
+
+    private Lists() {
+        throw new UnsupportedOperationException();
+    }
+
+    static int checkCapacity(int capacity) {
+        Check.argument(capacity >= 0, "capacity must be non-negative");
+        return capacity;
+    }
+
+    /**
+     * Returns the capacity to grow to, at least {@code minCapacity} and otherwise one and a half times the old one.
+     */
+    static int grow(int oldCapacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MaxCapacity) {
+            throw new OutOfMemoryError("Required list capacity too large: " + Integer.toUnsignedString(minCapacity));
+        }
+        long newCapacity = Math.max(DefaultCapacity, oldCapacity + (oldCapacity >> 1));
+        return (int) Math.min(MaxCapacity, Math.max(minCapacity, newCapacity));
+    }
+
+}
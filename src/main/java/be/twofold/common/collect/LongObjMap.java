@@ -0,0 +1,355 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.*;
+import be.twofold.common.seq.*;
+import be.twofold.common.tuple.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A map from primitive {@code long} keys to object values, using open addressing with linear probing.
+ * <p>
+ * Keys and values are stored in two parallel arrays, so there is no boxing and no node per entry.
+ * The map is not thread-safe, and the sequences it returns should not be iterated while it's modified.
+ *
+ * @param <V> The type of the values
+ */
+public final class LongObjMap<V> {
+
+    private long[] keys;
+    private V[] values;
+    private int mask;
+    private int maxFill;
+    private int size;
+
+    private boolean hasZeroKey;
+    private V zeroValue;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongObjMap() {
+        this(Hashing.DefaultExpectedSize);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} entries without resizing.
+     *
+     * @param expectedSize The expected number of entries
+     */
+    public LongObjMap(int expectedSize) {
+        allocate(Hashing.capacity(expectedSize));
+    }
+
+    public int size() {
+        return hasZeroKey ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the value for the key, or {@code null} if the map doesn't contain the key.
+     *
+     * @param key The key
+     * @return The value, or {@code null}
+     */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value for the key, or {@code defaultValue} if the map doesn't contain the key.
+     *
+     * @param key          The key
+     * @param defaultValue The value to return if the key is not in the map
+     * @return The value, or {@code defaultValue}
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int index = find(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    /**
+     * Associates the value with the key.
+     *
+     * @param key   The key
+     * @param value The value
+     * @return The previous value, or {@code null} if the map didn't contain the key
+     */
+    public V put(long key, V value) {
+        if (key == 0) {
+            V previous = zeroValue;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+
+        int index = Hashing.mix(key) & mask;
+        for (long k; (k = keys[index]) != 0; index = (index + 1) & mask) {
+            if (k == key) {
+                V previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+        }
+        insert(index, key, value);
+        return null;
+    }
+
+    /**
+     * Returns the value for the key, computing and storing it first if the map doesn't contain the key.
+     *
+     * @param key             The key
+     * @param mappingFunction The function to compute the value
+     * @return The current or computed value
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        Check.notNull(mappingFunction, "mappingFunction");
+
+        if (key == 0) {
+            if (!hasZeroKey) {
+                zeroValue = mappingFunction.apply(key);
+                hasZeroKey = true;
+            }
+            return zeroValue;
+        }
+
+        int index = Hashing.mix(key) & mask;
+        for (long k; (k = keys[index]) != 0; index = (index + 1) & mask) {
+            if (k == key) {
+                return values[index];
+            }
+        }
+        V value = mappingFunction.apply(key);
+        insert(index, key, value);
+        return value;
+    }
+
+    /**
+     * Removes the key from the map.
+     *
+     * @param key The key
+     * @return The removed value, or {@code null} if the map didn't contain the key
+     */
+    public V remove(long key) {
+        if (key == 0) {
+            V previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            return previous;
+        }
+
+        int index = find(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = values[index];
+        shiftKeys(index);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = null;
+    }
+
+    /**
+     * Returns the keys of the map, in no particular order.
+     */
+    public LongSeq keys() {
+        return () -> new KeyIterator();
+    }
+
+    /**
+     * Returns the values of the map, in the same order as {@link #keys()}.
+     */
+    public Seq<V> values() {
+        return ValueIterator::new;
+    }
+
+    /**
+     * Returns the entries of the map, in the same order as {@link #keys()}.
+     */
+    public Seq<LongObjPair<V>> entries() {
+        return EntryIterator::new;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof LongObjMap)) return false;
+
+        LongObjMap<?> other = (LongObjMap<?>) obj;
+        if (size() != other.size()) {
+            return false;
+        }
+        for (EntryIterator it = new EntryIterator(); it.hasNext(); ) {
+            int index = it.nextIndex();
+            long key = it.key(index);
+            if (!other.containsKey(key) || !Objects.equals(it.value(index), other.get(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (EntryIterator it = new EntryIterator(); it.hasNext(); ) {
+            int index = it.nextIndex();
+            result += Long.hashCode(it.key(index)) ^ Objects.hashCode(it.value(index));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (EntryIterator it = new EntryIterator(); it.hasNext(); ) {
+            int index = it.nextIndex();
+            joiner.add(it.key(index) + "=" + it.value(index));
+        }
+        return joiner.toString();
+    }
+
+    private int find(long key) {
+        int index = Hashing.mix(key) & mask;
+        for (long k; (k = keys[index]) != 0; index = (index + 1) & mask) {
+            if (k == key) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(int index, long key, V value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > maxFill) {
+            rehash(Hashing.grow(keys.length));
+        }
+    }
+
+    /**
+     * Closes the gap at {@code free} by moving back the entries after it, so no tombstones are needed.
+     */
+    private void shiftKeys(int free) {
+        int pos = free;
+        while (true) {
+            pos = (pos + 1) & mask;
+            long k = keys[pos];
+            if (k == 0) {
+                keys[free] = 0;
+                values[free] = null;
+                return;
+            }
+            if (Hashing.canShift(free, Hashing.mix(k) & mask, pos)) {
+                keys[free] = k;
+                values[free] = values[pos];
+                free = pos;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        V[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int index = Hashing.mix(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = (V[]) new Object[capacity];
+        mask = capacity - 1;
+        maxFill = Hashing.maxFill(capacity);
+    }
+
+    /**
+     * Walks the zero key first, if present, then the occupied slots of the table.
+     * The zero key is reported as index {@code -1}.
+     */
+    private abstract class SlotIterator {
+        private int next = hasZeroKey ? -1 : advance(0);
+
+        private int advance(int index) {
+            while (index < keys.length && keys[index] == 0) {
+                index++;
+            }
+            return index;
+        }
+
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        int nextIndex() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int index = next;
+            next = advance(index + 1);
+            return index;
+        }
+
+        long key(int index) {
+            return index < 0 ? 0 : keys[index];
+        }
+
+        V value(int index) {
+            return index < 0 ? zeroValue : values[index];
+        }
+    }
+
+    private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfLong {
+        @Override
+        public long nextLong() {
+            return key(nextIndex());
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator implements Iterator<V> {
+        @Override
+        public V next() {
+            return value(nextIndex());
+        }
+    }
+
+    private final class EntryIterator extends SlotIterator implements Iterator<LongObjPair<V>> {
+        @Override
+        public LongObjPair<V> next() {
+            int index = nextIndex();
+            return LongObjPair.of(key(index), value(index));
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.seq.*;
+
+import java.util.*;
+
+/**
+ * A set of primitive {@code long} values, using open addressing with linear probing.
+ * <p>
+ * The values are stored in a single array, so there is no boxing and no node per element.
+ * The set is itself an {@link LongSeq}, iterating the values in no particular order.
+ * The set is not thread-safe, and should not be iterated while it's modified.
+ */
+public final class LongSet implements LongSeq {
+
+    private long[] keys;
+    private int mask;
+    private int maxFill;
+    private int size;
+
+    private boolean hasZeroKey;
+
+    /**
+     * Creates an empty set.
+     */
+    public LongSet() {
+        this(Hashing.DefaultExpectedSize);
+    }
+
+    /**
+     * Creates an empty set that holds {@code expectedSize} values without resizing.
+     *
+     * @param expectedSize The expected number of values
+     */
+    public LongSet(int expectedSize) {
+        allocate(Hashing.capacity(expectedSize));
+    }
+
+    public int size() {
+        return hasZeroKey ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return hasZeroKey;
+        }
+        return find(value) >= 0;
+    }
+
+    /**
+     * Adds the value to the set.
+     *
+     * @param value The value
+     * @return {@code true} if the set didn't contain the value yet
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            boolean added = !hasZeroKey;
+            hasZeroKey = true;
+            return added;
+        }
+
+        int index = Hashing.mix(value) & mask;
+        for (long k; (k = keys[index]) != 0; index = (index + 1) & mask) {
+            if (k == value) {
+                return false;
+            }
+        }
+        keys[index] = value;
+        if (++size > maxFill) {
+            rehash(Hashing.grow(keys.length));
+        }
+        return true;
+    }
+
+    /**
+     * Removes the value from the set.
+     *
+     * @param value The value
+     * @return {@code true} if the set contained the value
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            boolean removed = hasZeroKey;
+            hasZeroKey = false;
+            return removed;
+        }
+
+        int index = find(value);
+        if (index < 0) {
+            return false;
+        }
+        shiftKeys(index);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        hasZeroKey = false;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new KeyIterator();
+    }
+
+    @Override
+    public int count() {
+        return size();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof LongSet)) return false;
+
+        LongSet other = (LongSet) obj;
+        if (size() != other.size()) {
+            return false;
+        }
+        for (PrimitiveIterator.OfLong it = iterator(); it.hasNext(); ) {
+            if (!other.contains(it.nextLong())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (PrimitiveIterator.OfLong it = iterator(); it.hasNext(); ) {
+            result += Long.hashCode(it.nextLong());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (PrimitiveIterator.OfLong it = iterator(); it.hasNext(); ) {
+            joiner.add(String.valueOf(it.nextLong()));
+        }
+        return joiner.toString();
+    }
+
+    private int find(long value) {
+        int index = Hashing.mix(value) & mask;
+        for (long k; (k = keys[index]) != 0; index = (index + 1) & mask) {
+            if (k == value) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Closes the gap at {@code free} by moving back the values after it, so no tombstones are needed.
+     */
+    private void shiftKeys(int free) {
+        int pos = free;
+        while (true) {
+            pos = (pos + 1) & mask;
+            long k = keys[pos];
+            if (k == 0) {
+                keys[free] = 0;
+                return;
+            }
+            if (Hashing.canShift(free, Hashing.mix(k) & mask, pos)) {
+                keys[free] = k;
+                free = pos;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        allocate(capacity);
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int index = Hashing.mix(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        maxFill = Hashing.maxFill(capacity);
+    }
+
+    /**
+     * Returns the zero value first, if present, then the occupied slots of the table.
+     */
+    private final class KeyIterator implements PrimitiveIterator.OfLong {
+        private boolean zero = hasZeroKey;
+        private int next = advance(0);
+
+        private int advance(int index) {
+            while (index < keys.length && keys[index] == 0) {
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return zero || next < keys.length;
+        }
+
+        @Override
+        public long nextLong() {
+            if (zero) {
+                zero = false;
+                return 0L;
+            }
+            if (next >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            int index = next;
+            next = advance(index + 1);
+            return keys[index];
+        }
+    }
+
+}
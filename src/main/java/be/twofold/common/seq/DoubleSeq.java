@@ -0,0 +1,216 @@
+package be.twofold.common.seq;
+
+import be.twofold.common.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A sequence of primitive {@code double} values, the {@code double} specialization of {@link Seq}.
+ * <p>
+ * Unlike {@code Seq<Double>}, the elements are never boxed, unless asked for with {@link #boxed()}.
+ */
+@FunctionalInterface
+public interface DoubleSeq {
+
+    /**
+     * Creates a new empty DoubleSeq
+     *
+     * @return The new DoubleSeq
+     */
+    static DoubleSeq of() {
+        return SeqHelpers.EmptyDouble;
+    }
+
+    /**
+     * Creates a new DoubleSeq from the specified elements.
+     *
+     * @return The new DoubleSeq
+     */
+    static DoubleSeq of(double... elements) {
+        Check.notNull(elements, "elements is null");
+        if (elements.length == 0) {
+            return of();
+        }
+        return () -> new PrimitiveIterators.OfDoubleArray(elements, 0, elements.length);
+    }
+
+    PrimitiveIterator.OfDouble iterator();
+
+    /**
+     * Returns a sequence containing the boxed elements of this sequence.
+     *
+     * @return The new sequence.
+     */
+    default Seq<Double> boxed() {
+        return this::iterator;
+    }
+
+    /**
+     * Drops the first {@code count} elements of this sequence.
+     *
+     * @param count The number of elements to drop.
+     * @return The new sequence.
+     */
+    default DoubleSeq drop(int count) {
+        Check.argument(count >= 0, "Negative count");
+
+        if (count == 0) {
+            return this;
+        }
+        return () -> new PrimitiveIterators.DoubleDrop(iterator(), count);
+    }
+
+    /**
+     * Returns a sequence containing only the elements matching the given predicate.
+     *
+     * @param predicate The predicate to match.
+     * @return The new sequence.
+     */
+    default DoubleSeq filter(DoublePredicate predicate) {
+        Check.notNull(predicate, "predicate");
+
+        return () -> new PrimitiveIterators.DoubleFilter(iterator(), predicate);
+    }
+
+    /**
+     * Returns a sequence containing the results of applying the given function to each element of this sequence.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new sequence.
+     */
+    default DoubleSeq map(DoubleUnaryOperator mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return () -> new PrimitiveIterators.DoubleMap(iterator(), mapper);
+    }
+
+    /**
+     * Returns a sequence containing the results of applying the given function to each element of this sequence.
+     *
+     * @param mapper The function to apply to each element.
+     * @param <R>    The type of the elements of the new sequence.
+     * @return The new sequence.
+     */
+    default <R> Seq<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return () -> new PrimitiveIterators.DoubleMapToObj<>(iterator(), mapper);
+    }
+
+    /**
+     * Returns a sequence containing the first {@code count} elements.
+     *
+     * @param count The number of elements to take.
+     * @return The new sequence.
+     */
+    default DoubleSeq take(int count) {
+        Check.argument(count >= 0, "Negative count");
+
+        if (count == 0) {
+            return of();
+        }
+        return () -> new PrimitiveIterators.DoubleTake(iterator(), count);
+    }
+
+    /**
+     * Returns the average of the elements in the sequence.
+     */
+    default double average() {
+        DoubleSummaryStatistics summary = summary();
+        if (summary.getCount() == 0) {
+            throw new NoSuchElementException("Sequence contains no elements");
+        }
+        return summary.getAverage();
+    }
+
+    /**
+     * Returns the average of the elements in the sequence,
+     * or an empty {@link OptionalDouble} if the sequence is empty.
+     */
+    default OptionalDouble averageOptional() {
+        DoubleSummaryStatistics summary = summary();
+        if (summary.getCount() == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(summary.getAverage());
+    }
+
+    /**
+     * Returns the number of elements in the sequence.
+     */
+    default int count() {
+        PrimitiveIterator.OfDouble iterator = iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Accumulates the elements of the sequence into a single value.
+     *
+     * @param initial   The initial value.
+     * @param operation The operation to perform on each element.
+     * @return The accumulated value.
+     */
+    default double fold(double initial, DoubleBinaryOperator operation) {
+        Check.notNull(operation, "operation");
+
+        PrimitiveIterator.OfDouble iterator = iterator();
+        double accumulator = initial;
+        while (iterator.hasNext()) {
+            accumulator = operation.applyAsDouble(accumulator, iterator.nextDouble());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Perform the given action for each element in the sequence.
+     *
+     * @param action The action to be performed for each element
+     */
+    default void forEach(DoubleConsumer action) {
+        Check.notNull(action, "action");
+
+        PrimitiveIterator.OfDouble iterator = iterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.nextDouble());
+        }
+    }
+
+    /**
+     * Returns the sum of the elements in the sequence.
+     */
+    default double sum() {
+        return fold(0, Double::sum);
+    }
+
+    /**
+     * Returns the summary of the elements in the sequence.
+     */
+    default DoubleSummaryStatistics summary() {
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        forEach(statistics);
+        return statistics;
+    }
+
+    /**
+     * Returns an array containing the elements of the sequence.
+     */
+    default double[] toArray() {
+        PrimitiveIterator.OfDouble iterator = iterator();
+        double[] result = new double[16];
+        int size = 0;
+        while (iterator.hasNext()) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+            result[size++] = iterator.nextDouble();
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+}
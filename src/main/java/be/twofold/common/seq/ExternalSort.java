@@ -0,0 +1,300 @@
+package be.twofold.common.seq;
+
+import be.twofold.common.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Sorts a sequence that doesn't fit in memory, see {@link Seq#sortedExternal(Comparator, Serializer, int, Path)}.
+ * <p>
+ * The source is cut into runs of at most {@code maxRunSize} elements, each run is sorted and written to a temporary file.
+ * The runs are then merged lazily, with a priority queue holding the head of every run.
+ * When there are more than {@link #MergeWidth} runs, groups of runs are merged into bigger runs first,
+ * so the number of open files stays bounded.
+ * <p>
+ * Equal elements are taken from the earliest run first, so the sort is stable.
+ */
+final class ExternalSort<T> implements Seq<T>, Seqs.Sized {
+
+    static final int MergeWidth = 64;
+    private static final int BufferSize = 64 * 1024;
+
+    private final Seq<T> source;
+    private final Comparator<? super T> comparator;
+    private final Serializer<T> serializer;
+    private final int maxRunSize;
+    private final Path tempDir;
+
+    ExternalSort(Seq<T> source, Comparator<? super T> comparator, Serializer<T> serializer, int maxRunSize, Path tempDir) {
+        this.source = source;
+        this.comparator = comparator;
+        this.serializer = serializer;
+        this.maxRunSize = maxRunSize;
+        this.tempDir = tempDir;
+    }
+
+    @Override
+    public int size() {
+        return Seqs.sizeOf(source);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        List<Run> runs = new ArrayList<>();
+        List<Run> merged = new ArrayList<>();
+        List<T> last = new ArrayList<>(Math.min(maxRunSize, 1024));
+        try {
+            source.forEach(element -> {
+                last.add(element);
+                if (last.size() == maxRunSize) {
+                    runs.add(write(last));
+                    last.clear();
+                }
+            });
+            last.sort(comparator);
+            if (runs.isEmpty()) {
+                return last.iterator();
+            }
+
+            while (runs.size() > MergeWidth) {
+                for (int i = 0; i < runs.size(); i += MergeWidth) {
+                    merged.add(merge(runs.subList(i, Math.min(i + MergeWidth, runs.size()))));
+                }
+                runs.clear();
+                runs.addAll(merged);
+                merged.clear();
+            }
+            return merge(runs, last.iterator());
+        } catch (RuntimeException e) {
+            runs.forEach(Run::delete);
+            merged.forEach(Run::delete);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean forEachUntil(Predicate<? super T> action) {
+        Iterator<T> iterator = iterator();
+        try {
+            while (iterator.hasNext()) {
+                if (!action.test(iterator.next())) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            // Stopping early leaves files behind, unless they're closed here
+            if (iterator instanceof ExternalSort.Merge) {
+                ((Merge) iterator).close();
+            }
+        }
+    }
+
+    private Merge merge(List<Run> runs, Iterator<T> inMemory) {
+        List<Iterator<T>> iterators = new ArrayList<>();
+        try {
+            for (Run run : runs) {
+                iterators.add(run.open());
+            }
+            iterators.add(inMemory);
+            return new Merge(iterators);
+        } catch (RuntimeException e) {
+            close(iterators);
+            throw e;
+        }
+    }
+
+    private void close(List<Iterator<T>> iterators) {
+        for (Iterator<T> iterator : iterators) {
+            if (iterator instanceof ExternalSort.RunIterator) {
+                ((RunIterator) iterator).close();
+            }
+        }
+    }
+
+    private Run merge(List<Run> group) {
+        if (group.size() == 1) {
+            return group.get(0);
+        }
+        Merge merge = merge(group, Collections.emptyIterator());
+        try {
+            return write(merge);
+        } finally {
+            merge.close();
+        }
+    }
+
+    private Run write(List<T> elements) {
+        elements.sort(comparator);
+        return write(elements.iterator());
+    }
+
+    private Run write(Iterator<T> elements) {
+        Path path = null;
+        try {
+            path = Files.createTempFile(tempDir, "seq-sort-", ".run");
+            long count = 0;
+            try (DataOutputStream output = new DataOutputStream(IOUtils.buffered(Files.newOutputStream(path), BufferSize))) {
+                while (elements.hasNext()) {
+                    serializer.write(output, elements.next());
+                    count++;
+                }
+            }
+            return new Run(path, count);
+        } catch (IOException e) {
+            deleteQuietly(path);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(path);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Nothing left to do, it's in a temp directory anyway
+        }
+    }
+
+    /**
+     * A sorted run in a temporary file. The file is deleted once it has been read completely, or closed.
+     */
+    private final class Run {
+        private final Path path;
+        private final long count;
+
+        private Run(Path path, long count) {
+            this.path = path;
+            this.count = count;
+        }
+
+        private RunIterator open() {
+            return new RunIterator(this);
+        }
+
+        private void delete() {
+            deleteQuietly(path);
+        }
+    }
+
+    private final class RunIterator implements Iterator<T>, Closeable {
+        private final Run run;
+        private DataInputStream input;
+        private long remaining;
+
+        private RunIterator(Run run) {
+            this.run = run;
+            this.remaining = run.count;
+            try {
+                this.input = new DataInputStream(IOUtils.buffered(Files.newInputStream(run.path), BufferSize));
+            } catch (IOException e) {
+                run.delete();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                T element = serializer.read(input);
+                if (--remaining == 0) {
+                    close();
+                }
+                return element;
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            remaining = 0;
+            if (input != null) {
+                try {
+                    input.close();
+                } catch (IOException e) {
+                    // Only read from, so there's nothing to lose
+                }
+                input = null;
+            }
+            run.delete();
+        }
+    }
+
+    /**
+     * A k-way merge, picking the smallest head among the runs. Ties go to the lowest index, to keep the sort stable.
+     */
+    private final class Merge implements Iterator<T>, Closeable {
+        private final List<Iterator<T>> iterators;
+        private final PriorityQueue<Head> queue;
+
+        private Merge(List<Iterator<T>> iterators) {
+            this.iterators = iterators;
+            this.queue = new PriorityQueue<>(iterators.size());
+            for (int i = 0; i < iterators.size(); i++) {
+                Iterator<T> iterator = iterators.get(i);
+                if (iterator.hasNext()) {
+                    queue.add(new Head(PeekingIterator.wrap(iterator), i));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            Head head = queue.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            T element = head.iterator.next();
+            if (head.iterator.hasNext()) {
+                queue.add(head);
+            }
+            return element;
+        }
+
+        @Override
+        public void close() {
+            queue.clear();
+            ExternalSort.this.close(iterators);
+        }
+    }
+
+    private final class Head implements Comparable<Head> {
+        private final PeekingIterator<T> iterator;
+        private final int index;
+
+        private Head(PeekingIterator<T> iterator, int index) {
+            this.iterator = iterator;
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(Head other) {
+            int result = comparator.compare(iterator.peek(), other.iterator.peek());
+            return result != 0 ? result : Integer.compare(index, other.index);
+        }
+    }
+
+}
@@ -0,0 +1,230 @@
+package be.twofold.common.seq;
+
+import be.twofold.common.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A sequence of primitive {@code int} values, the {@code int} specialization of {@link Seq}.
+ * <p>
+ * Unlike {@code Seq<Integer>}, the elements are never boxed, unless asked for with {@link #boxed()}.
+ */
+@FunctionalInterface
+public interface IntSeq {
+
+    /**
+     * Creates a new empty IntSeq
+     *
+     * @return The new IntSeq
+     */
+    static IntSeq of() {
+        return SeqHelpers.EmptyInt;
+    }
+
+    /**
+     * Creates a new IntSeq from the specified elements.
+     *
+     * @return The new IntSeq
+     */
+    static IntSeq of(int... elements) {
+        Check.notNull(elements, "elements is null");
+        if (elements.length == 0) {
+            return of();
+        }
+        return () -> new PrimitiveIterators.OfIntArray(elements, 0, elements.length);
+    }
+
+    /**
+     * Creates a new IntSeq containing the values from {@code fromInclusive} to {@code toExclusive}.
+     *
+     * @param fromInclusive The first value
+     * @param toExclusive   The value after the last value
+     * @return The new IntSeq
+     */
+    static IntSeq range(int fromInclusive, int toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return of();
+        }
+        return () -> new PrimitiveIterators.IntRange(fromInclusive, toExclusive);
+    }
+
+    PrimitiveIterator.OfInt iterator();
+
+    /**
+     * Returns a sequence containing the boxed elements of this sequence.
+     *
+     * @return The new sequence.
+     */
+    default Seq<Integer> boxed() {
+        return this::iterator;
+    }
+
+    /**
+     * Drops the first {@code count} elements of this sequence.
+     *
+     * @param count The number of elements to drop.
+     * @return The new sequence.
+     */
+    default IntSeq drop(int count) {
+        Check.argument(count >= 0, "Negative count");
+
+        if (count == 0) {
+            return this;
+        }
+        return () -> new PrimitiveIterators.IntDrop(iterator(), count);
+    }
+
+    /**
+     * Returns a sequence containing only the elements matching the given predicate.
+     *
+     * @param predicate The predicate to match.
+     * @return The new sequence.
+     */
+    default IntSeq filter(IntPredicate predicate) {
+        Check.notNull(predicate, "predicate");
+
+        return () -> new PrimitiveIterators.IntFilter(iterator(), predicate);
+    }
+
+    /**
+     * Returns a sequence containing the results of applying the given function to each element of this sequence.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new sequence.
+     */
+    default IntSeq map(IntUnaryOperator mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return () -> new PrimitiveIterators.IntMap(iterator(), mapper);
+    }
+
+    /**
+     * Returns a sequence containing the results of applying the given function to each element of this sequence.
+     *
+     * @param mapper The function to apply to each element.
+     * @param <R>    The type of the elements of the new sequence.
+     * @return The new sequence.
+     */
+    default <R> Seq<R> mapToObj(IntFunction<? extends R> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return () -> new PrimitiveIterators.IntMapToObj<>(iterator(), mapper);
+    }
+
+    /**
+     * Returns a sequence containing the first {@code count} elements.
+     *
+     * @param count The number of elements to take.
+     * @return The new sequence.
+     */
+    default IntSeq take(int count) {
+        Check.argument(count >= 0, "Negative count");
+
+        if (count == 0) {
+            return of();
+        }
+        return () -> new PrimitiveIterators.IntTake(iterator(), count);
+    }
+
+    /**
+     * Returns the average of the elements in the sequence.
+     */
+    default double average() {
+        IntSummaryStatistics summary = summary();
+        if (summary.getCount() == 0) {
+            throw new NoSuchElementException("Sequence contains no elements");
+        }
+        return summary.getAverage();
+    }
+
+    /**
+     * Returns the average of the elements in the sequence,
+     * or an empty {@link OptionalDouble} if the sequence is empty.
+     */
+    default OptionalDouble averageOptional() {
+        IntSummaryStatistics summary = summary();
+        if (summary.getCount() == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(summary.getAverage());
+    }
+
+    /**
+     * Returns the number of elements in the sequence.
+     */
+    default int count() {
+        PrimitiveIterator.OfInt iterator = iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextInt();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Accumulates the elements of the sequence into a single value.
+     *
+     * @param initial   The initial value.
+     * @param operation The operation to perform on each element.
+     * @return The accumulated value.
+     */
+    default int fold(int initial, IntBinaryOperator operation) {
+        Check.notNull(operation, "operation");
+
+        PrimitiveIterator.OfInt iterator = iterator();
+        int accumulator = initial;
+        while (iterator.hasNext()) {
+            accumulator = operation.applyAsInt(accumulator, iterator.nextInt());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Perform the given action for each element in the sequence.
+     *
+     * @param action The action to be performed for each element
+     */
+    default void forEach(IntConsumer action) {
+        Check.notNull(action, "action");
+
+        PrimitiveIterator.OfInt iterator = iterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.nextInt());
+        }
+    }
+
+    /**
+     * Returns the sum of the elements in the sequence.
+     */
+    default int sum() {
+        return fold(0, Integer::sum);
+    }
+
+    /**
+     * Returns the summary of the elements in the sequence.
+     */
+    default IntSummaryStatistics summary() {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        forEach(statistics);
+        return statistics;
+    }
+
+    /**
+     * Returns an array containing the elements of the sequence.
+     */
+    default int[] toArray() {
+        PrimitiveIterator.OfInt iterator = iterator();
+        int[] result = new int[16];
+        int size = 0;
+        while (iterator.hasNext()) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+            result[size++] = iterator.nextInt();
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+}
@@ -1,5 +1,7 @@
 package be.twofold.common.seq;
 
+import be.twofold.common.tuple.*;
+
 import java.util.*;
 import java.util.function.*;
 
@@ -227,4 +229,220 @@ final class Iterators {
         }
     }
 
+    /**
+     * Collects elements into windows of {@code size}, with each window starting {@code step} elements after the previous one.
+     * Shared by the pull and push sides of {@link Seq#windowed(int, int, boolean)}.
+     */
+    static final class Window<E> {
+        private final int size;
+        private final int step;
+        private List<E> buffer;
+        private int skip;
+
+        Window(int size, int step) {
+            this.size = size;
+            this.step = step;
+            this.buffer = newBuffer();
+        }
+
+        /**
+         * Adds an element, returning {@code true} if a full window is ready to be polled.
+         */
+        boolean add(E element) {
+            if (skip > 0) {
+                skip--;
+                return false;
+            }
+            buffer.add(element);
+            return buffer.size() == size;
+        }
+
+        boolean isEmpty() {
+            return buffer.isEmpty();
+        }
+
+        /**
+         * Returns the current window, and moves the start of the buffer forward by {@code step}.
+         * When no elements overlap with the next window, the buffer itself is handed out instead of a copy.
+         */
+        List<E> poll() {
+            int removed = Math.min(step, buffer.size());
+            if (removed == buffer.size()) {
+                List<E> window = buffer;
+                buffer = newBuffer();
+                skip = step - removed;
+                return window;
+            }
+
+            List<E> window = new ArrayList<>(buffer);
+            buffer.subList(0, removed).clear();
+            return window;
+        }
+
+        private List<E> newBuffer() {
+            // Don't trust a huge size, as it might just mean "everything"
+            return new ArrayList<>(Math.min(size, 1024));
+        }
+    }
+
+    static final class Windowed<E> implements Iterator<List<E>> {
+        private final Iterator<E> iterator;
+        private final Window<E> window;
+        private final boolean partial;
+        private List<E> next;
+
+        Windowed(Iterator<E> iterator, int size, int step, boolean partial) {
+            this.iterator = iterator;
+            this.window = new Window<>(size, step);
+            this.partial = partial;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            while (iterator.hasNext()) {
+                if (window.add(iterator.next())) {
+                    next = window.poll();
+                    return true;
+                }
+            }
+            if (partial && !window.isEmpty()) {
+                next = window.poll();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public List<E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<E> result = next;
+            next = null;
+            return result;
+        }
+    }
+
+    static final class WithIndex<E> implements Iterator<IntObjPair<E>> {
+        private final Iterator<E> iterator;
+        private int index;
+
+        WithIndex(Iterator<E> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public IntObjPair<E> next() {
+            return IntObjPair.of(index++, iterator.next());
+        }
+    }
+
+    static final class FilterSpliterator<E> implements Spliterator<E>, Consumer<E> {
+        private final Spliterator<E> spliterator;
+        private final Predicate<? super E> predicate;
+        private boolean matched;
+        private E next;
+
+        FilterSpliterator(Spliterator<E> spliterator, Predicate<? super E> predicate) {
+            this.spliterator = spliterator;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void accept(E element) {
+            if (predicate.test(element)) {
+                matched = true;
+                next = element;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            while (spliterator.tryAdvance(this)) {
+                if (matched) {
+                    E result = next;
+                    matched = false;
+                    next = null;
+                    action.accept(result);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            spliterator.forEachRemaining(element -> {
+                if (predicate.test(element)) {
+                    action.accept(element);
+                }
+            });
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            Spliterator<E> prefix = spliterator.trySplit();
+            return prefix == null ? null : new FilterSpliterator<>(prefix, predicate);
+        }
+
+        @Override
+        public long estimateSize() {
+            return spliterator.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return spliterator.characteristics() & ~(SIZED | SUBSIZED);
+        }
+
+        @Override
+        public Comparator<? super E> getComparator() {
+            return spliterator.getComparator();
+        }
+    }
+
+    static final class MapSpliterator<E, R> implements Spliterator<R> {
+        private final Spliterator<E> spliterator;
+        private final Function<? super E, ? extends R> mapper;
+
+        MapSpliterator(Spliterator<E> spliterator, Function<? super E, ? extends R> mapper) {
+            this.spliterator = spliterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            return spliterator.tryAdvance(element -> action.accept(mapper.apply(element)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            spliterator.forEachRemaining(element -> action.accept(mapper.apply(element)));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            Spliterator<E> prefix = spliterator.trySplit();
+            return prefix == null ? null : new MapSpliterator<>(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return spliterator.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return spliterator.characteristics() & ~(DISTINCT | SORTED | NONNULL);
+        }
+    }
+
 }
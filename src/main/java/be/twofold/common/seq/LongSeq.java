@@ -0,0 +1,216 @@
+package be.twofold.common.seq;
+
+import be.twofold.common.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A sequence of primitive {@code long} values, the {@code long} specialization of {@link Seq}.
+ * <p>
+ * Unlike {@code Seq<Long>}, the elements are never boxed, unless asked for with {@link #boxed()}.
+ */
+@FunctionalInterface
+public interface LongSeq {
+
+    /**
+     * Creates a new empty LongSeq
+     *
+     * @return The new LongSeq
+     */
+    static LongSeq of() {
+        return SeqHelpers.EmptyLong;
+    }
+
+    /**
+     * Creates a new LongSeq from the specified elements.
+     *
+     * @return The new LongSeq
+     */
+    static LongSeq of(long... elements) {
+        Check.notNull(elements, "elements is null");
+        if (elements.length == 0) {
+            return of();
+        }
+        return () -> new PrimitiveIterators.OfLongArray(elements, 0, elements.length);
+    }
+
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * Returns a sequence containing the boxed elements of this sequence.
+     *
+     * @return The new sequence.
+     */
+    default Seq<Long> boxed() {
+        return this::iterator;
+    }
+
+    /**
+     * Drops the first {@code count} elements of this sequence.
+     *
+     * @param count The number of elements to drop.
+     * @return The new sequence.
+     */
+    default LongSeq drop(int count) {
+        Check.argument(count >= 0, "Negative count");
+
+        if (count == 0) {
+            return this;
+        }
+        return () -> new PrimitiveIterators.LongDrop(iterator(), count);
+    }
+
+    /**
+     * Returns a sequence containing only the elements matching the given predicate.
+     *
+     * @param predicate The predicate to match.
+     * @return The new sequence.
+     */
+    default LongSeq filter(LongPredicate predicate) {
+        Check.notNull(predicate, "predicate");
+
+        return () -> new PrimitiveIterators.LongFilter(iterator(), predicate);
+    }
+
+    /**
+     * Returns a sequence containing the results of applying the given function to each element of this sequence.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new sequence.
+     */
+    default LongSeq map(LongUnaryOperator mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return () -> new PrimitiveIterators.LongMap(iterator(), mapper);
+    }
+
+    /**
+     * Returns a sequence containing the results of applying the given function to each element of this sequence.
+     *
+     * @param mapper The function to apply to each element.
+     * @param <R>    The type of the elements of the new sequence.
+     * @return The new sequence.
+     */
+    default <R> Seq<R> mapToObj(LongFunction<? extends R> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return () -> new PrimitiveIterators.LongMapToObj<>(iterator(), mapper);
+    }
+
+    /**
+     * Returns a sequence containing the first {@code count} elements.
+     *
+     * @param count The number of elements to take.
+     * @return The new sequence.
+     */
+    default LongSeq take(int count) {
+        Check.argument(count >= 0, "Negative count");
+
+        if (count == 0) {
+            return of();
+        }
+        return () -> new PrimitiveIterators.LongTake(iterator(), count);
+    }
+
+    /**
+     * Returns the average of the elements in the sequence.
+     */
+    default double average() {
+        LongSummaryStatistics summary = summary();
+        if (summary.getCount() == 0) {
+            throw new NoSuchElementException("Sequence contains no elements");
+        }
+        return summary.getAverage();
+    }
+
+    /**
+     * Returns the average of the elements in the sequence,
+     * or an empty {@link OptionalDouble} if the sequence is empty.
+     */
+    default OptionalDouble averageOptional() {
+        LongSummaryStatistics summary = summary();
+        if (summary.getCount() == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(summary.getAverage());
+    }
+
+    /**
+     * Returns the number of elements in the sequence.
+     */
+    default int count() {
+        PrimitiveIterator.OfLong iterator = iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextLong();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Accumulates the elements of the sequence into a single value.
+     *
+     * @param initial   The initial value.
+     * @param operation The operation to perform on each element.
+     * @return The accumulated value.
+     */
+    default long fold(long initial, LongBinaryOperator operation) {
+        Check.notNull(operation, "operation");
+
+        PrimitiveIterator.OfLong iterator = iterator();
+        long accumulator = initial;
+        while (iterator.hasNext()) {
+            accumulator = operation.applyAsLong(accumulator, iterator.nextLong());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Perform the given action for each element in the sequence.
+     *
+     * @param action The action to be performed for each element
+     */
+    default void forEach(LongConsumer action) {
+        Check.notNull(action, "action");
+
+        PrimitiveIterator.OfLong iterator = iterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.nextLong());
+        }
+    }
+
+    /**
+     * Returns the sum of the elements in the sequence.
+     */
+    default long sum() {
+        return fold(0, Long::sum);
+    }
+
+    /**
+     * Returns the summary of the elements in the sequence.
+     */
+    default LongSummaryStatistics summary() {
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        forEach(statistics);
+        return statistics;
+    }
+
+    /**
+     * Returns an array containing the elements of the sequence.
+     */
+    default long[] toArray() {
+        PrimitiveIterator.OfLong iterator = iterator();
+        long[] result = new long[16];
+        int size = 0;
+        while (iterator.hasNext()) {
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+            result[size++] = iterator.nextLong();
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+}
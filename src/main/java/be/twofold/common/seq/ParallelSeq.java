@@ -0,0 +1,428 @@
+package be.twofold.common.seq;
+
+import be.twofold.common.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * A parallel view of a {@link Seq}, running its terminal operations on a {@link ForkJoinPool}.
+ * <p>
+ * The elements are split using {@link Seq#spliterator()}. Sequences backed by an array or a collection
+ * split evenly, other sequences are pulled in batches from their iterator.
+ * Partial results are combined in encounter order, so {@link #toList()} and {@link #groupBy(Function)}
+ * return the elements in the same order as their sequential counterparts.
+ * <p>
+ * The functions passed to the sequence and its operations are called from multiple threads,
+ * so they should be stateless.
+ *
+ * @param <T> The type of elements in this ParallelSeq
+ */
+public final class ParallelSeq<T> {
+
+    private static final long UnknownSizeThreshold = 1024;
+    private static final int FlushThreshold = 4096;
+
+    private final Seq<T> seq;
+    private final ForkJoinPool pool;
+
+    ParallelSeq(Seq<T> seq, ForkJoinPool pool) {
+        this.seq = seq;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the underlying sequential sequence.
+     */
+    public Seq<T> sequential() {
+        return seq;
+    }
+
+    /**
+     * Returns the number of elements in the sequence.
+     */
+    public int count() {
+        return collect(() -> new int[1], (count, element) -> count[0]++, (left, right) -> {
+            left[0] += right[0];
+            return left;
+        })[0];
+    }
+
+    /**
+     * Counts the elements of the sequence per key, given by the key selector function,
+     * using {@link Grouping#Auto}.
+     *
+     * @param keyMapper The function to transform the elements into keys.
+     * @param <K>       The type of the keys.
+     * @return The map with each key mapping to the number of elements with that key.
+     */
+    public <K> Map<K, Long> countBy(Function<? super T, ? extends K> keyMapper) {
+        return countBy(keyMapper, Grouping.Auto);
+    }
+
+    /**
+     * Counts the elements of the sequence per key, given by the key selector function.
+     *
+     * @param keyMapper The function to transform the elements into keys.
+     * @param grouping  How the partial counts are combined.
+     * @param <K>       The type of the keys.
+     * @return The map with each key mapping to the number of elements with that key.
+     */
+    public <K> Map<K, Long> countBy(Function<? super T, ? extends K> keyMapper, Grouping grouping) {
+        return sumBy(keyMapper, __ -> 1L, grouping);
+    }
+
+    /**
+     * Accumulates the elements of the sequence into a single value.
+     * <p>
+     * Each part of the sequence starts from {@code identity}, and the partial results are merged using {@code combiner},
+     * so {@code identity} must be an identity for {@code combiner}.
+     *
+     * @param identity    The initial value of each part.
+     * @param accumulator The operation to perform on each element.
+     * @param combiner    The operation to merge two partial results.
+     * @param <R>         The type of the accumulated value.
+     * @return The accumulated value.
+     */
+    public <R> R fold(R identity, BiFunction<R, ? super T, R> accumulator, BinaryOperator<R> combiner) {
+        Check.notNull(accumulator, "accumulator");
+        Check.notNull(combiner, "combiner");
+
+        return evaluate(spliterator -> {
+            SeqHelpers.Folder<T, R> folder = new SeqHelpers.Folder<>(identity, accumulator);
+            spliterator.forEachRemaining(folder::test);
+            return folder.accumulator;
+        }, combiner);
+    }
+
+    /**
+     * Groups the elements of the sequence by the key given by the key selector function,
+     * into a map with each key mapping to a list of values.
+     *
+     * @param keyMapper The function to transform the elements into keys.
+     * @param <K>       The type of the keys.
+     * @return The map with each key mapping to a list of values.
+     */
+    public <K> Map<K, List<T>> groupBy(Function<? super T, ? extends K> keyMapper) {
+        return groupBy(keyMapper, Function.identity());
+    }
+
+    /**
+     * Groups the elements of the sequence transformed by the value selector function,
+     * by the key given by the key selector function, into a map with each key mapping to a list of values.
+     *
+     * @param keyMapper   The function to transform the elements into keys.
+     * @param valueMapper The function to transform the elements into values.
+     * @param <K>         The type of the keys.
+     * @param <V>         The type of the values.
+     * @return The map with each key mapping to a list of values.
+     */
+    public <K, V> Map<K, List<V>> groupBy(
+        Function<? super T, ? extends K> keyMapper,
+        Function<? super T, ? extends V> valueMapper
+    ) {
+        Check.notNull(keyMapper, "keyMapper");
+        Check.notNull(valueMapper, "valueMapper");
+
+        return collect(HashMap::new, (map, element) -> map
+            .computeIfAbsent(keyMapper.apply(element), __ -> new ArrayList<>())
+            .add(valueMapper.apply(element)), (left, right) -> {
+            right.forEach((key, values) -> left.merge(key, values, (a, b) -> {
+                a.addAll(b);
+                return a;
+            }));
+            return left;
+        });
+    }
+
+    /**
+     * Folds the elements of the sequence per key, given by the key selector function.
+     * <p>
+     * Each part of the sequence starts every key from {@code identity}, and the partial results for a key
+     * are merged using {@code combiner}, in encounter order. So {@code identity} must be an identity for {@code combiner}.
+     * Neither {@code accumulator} nor {@code combiner} may return {@code null}.
+     *
+     * @param keyMapper   The function to transform the elements into keys.
+     * @param identity    The initial value for each key.
+     * @param accumulator The operation to perform on the accumulated value and each element.
+     * @param combiner    The operation to merge two partial results of a key.
+     * @param <K>         The type of the keys.
+     * @param <R>         The type of the accumulated values.
+     * @return The map with each key mapping to the accumulated value.
+     */
+    public <K, R> Map<K, R> groupingFold(
+        Function<? super T, ? extends K> keyMapper,
+        R identity,
+        BiFunction<R, ? super T, R> accumulator,
+        BinaryOperator<R> combiner
+    ) {
+        Check.notNull(keyMapper, "keyMapper");
+        Check.notNull(accumulator, "accumulator");
+        Check.notNull(combiner, "combiner");
+
+        return collect(HashMap::new, (Map<K, R> map, T element) -> map.compute(
+            keyMapper.apply(element),
+            (key, value) -> Check.notNull(
+                accumulator.apply(value == null ? identity : value, element),
+                "accumulator returned null"
+            )
+        ), (left, right) -> {
+            right.forEach((key, value) -> left.merge(
+                key, value, (a, b) -> Check.notNull(combiner.apply(a, b), "combiner returned null")
+            ));
+            return left;
+        });
+    }
+
+    /**
+     * Returns the sum of the elements in the sequence, applying the given function to each element.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The sum.
+     */
+    public int sum(ToIntFunction<? super T> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return collect(() -> new int[1], (sum, element) -> sum[0] += mapper.applyAsInt(element), (left, right) -> {
+            left[0] += right[0];
+            return left;
+        })[0];
+    }
+
+    /**
+     * Returns the sum of the elements in the sequence, applying the given function to each element.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The sum.
+     */
+    public long sum(ToLongFunction<? super T> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return collect(() -> new long[1], (sum, element) -> sum[0] += mapper.applyAsLong(element), (left, right) -> {
+            left[0] += right[0];
+            return left;
+        })[0];
+    }
+
+    /**
+     * Returns the sum of the elements in the sequence, applying the given function to each element.
+     * <p>
+     * As the partial sums are added in a different order, the result can differ slightly from the sequential sum.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The sum.
+     */
+    public double sum(ToDoubleFunction<? super T> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return collect(() -> new double[1], (sum, element) -> sum[0] += mapper.applyAsDouble(element), (left, right) -> {
+            left[0] += right[0];
+            return left;
+        })[0];
+    }
+
+    /**
+     * Sums the values given by the value selector function per key, given by the key selector function,
+     * using {@link Grouping#Auto}.
+     *
+     * @param keyMapper   The function to transform the elements into keys.
+     * @param valueMapper The function to transform the elements into values.
+     * @param <K>         The type of the keys.
+     * @return The map with each key mapping to the sum of its values.
+     */
+    public <K> Map<K, Long> sumBy(Function<? super T, ? extends K> keyMapper, ToLongFunction<? super T> valueMapper) {
+        return sumBy(keyMapper, valueMapper, Grouping.Auto);
+    }
+
+    /**
+     * Sums the values given by the value selector function per key, given by the key selector function.
+     *
+     * @param keyMapper   The function to transform the elements into keys.
+     * @param valueMapper The function to transform the elements into values.
+     * @param grouping    How the partial sums are combined.
+     * @param <K>         The type of the keys.
+     * @return The map with each key mapping to the sum of its values.
+     */
+    public <K> Map<K, Long> sumBy(
+        Function<? super T, ? extends K> keyMapper,
+        ToLongFunction<? super T> valueMapper,
+        Grouping grouping
+    ) {
+        Check.notNull(keyMapper, "keyMapper");
+        Check.notNull(valueMapper, "valueMapper");
+        Check.notNull(grouping, "grouping");
+
+        ConcurrentHashMap<K, LongAdder> shared = new ConcurrentHashMap<>();
+        Map<K, Long> result = new HashMap<>();
+        if (grouping == Grouping.Concurrent) {
+            this.<Void>evaluate(spliterator -> {
+                spliterator.forEachRemaining(element -> shared
+                    .computeIfAbsent(keyMapper.apply(element), __ -> new LongAdder())
+                    .add(valueMapper.applyAsLong(element)));
+                return null;
+            }, (left, right) -> null);
+        } else {
+            int flushThreshold = grouping == Grouping.Partitioned ? Integer.MAX_VALUE : FlushThreshold;
+            Map<K, long[]> sums = evaluate(spliterator -> {
+                Map<K, long[]> partial = new HashMap<>();
+                spliterator.forEachRemaining(element -> {
+                    partial.computeIfAbsent(keyMapper.apply(element), __ -> new long[1])[0] += valueMapper.applyAsLong(element);
+                    if (partial.size() > flushThreshold) {
+                        flush(partial, shared);
+                    }
+                });
+                return partial;
+            }, (left, right) -> {
+                Map<K, long[]> merged = merge(left, right);
+                if (merged.size() > flushThreshold) {
+                    flush(merged, shared);
+                }
+                return merged;
+            });
+            SeqHelpers.addTo(sums, result);
+        }
+        shared.forEach((key, sum) -> result.merge(key, sum.sum(), Long::sum));
+        return result;
+    }
+
+    /**
+     * Returns the summary of the elements in the sequence, applying the given function to each element.
+     *
+     * @param mapper The function to apply to each element.
+     */
+    public IntSummaryStatistics summary(ToIntFunction<? super T> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return collect(IntSummaryStatistics::new, (statistics, element) -> statistics.accept(mapper.applyAsInt(element)), (left, right) -> {
+            left.combine(right);
+            return left;
+        });
+    }
+
+    /**
+     * Returns the summary of the elements in the sequence, applying the given function to each element.
+     *
+     * @param mapper The function to apply to each element.
+     */
+    public LongSummaryStatistics summary(ToLongFunction<? super T> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return collect(LongSummaryStatistics::new, (statistics, element) -> statistics.accept(mapper.applyAsLong(element)), (left, right) -> {
+            left.combine(right);
+            return left;
+        });
+    }
+
+    /**
+     * Returns the summary of the elements in the sequence, applying the given function to each element.
+     *
+     * @param mapper The function to apply to each element.
+     */
+    public DoubleSummaryStatistics summary(ToDoubleFunction<? super T> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return collect(DoubleSummaryStatistics::new, (statistics, element) -> statistics.accept(mapper.applyAsDouble(element)), (left, right) -> {
+            left.combine(right);
+            return left;
+        });
+    }
+
+    /**
+     * Returns a list containing the elements of the sequence, in encounter order.
+     */
+    public List<T> toList() {
+        return collect(ArrayList::new, ArrayList::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    private static <K> Map<K, long[]> merge(Map<K, long[]> left, Map<K, long[]> right) {
+        // Sums don't care about order, so merge the small map into the big one
+        Map<K, long[]> target = left.size() >= right.size() ? left : right;
+        Map<K, long[]> source = target == left ? right : left;
+        source.forEach((key, sum) -> target.merge(key, sum, (a, b) -> {
+            a[0] += b[0];
+            return a;
+        }));
+        return target;
+    }
+
+    private static <K> void flush(Map<K, long[]> partial, ConcurrentHashMap<K, LongAdder> shared) {
+        partial.forEach((key, sum) -> shared.computeIfAbsent(key, __ -> new LongAdder()).add(sum[0]));
+        partial.clear();
+    }
+
+    private <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator, BinaryOperator<R> combiner) {
+        return evaluate(spliterator -> {
+            R container = supplier.get();
+            spliterator.forEachRemaining(element -> accumulator.accept(container, element));
+            return container;
+        }, combiner);
+    }
+
+    private <R> R evaluate(Function<Spliterator<T>, R> leaf, BinaryOperator<R> combiner) {
+        Spliterator<T> spliterator = seq.spliterator();
+        long size = spliterator.estimateSize();
+        long threshold = size == Long.MAX_VALUE
+            ? UnknownSizeThreshold
+            : Math.max(1, size / (pool.getParallelism() * 4L));
+
+        return pool.invoke(new Task<>(spliterator, leaf, combiner, threshold));
+    }
+
+    private static final class Task<T, R> extends RecursiveTask<R> {
+        private final Spliterator<T> spliterator;
+        private final Function<Spliterator<T>, R> leaf;
+        private final BinaryOperator<R> combiner;
+        private final long threshold;
+
+        private Task(Spliterator<T> spliterator, Function<Spliterator<T>, R> leaf, BinaryOperator<R> combiner, long threshold) {
+            this.spliterator = spliterator;
+            this.leaf = leaf;
+            this.combiner = combiner;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected R compute() {
+            Spliterator<T> prefix;
+            if (spliterator.estimateSize() <= threshold || (prefix = spliterator.trySplit()) == null) {
+                return leaf.apply(spliterator);
+            }
+
+            Task<T, R> left = new Task<>(prefix, leaf, combiner, threshold);
+            left.fork();
+            R right = new Task<>(spliterator, leaf, combiner, threshold).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+
+    /**
+     * How {@link #countBy(Function, Grouping)} and {@link #sumBy(Function, ToLongFunction, Grouping)}
+     * combine the work of the threads.
+     */
+    public enum Grouping {
+        /**
+         * Starts out {@link #Partitioned}, but a task that collects more than a few thousand keys
+         * moves its sums to a shared {@link ConcurrentHashMap}, like {@link #Concurrent}.
+         * So few keys never touch the shared map, and many keys don't pile up in every task.
+         */
+        Auto,
+
+        /**
+         * Each task sums into its own map, and the maps are merged at the end.
+         * Best for few distinct keys, as there is no contention and the merge is cheap.
+         */
+        Partitioned,
+
+        /**
+         * All tasks sum into one {@link ConcurrentHashMap}, with a {@link LongAdder} per key.
+         * Best for many distinct keys, as nothing is duplicated or merged.
+         */
+        Concurrent,
+    }
+
+}
@@ -0,0 +1,562 @@
+package be.twofold.common.seq;
+
+import java.util.*;
+import java.util.function.*;
+
+final class PrimitiveIterators {
+
+    private PrimitiveIterators() {
+        throw new UnsupportedOperationException();
+    }
+
+    // region Sources
+
+    static final class OfIntArray implements PrimitiveIterator.OfInt {
+        private final int[] array;
+        private final int toIndex;
+        private int index;
+
+        OfIntArray(int[] array, int fromIndex, int toIndex) {
+            this.array = array;
+            this.index = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < toIndex;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return array[index++];
+        }
+    }
+
+    static final class OfLongArray implements PrimitiveIterator.OfLong {
+        private final long[] array;
+        private final int toIndex;
+        private int index;
+
+        OfLongArray(long[] array, int fromIndex, int toIndex) {
+            this.array = array;
+            this.index = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < toIndex;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return array[index++];
+        }
+    }
+
+    static final class OfDoubleArray implements PrimitiveIterator.OfDouble {
+        private final double[] array;
+        private final int toIndex;
+        private int index;
+
+        OfDoubleArray(double[] array, int fromIndex, int toIndex) {
+            this.array = array;
+            this.index = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < toIndex;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return array[index++];
+        }
+    }
+
+    static final class IntRange implements PrimitiveIterator.OfInt {
+        private final int toIndex;
+        private int next;
+
+        IntRange(int fromIndex, int toIndex) {
+            this.next = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < toIndex;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return next++;
+        }
+    }
+
+    // endregion
+
+    // region Filter
+
+    static final class IntFilter implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt iterator;
+        private final IntPredicate predicate;
+        private boolean hasNext;
+        private int next;
+
+        IntFilter(PrimitiveIterator.OfInt iterator, IntPredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!hasNext && iterator.hasNext()) {
+                int element = iterator.nextInt();
+                if (predicate.test(element)) {
+                    hasNext = true;
+                    next = element;
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = false;
+            return next;
+        }
+    }
+
+    static final class LongFilter implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong iterator;
+        private final LongPredicate predicate;
+        private boolean hasNext;
+        private long next;
+
+        LongFilter(PrimitiveIterator.OfLong iterator, LongPredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!hasNext && iterator.hasNext()) {
+                long element = iterator.nextLong();
+                if (predicate.test(element)) {
+                    hasNext = true;
+                    next = element;
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = false;
+            return next;
+        }
+    }
+
+    static final class DoubleFilter implements PrimitiveIterator.OfDouble {
+        private final PrimitiveIterator.OfDouble iterator;
+        private final DoublePredicate predicate;
+        private boolean hasNext;
+        private double next;
+
+        DoubleFilter(PrimitiveIterator.OfDouble iterator, DoublePredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!hasNext && iterator.hasNext()) {
+                double element = iterator.nextDouble();
+                if (predicate.test(element)) {
+                    hasNext = true;
+                    next = element;
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = false;
+            return next;
+        }
+    }
+
+    // endregion
+
+    // region Map
+
+    static final class IntMap implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt iterator;
+        private final IntUnaryOperator mapper;
+
+        IntMap(PrimitiveIterator.OfInt iterator, IntUnaryOperator mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            return mapper.applyAsInt(iterator.nextInt());
+        }
+    }
+
+    static final class LongMap implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong iterator;
+        private final LongUnaryOperator mapper;
+
+        LongMap(PrimitiveIterator.OfLong iterator, LongUnaryOperator mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            return mapper.applyAsLong(iterator.nextLong());
+        }
+    }
+
+    static final class DoubleMap implements PrimitiveIterator.OfDouble {
+        private final PrimitiveIterator.OfDouble iterator;
+        private final DoubleUnaryOperator mapper;
+
+        DoubleMap(PrimitiveIterator.OfDouble iterator, DoubleUnaryOperator mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public double nextDouble() {
+            return mapper.applyAsDouble(iterator.nextDouble());
+        }
+    }
+
+    static final class IntMapToObj<R> implements Iterator<R> {
+        private final PrimitiveIterator.OfInt iterator;
+        private final IntFunction<? extends R> mapper;
+
+        IntMapToObj(PrimitiveIterator.OfInt iterator, IntFunction<? extends R> mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public R next() {
+            return mapper.apply(iterator.nextInt());
+        }
+    }
+
+    static final class LongMapToObj<R> implements Iterator<R> {
+        private final PrimitiveIterator.OfLong iterator;
+        private final LongFunction<? extends R> mapper;
+
+        LongMapToObj(PrimitiveIterator.OfLong iterator, LongFunction<? extends R> mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public R next() {
+            return mapper.apply(iterator.nextLong());
+        }
+    }
+
+    static final class DoubleMapToObj<R> implements Iterator<R> {
+        private final PrimitiveIterator.OfDouble iterator;
+        private final DoubleFunction<? extends R> mapper;
+
+        DoubleMapToObj(PrimitiveIterator.OfDouble iterator, DoubleFunction<? extends R> mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public R next() {
+            return mapper.apply(iterator.nextDouble());
+        }
+    }
+
+    static final class MapToInt<E> implements PrimitiveIterator.OfInt {
+        private final Iterator<E> iterator;
+        private final ToIntFunction<? super E> mapper;
+
+        MapToInt(Iterator<E> iterator, ToIntFunction<? super E> mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            return mapper.applyAsInt(iterator.next());
+        }
+    }
+
+    static final class MapToLong<E> implements PrimitiveIterator.OfLong {
+        private final Iterator<E> iterator;
+        private final ToLongFunction<? super E> mapper;
+
+        MapToLong(Iterator<E> iterator, ToLongFunction<? super E> mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            return mapper.applyAsLong(iterator.next());
+        }
+    }
+
+    static final class MapToDouble<E> implements PrimitiveIterator.OfDouble {
+        private final Iterator<E> iterator;
+        private final ToDoubleFunction<? super E> mapper;
+
+        MapToDouble(Iterator<E> iterator, ToDoubleFunction<? super E> mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public double nextDouble() {
+            return mapper.applyAsDouble(iterator.next());
+        }
+    }
+
+    // endregion
+
+    // region Take
+
+    static final class IntTake implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt iterator;
+        private int n;
+
+        IntTake(PrimitiveIterator.OfInt iterator, int n) {
+            this.iterator = iterator;
+            this.n = n;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return n > 0 && iterator.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            n--;
+            return iterator.nextInt();
+        }
+    }
+
+    static final class LongTake implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong iterator;
+        private int n;
+
+        LongTake(PrimitiveIterator.OfLong iterator, int n) {
+            this.iterator = iterator;
+            this.n = n;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return n > 0 && iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            n--;
+            return iterator.nextLong();
+        }
+    }
+
+    static final class DoubleTake implements PrimitiveIterator.OfDouble {
+        private final PrimitiveIterator.OfDouble iterator;
+        private int n;
+
+        DoubleTake(PrimitiveIterator.OfDouble iterator, int n) {
+            this.iterator = iterator;
+            this.n = n;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return n > 0 && iterator.hasNext();
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            n--;
+            return iterator.nextDouble();
+        }
+    }
+
+    // endregion
+
+    // region Drop
+
+    static final class IntDrop implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt iterator;
+        private int n;
+
+        IntDrop(PrimitiveIterator.OfInt iterator, int n) {
+            this.iterator = iterator;
+            this.n = n;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (n > 0 && iterator.hasNext()) {
+                iterator.nextInt();
+                n--;
+            }
+            return iterator.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return iterator.nextInt();
+        }
+    }
+
+    static final class LongDrop implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong iterator;
+        private int n;
+
+        LongDrop(PrimitiveIterator.OfLong iterator, int n) {
+            this.iterator = iterator;
+            this.n = n;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (n > 0 && iterator.hasNext()) {
+                iterator.nextLong();
+                n--;
+            }
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return iterator.nextLong();
+        }
+    }
+
+    static final class DoubleDrop implements PrimitiveIterator.OfDouble {
+        private final PrimitiveIterator.OfDouble iterator;
+        private int n;
+
+        DoubleDrop(PrimitiveIterator.OfDouble iterator, int n) {
+            this.iterator = iterator;
+            this.n = n;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (n > 0 && iterator.hasNext()) {
+                iterator.nextDouble();
+                n--;
+            }
+            return iterator.hasNext();
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return iterator.nextDouble();
+        }
+    }
+
+    // endregion
+
+}
@@ -3,7 +3,9 @@ package be.twofold.common.seq;
 import be.twofold.common.*;
 import be.twofold.common.tuple.*;
 
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
@@ -11,7 +13,8 @@ import java.util.stream.*;
 /**
  * A {@link Seq} is a sequence, supporting aggregate operations, like {@link Stream}.
  * <p>
- * Unlike Stream, it is only sequential.
+ * Unlike Stream, it is sequential, but the terminal operations of a sequence
+ * backed by an array or a collection can be run in parallel with {@link #parallel()}.
  *
  * @param <T> The type of elements in this Seq
  */
@@ -40,7 +43,7 @@ public interface Seq<T> extends Iterable<T> {
         if (elements.length == 0) {
             return of();
         }
-        return () -> Arrays.asList(elements).iterator();
+        return new Seqs.ArraySeq<>(elements);
     }
 
     /**
@@ -48,7 +51,13 @@ public interface Seq<T> extends Iterable<T> {
      */
     static <T> Seq<T> seq(Iterable<T> iterable) {
         Check.notNull(iterable, "iterable is null");
-        return iterable::iterator;
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return new Seqs.ListSeq<>((List<T>) iterable);
+        }
+        if (iterable instanceof Collection) {
+            return new Seqs.CollectionSeq<>((Collection<T>) iterable);
+        }
+        return new Seqs.IterableSeq<>(iterable);
     }
 
     static <T> Seq<T> seq(Iterator<T> iterator) {
@@ -61,12 +70,91 @@ public interface Seq<T> extends Iterable<T> {
         return ((Seq<T>) stream::iterator).once();
     }
 
+    /**
+     * Returns a sequential stream over the elements of this sequence.
+     * <p>
+     * The spliterator is only created when the stream runs, unless its characteristics can't be known without it.
+     * Then it is created right away, like {@link Collection#stream()} does.
+     *
+     * @return The new stream.
+     */
     default Stream<T> asStream() {
-        return StreamSupport.stream(
-            () -> Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED),
-            Spliterator.ORDERED,
-            false
-        );
+        int characteristics = Seqs.characteristics(this);
+        if (characteristics < 0) {
+            return StreamSupport.stream(spliterator(), false);
+        }
+        return StreamSupport.stream(this::spliterator, characteristics, false);
+    }
+
+    /**
+     * Returns a parallel view of this sequence, running its terminal operations on the common {@link ForkJoinPool}.
+     *
+     * @return The parallel sequence.
+     */
+    default ParallelSeq<T> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns a parallel view of this sequence, running its terminal operations on the given {@link ForkJoinPool}.
+     *
+     * @param pool The pool to run on.
+     * @return The parallel sequence.
+     */
+    default ParallelSeq<T> parallel(ForkJoinPool pool) {
+        Check.notNull(pool, "pool");
+
+        return new ParallelSeq<>(this, pool);
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the elements of this sequence.
+     * <p>
+     * Sequences backed by an array or a collection return a spliterator that knows its size and splits evenly,
+     * which is kept through {@link #map(Function)} and {@link #filter(Predicate)}.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequence of the {@code count} smallest elements, in ascending natural order.
+     *
+     * @param count The number of elements to keep.
+     * @return The new sequence.
+     * @see #bottom(int, Comparator)
+     */
+    @SuppressWarnings("unchecked")
+    default Seq<T> bottom(int count) {
+        return bottom(count, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns a sequence of the {@code count} smallest elements, in ascending order.
+     * Equal elements keep their order, so this is the same as {@code sorted(comparator).take(count)}.
+     * <p>
+     * Only {@code O(count)} elements are kept in memory, instead of the whole sequence.
+     *
+     * @param count      The number of elements to keep.
+     * @param comparator The comparator to use to compare elements.
+     * @return The new sequence.
+     */
+    default Seq<T> bottom(int count, Comparator<? super T> comparator) {
+        return sorted(comparator).take(count);
+    }
+
+    /**
+     * Splits this sequence into lists of {@code size} elements. The last list may have fewer elements.
+     * <p>
+     * Each list is a new list, owned by the caller. See {@link #forEachChunk(int, Consumer)}
+     * to reuse a single buffer instead.
+     *
+     * @param size The number of elements in each list.
+     * @return The new sequence.
+     */
+    default Seq<List<T>> chunked(int size) {
+        return windowed(size, size, true);
     }
 
     /**
@@ -77,7 +165,7 @@ public interface Seq<T> extends Iterable<T> {
      */
     default Seq<T> distinct() {
         Set<T> seen = new HashSet<>();
-        return filter(seen::add);
+        return new Seqs.Sequential<>(filter(seen::add));
     }
 
     /**
@@ -92,7 +180,10 @@ public interface Seq<T> extends Iterable<T> {
         if (count == 0) {
             return this;
         }
-        return () -> new Iterators.Drop<>(iterator(), count);
+        if (this instanceof Seqs.Indexable) {
+            return new Seqs.Slice<>((Seqs.Indexable<T>) this, count, Integer.MAX_VALUE);
+        }
+        return new Seqs.Drop<>(this, count);
     }
 
     /**
@@ -104,7 +195,7 @@ public interface Seq<T> extends Iterable<T> {
     default Seq<T> dropWhile(Predicate<? super T> predicate) {
         Check.notNull(predicate, "predicate");
 
-        return () -> new Iterators.DropWhile<>(iterator(), predicate);
+        return new Seqs.DropWhile<>(this, predicate);
     }
 
     /**
@@ -116,7 +207,7 @@ public interface Seq<T> extends Iterable<T> {
     default Seq<T> filter(Predicate<? super T> predicate) {
         Check.notNull(predicate, "predicate");
 
-        return () -> new Iterators.Filter<>(iterator(), predicate);
+        return new Seqs.Filter<>(this, predicate);
     }
 
     /**
@@ -129,7 +220,7 @@ public interface Seq<T> extends Iterable<T> {
         Check.notNull(predicate, "predicate");
 
         AtomicInteger index = new AtomicInteger();
-        return filter(t -> predicate.test(index.getAndIncrement(), t));
+        return new Seqs.Sequential<>(filter(t -> predicate.test(index.getAndIncrement(), t)));
     }
 
     /**
@@ -175,7 +266,7 @@ public interface Seq<T> extends Iterable<T> {
     default <R> Seq<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> mapper) {
         Check.notNull(mapper, "mapper");
 
-        return () -> new Iterators.FlatMap<>(iterator(), mapper);
+        return new Seqs.FlatMap<>(this, mapper);
     }
 
     /**
@@ -190,17 +281,18 @@ public interface Seq<T> extends Iterable<T> {
         Check.notNull(mapper, "mapper");
 
         AtomicInteger index = new AtomicInteger();
-        return flatMap(t -> mapper.apply(index.getAndIncrement(), t));
+        return new Seqs.Sequential<>(flatMap(t -> mapper.apply(index.getAndIncrement(), t)));
     }
 
     /**
      * Returns a sequence of pairs of indexes and elements of this sequence.
+     * <p>
+     * Each index is boxed, {@link #withIndex()} returns the same pairs without boxing.
      *
      * @return The new sequence.
      */
     default Seq<Pair<Integer, T>> indexed() {
-        AtomicInteger index = new AtomicInteger();
-        return map(t -> Pair.of(index.getAndIncrement(), t));
+        return withIndex().map(pair -> Pair.of(pair.getFirst(), pair.getSecond()));
     }
 
     /**
@@ -213,7 +305,46 @@ public interface Seq<T> extends Iterable<T> {
     default <R> Seq<R> map(Function<? super T, ? extends R> mapper) {
         Check.notNull(mapper, "mapper");
 
-        return () -> new Iterators.Map<>(iterator(), mapper);
+        if (this instanceof Seqs.Indexable) {
+            return new Seqs.IndexableMap<>((Seqs.Indexable<T>) this, mapper);
+        }
+        return new Seqs.Map<>(this, mapper);
+    }
+
+    /**
+     * Returns a sequence containing the results of applying the given function to each element of this sequence.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new sequence.
+     */
+    default IntSeq mapToInt(ToIntFunction<? super T> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return () -> new PrimitiveIterators.MapToInt<>(iterator(), mapper);
+    }
+
+    /**
+     * Returns a sequence containing the results of applying the given function to each element of this sequence.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new sequence.
+     */
+    default LongSeq mapToLong(ToLongFunction<? super T> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return () -> new PrimitiveIterators.MapToLong<>(iterator(), mapper);
+    }
+
+    /**
+     * Returns a sequence containing the results of applying the given function to each element of this sequence.
+     *
+     * @param mapper The function to apply to each element.
+     * @return The new sequence.
+     */
+    default DoubleSeq mapToDouble(ToDoubleFunction<? super T> mapper) {
+        Check.notNull(mapper, "mapper");
+
+        return () -> new PrimitiveIterators.MapToDouble<>(iterator(), mapper);
     }
 
     /**
@@ -227,7 +358,7 @@ public interface Seq<T> extends Iterable<T> {
         Check.notNull(mapper, "mapper");
 
         AtomicInteger index = new AtomicInteger();
-        return map(t -> mapper.apply(index.getAndIncrement(), t));
+        return new Seqs.Sequential<>(map(t -> mapper.apply(index.getAndIncrement(), t)));
     }
 
     /**
@@ -244,6 +375,8 @@ public interface Seq<T> extends Iterable<T> {
 
     /**
      * Perform the given action for each element in the sequence, returning the sequence itself.
+     * <p>
+     * The action is only performed for elements that are actually iterated, see {@link #count()}.
      *
      * @param action The action to be performed for each element.
      */
@@ -258,6 +391,8 @@ public interface Seq<T> extends Iterable<T> {
 
     /**
      * Perform the given action for each element in the sequence, returning the sequence itself.
+     * <p>
+     * The action is only performed for elements that are actually iterated, see {@link #count()}.
      *
      * @param action The action to be performed for each element.
      * @return The sequence itself.
@@ -266,10 +401,10 @@ public interface Seq<T> extends Iterable<T> {
         Check.notNull(action, "action");
 
         AtomicInteger index = new AtomicInteger();
-        return map(t -> {
+        return new Seqs.Sequential<>(map(t -> {
             action.accept(index.getAndIncrement(), t);
             return t;
-        });
+        }));
     }
 
     /**
@@ -284,6 +419,10 @@ public interface Seq<T> extends Iterable<T> {
 
     /**
      * Returns a sorted sequence containing the elements of this sequence, using the given comparator.
+     * The sort is stable.
+     * <p>
+     * When followed by {@link #take(int)} or {@link #first()}, only the selected elements are kept and sorted.
+     * {@link #min()} and {@link #max()} don't sort at all.
      *
      * @param comparator The comparator to use to compare elements.
      * @return The new sequence.
@@ -291,11 +430,36 @@ public interface Seq<T> extends Iterable<T> {
     default Seq<T> sorted(Comparator<? super T> comparator) {
         Check.notNull(comparator, "comparator");
 
-        return () -> {
-            List<T> list = toList();
-            list.sort(comparator);
-            return list.iterator();
-        };
+        return new Seqs.Sorted<>(this, comparator);
+    }
+
+    /**
+     * Returns a sorted sequence containing the elements of this sequence, using the given comparator,
+     * without holding all elements in memory. The sort is stable.
+     * <p>
+     * The elements are collected into runs of at most {@code maxRunSize} elements.
+     * Each full run is sorted and written to a temporary file in {@code tempDir} using the serializer.
+     * The runs are merged lazily while the result is iterated, and deleted once they're read.
+     * If everything fits in a single run, nothing is written at all.
+     * <p>
+     * The source is read and spilled each time the sequence is iterated.
+     * Files are cleaned up when iteration completes, or when a terminal operation stops early,
+     * but not when an {@link #iterator()} is abandoned halfway.
+     * Elements must not be {@code null}. I/O errors are thrown as {@link java.io.UncheckedIOException}.
+     *
+     * @param comparator The comparator to use to compare elements.
+     * @param serializer The serializer to write and read back the elements.
+     * @param maxRunSize The maximum number of elements to keep in memory.
+     * @param tempDir    The directory for the temporary files.
+     * @return The new sequence.
+     */
+    default Seq<T> sortedExternal(Comparator<? super T> comparator, Serializer<T> serializer, int maxRunSize, Path tempDir) {
+        Check.notNull(comparator, "comparator");
+        Check.notNull(serializer, "serializer");
+        Check.argument(maxRunSize > 0, "maxRunSize must be positive");
+        Check.notNull(tempDir, "tempDir");
+
+        return new ExternalSort<>(this, comparator, serializer, maxRunSize, tempDir);
     }
 
     /**
@@ -309,30 +473,88 @@ public interface Seq<T> extends Iterable<T> {
         if (count == 0) {
             return of();
         }
-        return () -> new Iterators.Take<>(iterator(), count);
+        if (this instanceof Seqs.Indexable) {
+            return new Seqs.Slice<>((Seqs.Indexable<T>) this, 0, count);
+        }
+        return new Seqs.Take<>(this, count);
     }
 
     default Seq<T> takeWhile(Predicate<? super T> predicate) {
         Check.notNull(predicate, "predicate");
-        return () -> new Iterators.TakeWhile<>(iterator(), predicate);
+        return new Seqs.TakeWhile<>(this, predicate);
+    }
+
+    /**
+     * Returns a sequence of the {@code count} largest elements, in descending natural order.
+     *
+     * @param count The number of elements to keep.
+     * @return The new sequence.
+     * @see #top(int, Comparator)
+     */
+    @SuppressWarnings("unchecked")
+    default Seq<T> top(int count) {
+        return top(count, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns a sequence of the {@code count} largest elements, in descending order.
+     * Equal elements keep their order, so this is the same as {@code sorted(comparator.reversed()).take(count)}.
+     * <p>
+     * Only {@code O(count)} elements are kept in memory, instead of the whole sequence.
+     *
+     * @param count      The number of elements to keep.
+     * @param comparator The comparator to use to compare elements.
+     * @return The new sequence.
+     */
+    default Seq<T> top(int count, Comparator<? super T> comparator) {
+        Check.notNull(comparator, "comparator");
+
+        return sorted(comparator.reversed()).take(count);
+    }
+
+    /**
+     * Returns a sequence of lists of {@code size} elements, each starting {@code step} elements after the previous one.
+     * <p>
+     * With {@code step < size} the windows overlap, with {@code step > size} elements are skipped in between.
+     * If {@code partial} is {@code true}, the windows at the end with fewer than {@code size} elements are kept.
+     *
+     * @param size    The number of elements in each window.
+     * @param step    The number of elements between the start of two windows.
+     * @param partial Whether to keep the smaller windows at the end.
+     * @return The new sequence.
+     */
+    default Seq<List<T>> windowed(int size, int step, boolean partial) {
+        Check.argument(size > 0, "size must be positive");
+        Check.argument(step > 0, "step must be positive");
+
+        return new Seqs.Windowed<>(this, size, step, partial);
+    }
+
+    /**
+     * Returns a sequence of pairs of indexes and elements of this sequence, with the index as a primitive {@code int}.
+     * <p>
+     * The index starts from zero every time the sequence is iterated.
+     *
+     * @return The new sequence.
+     */
+    default Seq<IntObjPair<T>> withIndex() {
+        if (this instanceof Seqs.Indexable) {
+            return new Seqs.IndexableWithIndex<>((Seqs.Indexable<T>) this);
+        }
+        return new Seqs.WithIndex<>(this);
     }
 
     default boolean all(Predicate<? super T> predicate) {
         Check.notNull(predicate, "predicate");
 
-        for (T element : this) {
-            if (!predicate.test(element)) {
-                return false;
-            }
-        }
-        return true;
+        return forEachUntil(predicate);
     }
 
     /**
      * Returns true if the sequence has at least one element.
      */
     default boolean any() {
-        return iterator().hasNext();
+        return !forEachUntil(element -> false);
     }
 
     /**
@@ -379,13 +601,19 @@ public interface Seq<T> extends Iterable<T> {
 
     /**
      * Returns the number of elements in the sequence.
+     * <p>
+     * If the size is known from the source, like an array or a collection,
+     * the elements are not iterated, and functions passed to {@link #map(Function)} or {@link #onEach(Consumer)} are not called.
      */
     default int count() {
-        int count = 0;
-        for (T ignored : this) {
-            count++;
+        int size = Seqs.sizeOf(this);
+        if (size >= 0) {
+            return size;
         }
-        return count;
+
+        SeqHelpers.Counter<T> counter = new SeqHelpers.Counter<>();
+        forEachUntil(counter);
+        return counter.count;
     }
 
     /**
@@ -397,11 +625,57 @@ public interface Seq<T> extends Iterable<T> {
         return filter(predicate).count();
     }
 
+    /**
+     * Counts the elements of the sequence per key, given by the key selector function.
+     *
+     * @param keyMapper The function to transform the elements into keys.
+     * @param <K>       The type of the keys.
+     * @return The map with each key mapping to the number of elements with that key.
+     */
+    default <K> Map<K, Long> countBy(Function<? super T, ? extends K> keyMapper) {
+        return countBy(keyMapper, new HashMap<>());
+    }
+
+    /**
+     * Counts the elements of the sequence per key, given by the key selector function, into the destination map.
+     * Counts for keys already in the map are added to.
+     * <p>
+     * The counts are kept as primitives in a separate map while iterating,
+     * the destination only receives the totals at the end. To avoid rehashing, see {@link #countBy(Function, int)}.
+     *
+     * @param keyMapper   The function to transform the elements into keys.
+     * @param destination The map to store the counts in.
+     * @param <K>         The type of the keys.
+     * @param <M>         The type of the map.
+     * @return The destination map.
+     */
+    default <K, M extends Map<K, Long>> M countBy(Function<? super T, ? extends K> keyMapper, M destination) {
+        return sumBy(keyMapper, __ -> 1L, destination);
+    }
+
+    /**
+     * Counts the elements of the sequence per key, given by the key selector function.
+     * The maps are sized up front for {@code expectedKeys}, so they don't rehash while counting.
+     *
+     * @param keyMapper    The function to transform the elements into keys.
+     * @param expectedKeys The expected number of distinct keys.
+     * @param <K>          The type of the keys.
+     * @return The map with each key mapping to the number of elements with that key.
+     */
+    default <K> Map<K, Long> countBy(Function<? super T, ? extends K> keyMapper, int expectedKeys) {
+        return sumBy(keyMapper, __ -> 1L, expectedKeys);
+    }
+
     /**
      * Returns the first element in the sequence.
      */
     default T first() {
-        return SeqHelpers.nonEmpty(this).next();
+        SeqHelpers.First<T> first = new SeqHelpers.First<>();
+        forEachUntil(first);
+        if (!first.found) {
+            throw SeqHelpers.noElements();
+        }
+        return first.element;
     }
 
     /**
@@ -418,7 +692,9 @@ public interface Seq<T> extends Iterable<T> {
      * or an empty {@link Optional} if the sequence is empty.
      */
     default Optional<T> firstOptional() {
-        return SeqHelpers.optional(this).map(Iterator::next);
+        SeqHelpers.First<T> first = new SeqHelpers.First<>();
+        forEachUntil(first);
+        return Optional.ofNullable(first.element);
     }
 
     /**
@@ -439,9 +715,59 @@ public interface Seq<T> extends Iterable<T> {
     default void forEach(Consumer<? super T> consumer) {
         Check.notNull(consumer, "consumer");
 
-        for (T element : this) {
+        forEachUntil(element -> {
             consumer.accept(element);
+            return true;
+        });
+    }
+
+    /**
+     * Performs the given action for each chunk of {@code size} elements in the sequence. The last chunk may be smaller.
+     * <p>
+     * All chunks are passed in the same read-only list, which is cleared after the action returns.
+     * So nothing is allocated per chunk, but the action must copy the elements if it wants to keep them.
+     *
+     * @param size   The number of elements in each chunk.
+     * @param action The action to be performed for each chunk.
+     */
+    default void forEachChunk(int size, Consumer<? super List<T>> action) {
+        Check.argument(size > 0, "size must be positive");
+        Check.notNull(action, "action");
+
+        List<T> buffer = new ArrayList<>(Math.min(size, 1024));
+        List<T> view = Collections.unmodifiableList(buffer);
+        forEach(element -> {
+            buffer.add(element);
+            if (buffer.size() == size) {
+                action.accept(view);
+                buffer.clear();
+            }
+        });
+        if (!buffer.isEmpty()) {
+            action.accept(view);
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Performs the given action for each element in the sequence, until the action returns {@code false}.
+     * <p>
+     * This is the push-based counterpart of {@link #iterator()}, and is what the terminal operations are built on.
+     * Intermediate operations forward their elements straight into the action,
+     * so a whole pipeline runs as a single loop over the source.
+     *
+     * @param action The action to be performed for each element, returning {@code false} to stop.
+     * @return {@code true} if all elements were consumed, {@code false} if the action stopped early.
+     */
+    default boolean forEachUntil(Predicate<? super T> action) {
+        Check.notNull(action, "action");
+
+        for (T element : this) {
+            if (!action.test(element)) {
+                return false;
+            }
         }
+        return true;
     }
 
     /**
@@ -465,7 +791,11 @@ public interface Seq<T> extends Iterable<T> {
      * @return The accumulated value.
      */
     default <R> R fold(R initial, BiFunction<R, ? super T, ? extends R> operation) {
-        return SeqHelpers.fold(iterator(), initial, operation);
+        Check.notNull(operation, "operation");
+
+        SeqHelpers.Folder<T, R> folder = new SeqHelpers.Folder<>(initial, operation);
+        forEachUntil(folder);
+        return folder.accumulator;
     }
 
     /**
@@ -498,16 +828,71 @@ public interface Seq<T> extends Iterable<T> {
         Check.notNull(valueMapper, "valueMapper");
 
         Map<K, List<V>> result = new HashMap<>();
-        for (T element : this) {
+        forEach(element -> {
             K key = keyMapper.apply(element);
             V value = valueMapper.apply(element);
             result
                 .computeIfAbsent(key, __ -> new ArrayList<>())
                 .add(value);
-        }
+        });
         return result;
     }
 
+    /**
+     * Folds the elements of the sequence per key, given by the key selector function.
+     * Only the accumulated value is kept for each key, not the elements.
+     * <p>
+     * Every key starts from the same {@code initial} value, so it should not be mutated by {@code operation}.
+     * {@code operation} must not return {@code null}, as that can't be told apart from a missing key.
+     *
+     * @param keyMapper The function to transform the elements into keys.
+     * @param initial   The initial value for each key.
+     * @param operation The operation to perform on the accumulated value and each element.
+     * @param <K>       The type of the keys.
+     * @param <R>       The type of the accumulated values.
+     * @return The map with each key mapping to the accumulated value.
+     */
+    default <K, R> Map<K, R> groupingFold(
+        Function<? super T, ? extends K> keyMapper,
+        R initial,
+        BiFunction<? super R, ? super T, ? extends R> operation
+    ) {
+        return groupingFold(keyMapper, initial, operation, new HashMap<>());
+    }
+
+    /**
+     * Folds the elements of the sequence per key, given by the key selector function, into the destination map.
+     * Keys already in the map continue from their current value instead of {@code initial}.
+     *
+     * @param keyMapper   The function to transform the elements into keys.
+     * @param initial     The initial value for each key.
+     * @param operation   The operation to perform on the accumulated value and each element.
+     * @param destination The map to store the accumulated values in.
+     * @param <K>         The type of the keys.
+     * @param <R>         The type of the accumulated values.
+     * @param <M>         The type of the map.
+     * @return The destination map.
+     */
+    default <K, R, M extends Map<K, R>> M groupingFold(
+        Function<? super T, ? extends K> keyMapper,
+        R initial,
+        BiFunction<? super R, ? super T, ? extends R> operation,
+        M destination
+    ) {
+        Check.notNull(keyMapper, "keyMapper");
+        Check.notNull(operation, "operation");
+        Check.notNull(destination, "destination");
+
+        forEach(element -> destination.compute(
+            keyMapper.apply(element),
+            (key, accumulator) -> Check.notNull(
+                operation.apply(accumulator == null ? initial : accumulator, element),
+                "operation returned null"
+            )
+        ));
+        return destination;
+    }
+
     /**
      * Returns the index of the first occurrence of the specified element in the sequence,
      * or -1 if the sequence does not contain the element.
@@ -525,21 +910,31 @@ public interface Seq<T> extends Iterable<T> {
      * @param predicate The predicate to match.
      */
     default int indexOf(Predicate<? super T> predicate) {
-        int index = 0;
-        for (T element : this) {
-            if (predicate.test(element)) {
-                return index;
-            }
-            index++;
-        }
-        return -1;
+        Check.notNull(predicate, "predicate");
+
+        SeqHelpers.Counter<T> counter = new SeqHelpers.Counter<>();
+        return forEachUntil(element -> !predicate.test(element) && counter.test(element)) ? -1 : counter.count;
     }
 
     /**
      * Returns the last element in the sequence.
      */
     default T last() {
-        return SeqHelpers.last(SeqHelpers.nonEmpty(this));
+        if (this instanceof Seqs.Indexable) {
+            Seqs.Indexable<T> indexable = (Seqs.Indexable<T>) this;
+            int size = indexable.size();
+            if (size == 0) {
+                throw SeqHelpers.noElements();
+            }
+            return indexable.get(size - 1);
+        }
+
+        SeqHelpers.Last<T> last = new SeqHelpers.Last<>();
+        forEachUntil(last);
+        if (!last.found) {
+            throw SeqHelpers.noElements();
+        }
+        return last.element;
     }
 
     /**
@@ -556,7 +951,15 @@ public interface Seq<T> extends Iterable<T> {
      * or an empty {@link Optional} if the sequence is empty.
      */
     default Optional<T> lastOptional() {
-        return SeqHelpers.optional(this).map(SeqHelpers::last);
+        if (this instanceof Seqs.Indexable) {
+            Seqs.Indexable<T> indexable = (Seqs.Indexable<T>) this;
+            int size = indexable.size();
+            return size == 0 ? Optional.empty() : Optional.ofNullable(indexable.get(size - 1));
+        }
+
+        SeqHelpers.Last<T> last = new SeqHelpers.Last<>();
+        forEachUntil(last);
+        return Optional.ofNullable(last.element);
     }
 
     /**
@@ -586,6 +989,18 @@ public interface Seq<T> extends Iterable<T> {
      * @param predicate The predicate to match.
      */
     default int lastIndexOf(Predicate<? super T> predicate) {
+        Check.notNull(predicate, "predicate");
+
+        if (this instanceof Seqs.Indexable) {
+            Seqs.Indexable<T> indexable = (Seqs.Indexable<T>) this;
+            for (int i = indexable.size() - 1; i >= 0; i--) {
+                if (predicate.test(indexable.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
         int index = 0;
         int lastIndex = -1;
         for (T element : this) {
@@ -669,7 +1084,7 @@ public interface Seq<T> extends Iterable<T> {
      * Returns {@code true} if the sequence contains no elements.
      */
     default boolean none() {
-        return !iterator().hasNext();
+        return !any();
     }
 
     /**
@@ -738,7 +1153,7 @@ public interface Seq<T> extends Iterable<T> {
      * @return The sum.
      */
     default int sum(ToIntFunction<? super T> mapper) {
-        return SeqHelpers.fold(iterator(), mapper, 0, Integer::sum);
+        return SeqHelpers.fold(this, mapper, 0, Integer::sum);
     }
 
     /**
@@ -748,7 +1163,7 @@ public interface Seq<T> extends Iterable<T> {
      * @return The sum.
      */
     default long sum(ToLongFunction<? super T> mapper) {
-        return SeqHelpers.fold(iterator(), mapper, 0, Long::sum);
+        return SeqHelpers.fold(this, mapper, 0, Long::sum);
     }
 
     /**
@@ -758,7 +1173,68 @@ public interface Seq<T> extends Iterable<T> {
      * @return The sum.
      */
     default double sum(ToDoubleFunction<? super T> mapper) {
-        return SeqHelpers.fold(iterator(), mapper, 0, Double::sum);
+        return SeqHelpers.fold(this, mapper, 0, Double::sum);
+    }
+
+    /**
+     * Sums the values given by the value selector function per key, given by the key selector function.
+     *
+     * @param keyMapper   The function to transform the elements into keys.
+     * @param valueMapper The function to transform the elements into values.
+     * @param <K>         The type of the keys.
+     * @return The map with each key mapping to the sum of its values.
+     */
+    default <K> Map<K, Long> sumBy(Function<? super T, ? extends K> keyMapper, ToLongFunction<? super T> valueMapper) {
+        return sumBy(keyMapper, valueMapper, new HashMap<>());
+    }
+
+    /**
+     * Sums the values given by the value selector function per key, given by the key selector function,
+     * into the destination map. Sums for keys already in the map are added to.
+     * <p>
+     * The sums are kept as primitives in a separate map while iterating,
+     * the destination only receives the totals at the end. To avoid rehashing, see {@link #sumBy(Function, ToLongFunction, int)}.
+     *
+     * @param keyMapper   The function to transform the elements into keys.
+     * @param valueMapper The function to transform the elements into values.
+     * @param destination The map to store the sums in.
+     * @param <K>         The type of the keys.
+     * @param <M>         The type of the map.
+     * @return The destination map.
+     */
+    default <K, M extends Map<K, Long>> M sumBy(
+        Function<? super T, ? extends K> keyMapper,
+        ToLongFunction<? super T> valueMapper,
+        M destination
+    ) {
+        Check.notNull(keyMapper, "keyMapper");
+        Check.notNull(valueMapper, "valueMapper");
+        Check.notNull(destination, "destination");
+
+        return SeqHelpers.addTo(SeqHelpers.sumBy(this, keyMapper, valueMapper, new HashMap<>()), destination);
+    }
+
+    /**
+     * Sums the values given by the value selector function per key, given by the key selector function.
+     * The maps are sized up front for {@code expectedKeys}, so they don't rehash while summing.
+     *
+     * @param keyMapper    The function to transform the elements into keys.
+     * @param valueMapper  The function to transform the elements into values.
+     * @param expectedKeys The expected number of distinct keys.
+     * @param <K>          The type of the keys.
+     * @return The map with each key mapping to the sum of its values.
+     */
+    default <K> Map<K, Long> sumBy(
+        Function<? super T, ? extends K> keyMapper,
+        ToLongFunction<? super T> valueMapper,
+        int expectedKeys
+    ) {
+        Check.notNull(keyMapper, "keyMapper");
+        Check.notNull(valueMapper, "valueMapper");
+        Check.argument(expectedKeys >= 0, "Negative expectedKeys");
+
+        Map<K, long[]> sums = SeqHelpers.sumBy(this, keyMapper, valueMapper, SeqHelpers.newHashMap(expectedKeys));
+        return SeqHelpers.addTo(sums, SeqHelpers.newHashMap(sums.size()));
     }
 
     /**
@@ -767,10 +1243,9 @@ public interface Seq<T> extends Iterable<T> {
      * @param mapper The function to apply to each element.
      */
     default IntSummaryStatistics summary(ToIntFunction<? super T> mapper) {
-        return SeqHelpers.fold(iterator(), new IntSummaryStatistics(), (statistics, element) -> {
-            statistics.accept(mapper.applyAsInt(element));
-            return statistics;
-        });
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        forEach(element -> statistics.accept(mapper.applyAsInt(element)));
+        return statistics;
     }
 
     /**
@@ -779,10 +1254,9 @@ public interface Seq<T> extends Iterable<T> {
      * @param mapper The function to apply to each element.
      */
     default LongSummaryStatistics summary(ToLongFunction<? super T> mapper) {
-        return SeqHelpers.fold(iterator(), new LongSummaryStatistics(), (statistics, element) -> {
-            statistics.accept(mapper.applyAsLong(element));
-            return statistics;
-        });
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        forEach(element -> statistics.accept(mapper.applyAsLong(element)));
+        return statistics;
     }
 
     /**
@@ -791,23 +1265,21 @@ public interface Seq<T> extends Iterable<T> {
      * @param mapper The function to apply to each element.
      */
     default DoubleSummaryStatistics summary(ToDoubleFunction<? super T> mapper) {
-        return SeqHelpers.fold(iterator(), new DoubleSummaryStatistics(), (statistics, element) -> {
-            statistics.accept(mapper.applyAsDouble(element));
-            return statistics;
-        });
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        forEach(element -> statistics.accept(mapper.applyAsDouble(element)));
+        return statistics;
     }
 
     default <C extends Collection<? super T>> C toCollection(C destination) {
         Check.notNull(destination, "destination");
 
-        for (T element : this) {
-            destination.add(element);
-        }
+        forEach(destination::add);
         return destination;
     }
 
     default List<T> toList() {
-        return toCollection(new ArrayList<>());
+        int size = Seqs.sizeOf(this);
+        return toCollection(size >= 0 ? new ArrayList<>(size) : new ArrayList<>());
     }
 
     default Set<T> toSet() {
@@ -827,14 +1299,14 @@ public interface Seq<T> extends Iterable<T> {
         Check.notNull(valueMapper, "valueMapper");
         Check.notNull(destination, "destination");
 
-        for (T element : this) {
+        forEach(element -> {
             K key = keyMapper.apply(element);
             V value = valueMapper.apply(element);
             V oldValue = destination.putIfAbsent(key, value);
             if (oldValue != null) {
                 throw new IllegalStateException("Duplicate key: " + key);
             }
-        }
+        });
 
         return destination;
     }
@@ -8,11 +8,43 @@ import java.util.function.*;
 final class SeqHelpers {
 
     static final Seq<?> Empty = Collections::emptyIterator;
+    static final IntSeq EmptyInt = () -> Spliterators.iterator(Spliterators.emptyIntSpliterator());
+    static final LongSeq EmptyLong = () -> Spliterators.iterator(Spliterators.emptyLongSpliterator());
+    static final DoubleSeq EmptyDouble = () -> Spliterators.iterator(Spliterators.emptyDoubleSpliterator());
 
     private SeqHelpers() {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Sums the values per key into {@code sums}, keeping them as primitives.
+     */
+    static <T, K> Map<K, long[]> sumBy(
+        Seq<T> seq,
+        Function<? super T, ? extends K> keyMapper,
+        ToLongFunction<? super T> valueMapper,
+        Map<K, long[]> sums
+    ) {
+        seq.forEach(element -> sums
+            .computeIfAbsent(keyMapper.apply(element), __ -> new long[1])[0] += valueMapper.applyAsLong(element));
+        return sums;
+    }
+
+    /**
+     * Returns a {@link HashMap} that holds {@code expectedSize} entries without rehashing.
+     */
+    static <K, V> HashMap<K, V> newHashMap(int expectedSize) {
+        return new HashMap<>((int) Math.ceil(expectedSize / 0.75));
+    }
+
+    /**
+     * Adds the primitive sums to the values in the destination map.
+     */
+    static <K, M extends Map<K, Long>> M addTo(Map<K, long[]> sums, M destination) {
+        sums.forEach((key, sum) -> destination.merge(key, sum[0], Long::sum));
+        return destination;
+    }
+
     static <T> double average(Iterator<T> iterator, ToDoubleFunction<? super T> mapper) {
         double sum = 0;
         int count = 0;
@@ -53,45 +85,43 @@ final class SeqHelpers {
         return accumulator;
     }
 
-    static <E> double fold(Iterator<E> iterator, ToDoubleFunction<? super E> mapper, double initial, DoubleBinaryOperator operator) {
+    static <E> double fold(Seq<E> seq, ToDoubleFunction<? super E> mapper, double initial, DoubleBinaryOperator operator) {
         Check.notNull(operator, "operator");
         Check.notNull(mapper, "mapper");
 
-        double accumulator = initial;
-        while (iterator.hasNext()) {
-            accumulator = operator.applyAsDouble(accumulator, mapper.applyAsDouble(iterator.next()));
-        }
-        return accumulator;
+        DoubleFolder<E> folder = new DoubleFolder<>(mapper, initial, operator);
+        seq.forEachUntil(folder);
+        return folder.accumulator;
     }
 
-    static <E> int fold(Iterator<E> iterator, ToIntFunction<? super E> mapper, int initial, IntBinaryOperator operator) {
+    static <E> int fold(Seq<E> seq, ToIntFunction<? super E> mapper, int initial, IntBinaryOperator operator) {
         Check.notNull(operator, "operator");
         Check.notNull(mapper, "mapper");
 
-        int accumulator = initial;
-        while (iterator.hasNext()) {
-            accumulator = operator.applyAsInt(accumulator, mapper.applyAsInt(iterator.next()));
-        }
-        return accumulator;
+        IntFolder<E> folder = new IntFolder<>(mapper, initial, operator);
+        seq.forEachUntil(folder);
+        return folder.accumulator;
     }
 
-    static <E> long fold(Iterator<E> iterator, ToLongFunction<? super E> mapper, long initial, LongBinaryOperator operator) {
+    static <E> long fold(Seq<E> seq, ToLongFunction<? super E> mapper, long initial, LongBinaryOperator operator) {
         Check.notNull(operator, "operator");
         Check.notNull(mapper, "mapper");
 
-        long accumulator = initial;
-        while (iterator.hasNext()) {
-            accumulator = operator.applyAsLong(accumulator, mapper.applyAsLong(iterator.next()));
-        }
-        return accumulator;
+        LongFolder<E> folder = new LongFolder<>(mapper, initial, operator);
+        seq.forEachUntil(folder);
+        return folder.accumulator;
     }
 
-    static <T> T last(Iterator<T> iterator) {
-        T last = iterator.next();
-        while (iterator.hasNext()) {
-            last = iterator.next();
+    static <E> boolean forEachUntil(Iterable<E> iterable, Predicate<? super E> action) {
+        if (iterable instanceof Seq) {
+            return ((Seq<E>) iterable).forEachUntil(action);
         }
-        return last;
+        for (E element : iterable) {
+            if (!action.test(element)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @SuppressWarnings("unchecked")
@@ -112,10 +142,14 @@ final class SeqHelpers {
         return reduce(iterator, (a, b) -> comparator.compare(a, b) < 0 ? a : b);
     }
 
+    static NoSuchElementException noElements() {
+        return new NoSuchElementException("Sequence contains no elements");
+    }
+
     static <T> Iterator<T> nonEmpty(Seq<T> seq) {
         Iterator<T> iterator = seq.iterator();
         if (!iterator.hasNext()) {
-            throw new NoSuchElementException("Sequence contains no elements");
+            throw noElements();
         }
         return iterator;
     }
@@ -141,4 +175,168 @@ final class SeqHelpers {
         return null;
     }
 
+    // region Sinks
+
+    static final class Counter<E> implements Predicate<E> {
+        int count;
+
+        @Override
+        public boolean test(E element) {
+            count++;
+            return true;
+        }
+    }
+
+    static final class First<E> implements Predicate<E> {
+        boolean found;
+        E element;
+
+        @Override
+        public boolean test(E element) {
+            this.found = true;
+            this.element = element;
+            return false;
+        }
+    }
+
+    static final class Last<E> implements Predicate<E> {
+        boolean found;
+        E element;
+
+        @Override
+        public boolean test(E element) {
+            this.found = true;
+            this.element = element;
+            return true;
+        }
+    }
+
+    /**
+     * Keeps the {@code k} smallest elements, in a buffer of at most {@code 2k} elements.
+     * <p>
+     * A full buffer is sorted and cut back to {@code k}, after which the last kept element is a threshold
+     * that rejects most of the remaining elements with a single comparison. That's O(n log k) time overall.
+     * The sort is stable and new elements are always appended after the kept ones,
+     * so ties are resolved in encounter order, the same as a full sort.
+     */
+    static final class Selector<E> implements Predicate<E> {
+        /**
+         * Anything at or above this is treated as unbounded, so {@code 2k} can't overflow.
+         */
+        static final int MaxCount = Integer.MAX_VALUE / 2;
+
+        private final Comparator<? super E> comparator;
+        private final int k;
+        private final List<E> buffer;
+        private boolean full;
+        private E threshold;
+
+        Selector(Comparator<? super E> comparator, int k) {
+            this.comparator = comparator;
+            this.k = k;
+            this.buffer = new ArrayList<>(Math.min(k, 1024) * 2);
+        }
+
+        @Override
+        public boolean test(E element) {
+            if (full && comparator.compare(element, threshold) >= 0) {
+                return true;
+            }
+            buffer.add(element);
+            if (buffer.size() == 2 * k) {
+                truncate();
+                full = true;
+                threshold = buffer.get(k - 1);
+            }
+            return true;
+        }
+
+        /**
+         * Returns the smallest {@code k} elements, in order.
+         */
+        List<E> result() {
+            truncate();
+            return buffer;
+        }
+
+        private void truncate() {
+            buffer.sort(comparator);
+            if (buffer.size() > k) {
+                buffer.subList(k, buffer.size()).clear();
+            }
+        }
+    }
+
+    static final class Folder<E, R> implements Predicate<E> {
+        private final BiFunction<? super R, ? super E, ? extends R> operation;
+        R accumulator;
+
+        Folder(R initial, BiFunction<? super R, ? super E, ? extends R> operation) {
+            this.operation = operation;
+            this.accumulator = initial;
+        }
+
+        @Override
+        public boolean test(E element) {
+            accumulator = operation.apply(accumulator, element);
+            return true;
+        }
+    }
+
+    private static final class DoubleFolder<E> implements Predicate<E> {
+        private final ToDoubleFunction<? super E> mapper;
+        private final DoubleBinaryOperator operator;
+        private double accumulator;
+
+        private DoubleFolder(ToDoubleFunction<? super E> mapper, double initial, DoubleBinaryOperator operator) {
+            this.mapper = mapper;
+            this.operator = operator;
+            this.accumulator = initial;
+        }
+
+        @Override
+        public boolean test(E element) {
+            accumulator = operator.applyAsDouble(accumulator, mapper.applyAsDouble(element));
+            return true;
+        }
+    }
+
+    private static final class IntFolder<E> implements Predicate<E> {
+        private final ToIntFunction<? super E> mapper;
+        private final IntBinaryOperator operator;
+        private int accumulator;
+
+        private IntFolder(ToIntFunction<? super E> mapper, int initial, IntBinaryOperator operator) {
+            this.mapper = mapper;
+            this.operator = operator;
+            this.accumulator = initial;
+        }
+
+        @Override
+        public boolean test(E element) {
+            accumulator = operator.applyAsInt(accumulator, mapper.applyAsInt(element));
+            return true;
+        }
+    }
+
+    private static final class LongFolder<E> implements Predicate<E> {
+        private final ToLongFunction<? super E> mapper;
+        private final LongBinaryOperator operator;
+        private long accumulator;
+
+        private LongFolder(ToLongFunction<? super E> mapper, long initial, LongBinaryOperator operator) {
+            this.mapper = mapper;
+            this.operator = operator;
+            this.accumulator = initial;
+        }
+
+        @Override
+        public boolean test(E element) {
+            accumulator = operator.applyAsLong(accumulator, mapper.applyAsLong(element));
+            return true;
+        }
+    }
+
+    // endregion
+
 }
@@ -1,14 +1,79 @@
 package be.twofold.common.seq;
 
+import be.twofold.common.*;
+import be.twofold.common.tuple.*;
+
 import java.util.*;
 import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 final class Seqs {
 
+    /**
+     * Whether a type of sequence keeps the default, unknown size, spliterator of {@link Seq#spliterator()}.
+     */
+    private static final ClassValue<Boolean> DefaultSpliterator = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("spliterator").getDeclaringClass() == Seq.class;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
     private Seqs() {
         throw new UnsupportedOperationException();
     }
 
+    static int sizeOf(Seq<?> seq) {
+        return seq instanceof Sized ? ((Sized) seq).size() : -1;
+    }
+
+    /**
+     * Returns the characteristics of {@code seq.spliterator()} without creating it,
+     * or {@code -1} if only the spliterator itself can tell, like for a collection.
+     */
+    static int characteristics(Seq<?> seq) {
+        if (DefaultSpliterator.get(seq.getClass())) {
+            return Spliterator.ORDERED;
+        }
+        if (seq instanceof ArraySeq) {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE;
+        }
+        if (seq instanceof Slice) {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+        }
+        if (seq instanceof Filter) {
+            int characteristics = characteristics(((Filter<?>) seq).source);
+            return characteristics < 0 ? -1 : characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+        if (seq instanceof Map || seq instanceof IndexableMap) {
+            Seq<?> source = seq instanceof Map ? ((Map<?, ?>) seq).source : ((IndexableMap<?, ?>) seq).source;
+            int characteristics = characteristics(source);
+            return characteristics < 0 ? -1 : characteristics & ~(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL);
+        }
+        return -1;
+    }
+
+    /**
+     * Implemented by sequences that can tell their size without iterating.
+     */
+    interface Sized {
+        /**
+         * Returns the number of elements, or {@code -1} if it is not known.
+         */
+        int size();
+    }
+
+    /**
+     * Implemented by sequences that have a known size and can access their elements by index.
+     */
+    interface Indexable<T> extends Seq<T>, Sized {
+        T get(int index);
+    }
+
     static final class Once<T> implements Seq<T> {
         private final AtomicReference<Seq<T>> reference;
 
@@ -18,12 +83,759 @@ final class Seqs {
 
         @Override
         public Iterator<T> iterator() {
+            return take().iterator();
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            return take().forEachUntil(action);
+        }
+
+        private Seq<T> take() {
             Seq<T> seq = reference.getAndSet(null);
             if (seq == null) {
                 throw new IllegalStateException("Sequence can only be iterated once");
             }
-            return seq.iterator();
+            return seq;
+        }
+    }
+
+    // region Sources
+
+    static final class ArraySeq<T> implements Seq<T>, Indexable<T> {
+        private final T[] array;
+
+        ArraySeq(T[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+
+        @Override
+        public T get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Arrays.asList(array).iterator();
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            for (T element : array) {
+                if (!action.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return Arrays.spliterator(array);
+        }
+    }
+
+    static final class CollectionSeq<T> implements Seq<T>, Sized {
+        private final Collection<T> collection;
+
+        CollectionSeq(Collection<T> collection) {
+            this.collection = collection;
+        }
+
+        @Override
+        public int size() {
+            return collection.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return collection.iterator();
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return collection.spliterator();
+        }
+    }
+
+    static final class IterableSeq<T> implements Seq<T> {
+        private final Iterable<T> iterable;
+
+        IterableSeq(Iterable<T> iterable) {
+            this.iterable = iterable;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return iterable.iterator();
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return iterable.spliterator();
+        }
+    }
+
+    static final class ListSeq<T> implements Seq<T>, Indexable<T> {
+        private final List<T> list;
+
+        ListSeq(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return list.iterator();
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return list.spliterator();
+        }
+    }
+
+    /**
+     * A view of a range of an indexable sequence, so drop and take don't have to walk the skipped elements.
+     * The bounds are resolved against the size of the source when the slice is used.
+     */
+    static final class Slice<T> implements Seq<T>, Indexable<T> {
+        private final Indexable<T> source;
+        private final int from;
+        private final int limit;
+
+        Slice(Indexable<T> source, int from, int limit) {
+            this.source = source;
+            this.from = from;
+            this.limit = limit;
+        }
+
+        @Override
+        public int size() {
+            return Math.max(0, Math.min(source.size() - from, limit));
+        }
+
+        @Override
+        public T get(int index) {
+            return source.get(from + Objects.checkIndex(index, size()));
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return asList().iterator();
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            for (int i = from, to = from + size(); i < to; i++) {
+                if (!action.test(source.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return asList().spliterator();
+        }
+
+        @Override
+        public Seq<T> drop(int count) {
+            Check.argument(count >= 0, "Negative count");
+
+            return new Slice<>(source, saturatedAdd(from, count), Math.max(0, limit - count));
+        }
+
+        @Override
+        public Seq<T> take(int count) {
+            Check.argument(count >= 0, "Negative count");
+
+            return new Slice<>(source, from, Math.min(limit, count));
+        }
+
+        private List<T> asList() {
+            return new View<>(this, size());
+        }
+
+        private static int saturatedAdd(int a, int b) {
+            return (int) Math.min((long) a + b, Integer.MAX_VALUE);
+        }
+
+        private static final class View<T> extends AbstractList<T> implements RandomAccess {
+            private final Slice<T> slice;
+            private final int size;
+
+            private View(Slice<T> slice, int size) {
+                this.slice = slice;
+                this.size = size;
+            }
+
+            @Override
+            public T get(int index) {
+                return slice.source.get(slice.from + Objects.checkIndex(index, size));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        }
+    }
+
+    // endregion
+
+    // region Stages
+
+    static final class Drop<T> implements Seq<T>, Sized {
+        private final Seq<T> source;
+        private final int count;
+
+        Drop(Seq<T> source, int count) {
+            this.source = source;
+            this.count = count;
+        }
+
+        @Override
+        public int size() {
+            int size = sizeOf(source);
+            return size < 0 ? -1 : Math.max(0, size - count);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterators.Drop<>(source.iterator(), count);
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            return source.forEachUntil(new Predicate<T>() {
+                private int remaining = count;
+
+                @Override
+                public boolean test(T element) {
+                    if (remaining > 0) {
+                        remaining--;
+                        return true;
+                    }
+                    return action.test(element);
+                }
+            });
+        }
+    }
+
+    static final class DropWhile<T> implements Seq<T> {
+        private final Seq<T> source;
+        private final Predicate<? super T> predicate;
+
+        DropWhile(Seq<T> source, Predicate<? super T> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterators.DropWhile<>(source.iterator(), predicate);
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            return source.forEachUntil(new Predicate<T>() {
+                private boolean dropping = true;
+
+                @Override
+                public boolean test(T element) {
+                    if (dropping && predicate.test(element)) {
+                        return true;
+                    }
+                    dropping = false;
+                    return action.test(element);
+                }
+            });
         }
     }
 
+    static final class Filter<T> implements Seq<T> {
+        private final Seq<T> source;
+        private final Predicate<? super T> predicate;
+
+        Filter(Seq<T> source, Predicate<? super T> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterators.Filter<>(source.iterator(), predicate);
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            return source.forEachUntil(element -> !predicate.test(element) || action.test(element));
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return new Iterators.FilterSpliterator<>(source.spliterator(), predicate);
+        }
+    }
+
+    static final class FlatMap<T, R> implements Seq<R> {
+        private final Seq<T> source;
+        private final Function<? super T, ? extends Iterable<? extends R>> mapper;
+
+        FlatMap(Seq<T> source, Function<? super T, ? extends Iterable<? extends R>> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            return new Iterators.FlatMap<>(source.iterator(), mapper);
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super R> action) {
+            return source.forEachUntil(element -> SeqHelpers.forEachUntil(mapper.apply(element), action));
+        }
+    }
+
+    static final class Map<T, R> implements Seq<R>, Sized {
+        private final Seq<T> source;
+        private final Function<? super T, ? extends R> mapper;
+
+        Map(Seq<T> source, Function<? super T, ? extends R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public int size() {
+            return sizeOf(source);
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            return new Iterators.Map<>(source.iterator(), mapper);
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super R> action) {
+            return source.forEachUntil(element -> action.test(mapper.apply(element)));
+        }
+
+        @Override
+        public Spliterator<R> spliterator() {
+            return new Iterators.MapSpliterator<>(source.spliterator(), mapper);
+        }
+    }
+
+    /**
+     * A {@link Map} over an indexable source, so single elements can be mapped without iterating the rest.
+     */
+    static final class IndexableMap<T, R> implements Seq<R>, Indexable<R> {
+        private final Indexable<T> source;
+        private final Function<? super T, ? extends R> mapper;
+
+        IndexableMap(Indexable<T> source, Function<? super T, ? extends R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public R get(int index) {
+            return mapper.apply(source.get(index));
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            return new Iterators.Map<>(source.iterator(), mapper);
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super R> action) {
+            return source.forEachUntil(element -> action.test(mapper.apply(element)));
+        }
+
+        @Override
+        public Spliterator<R> spliterator() {
+            return new Iterators.MapSpliterator<>(source.spliterator(), mapper);
+        }
+    }
+
+    /**
+     * Hides the spliterator of a stateful stage, like an indexed map,
+     * so a parallel evaluation pulls its elements in order instead of splitting it.
+     */
+    static final class Sequential<T> implements Seq<T>, Sized {
+        private final Seq<T> source;
+
+        Sequential(Seq<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public int size() {
+            return sizeOf(source);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return source.iterator();
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            return source.forEachUntil(action);
+        }
+    }
+
+    /**
+     * Sorts the elements of the source when iterated. The size of the source is kept.
+     * A {@code limit} below the size of the source, set by {@link #take(int)},
+     * selects just the smallest elements instead of sorting everything.
+     */
+    static final class Sorted<T> implements Seq<T>, Sized {
+        private final Seq<T> source;
+        private final Comparator<? super T> comparator;
+        private final int limit;
+
+        Sorted(Seq<T> source, Comparator<? super T> comparator) {
+            this(source, comparator, Integer.MAX_VALUE);
+        }
+
+        Sorted(Seq<T> source, Comparator<? super T> comparator, int limit) {
+            this.source = source;
+            this.comparator = comparator;
+            this.limit = limit;
+        }
+
+        @Override
+        public int size() {
+            int size = sizeOf(source);
+            return size < 0 ? -1 : Math.min(size, limit);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return sort(limit).iterator();
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            for (T element : sort(limit)) {
+                if (!action.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Seq<T> take(int count) {
+            Check.argument(count >= 0, "Negative count");
+
+            if (count == 0) {
+                return Seq.of();
+            }
+            return new Sorted<>(source, comparator, Math.min(limit, count));
+        }
+
+        @Override
+        public T first() {
+            List<T> first = sort(1);
+            if (first.isEmpty()) {
+                throw SeqHelpers.noElements();
+            }
+            return first.get(0);
+        }
+
+        @Override
+        public Optional<T> firstOptional() {
+            List<T> first = sort(1);
+            return first.isEmpty() ? Optional.empty() : Optional.ofNullable(first.get(0));
+        }
+
+        // Under the sort's own comparator, equal elements stay in source order, so min and max can skip the sort.
+        // Any other comparator can break ties differently, so it has to see the sorted order.
+
+        @Override
+        public T max() {
+            return orderedFor(Comparator.naturalOrder()).max();
+        }
+
+        @Override
+        public T max(Comparator<? super T> comparator) {
+            return orderedFor(comparator).max(comparator);
+        }
+
+        @Override
+        public Optional<T> maxOptional() {
+            return orderedFor(Comparator.naturalOrder()).maxOptional();
+        }
+
+        @Override
+        public Optional<T> maxOptional(Comparator<? super T> comparator) {
+            return orderedFor(comparator).maxOptional(comparator);
+        }
+
+        @Override
+        public T min() {
+            return orderedFor(Comparator.naturalOrder()).min();
+        }
+
+        @Override
+        public T min(Comparator<? super T> comparator) {
+            return orderedFor(comparator).min(comparator);
+        }
+
+        @Override
+        public Optional<T> minOptional() {
+            return orderedFor(Comparator.naturalOrder()).minOptional();
+        }
+
+        @Override
+        public Optional<T> minOptional(Comparator<? super T> comparator) {
+            return orderedFor(comparator).minOptional(comparator);
+        }
+
+        private Seq<T> orderedFor(Comparator<?> other) {
+            if (other == comparator && limit == Integer.MAX_VALUE) {
+                return source;
+            }
+            return Seq.seq(sort(limit));
+        }
+
+        private List<T> sort(int count) {
+            int size = sizeOf(source);
+            if (count >= SeqHelpers.Selector.MaxCount || (size >= 0 && size <= count)) {
+                List<T> list = source.toList();
+                list.sort(comparator);
+                return list;
+            }
+
+            SeqHelpers.Selector<T> selector = new SeqHelpers.Selector<>(comparator, count);
+            source.forEachUntil(selector);
+            return selector.result();
+        }
+    }
+
+    static final class Take<T> implements Seq<T>, Sized {
+        private final Seq<T> source;
+        private final int count;
+
+        Take(Seq<T> source, int count) {
+            this.source = source;
+            this.count = count;
+        }
+
+        @Override
+        public int size() {
+            int size = sizeOf(source);
+            return size < 0 ? -1 : Math.min(size, count);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterators.Take<>(source.iterator(), count);
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            TakeSink<T> sink = new TakeSink<>(action, count);
+            source.forEachUntil(sink);
+            return !sink.stopped;
+        }
+
+        private static final class TakeSink<T> implements Predicate<T> {
+            private final Predicate<? super T> action;
+            private int remaining;
+            private boolean stopped;
+
+            private TakeSink(Predicate<? super T> action, int remaining) {
+                this.action = action;
+                this.remaining = remaining;
+            }
+
+            @Override
+            public boolean test(T element) {
+                if (!action.test(element)) {
+                    stopped = true;
+                    return false;
+                }
+                return --remaining > 0;
+            }
+        }
+    }
+
+    static final class TakeWhile<T> implements Seq<T> {
+        private final Seq<T> source;
+        private final Predicate<? super T> predicate;
+
+        TakeWhile(Seq<T> source, Predicate<? super T> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterators.TakeWhile<>(source.iterator(), predicate);
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super T> action) {
+            TakeWhileSink<T> sink = new TakeWhileSink<>(action, predicate);
+            source.forEachUntil(sink);
+            return !sink.stopped;
+        }
+
+        private static final class TakeWhileSink<T> implements Predicate<T> {
+            private final Predicate<? super T> action;
+            private final Predicate<? super T> predicate;
+            private boolean stopped;
+
+            private TakeWhileSink(Predicate<? super T> action, Predicate<? super T> predicate) {
+                this.action = action;
+                this.predicate = predicate;
+            }
+
+            @Override
+            public boolean test(T element) {
+                if (!predicate.test(element)) {
+                    return false;
+                }
+                if (!action.test(element)) {
+                    stopped = true;
+                    return false;
+                }
+                return true;
+            }
+        }
+    }
+
+    static final class Windowed<T> implements Seq<List<T>>, Sized {
+        private final Seq<T> source;
+        private final int size;
+        private final int step;
+        private final boolean partial;
+
+        Windowed(Seq<T> source, int size, int step, boolean partial) {
+            this.source = source;
+            this.size = size;
+            this.step = step;
+            this.partial = partial;
+        }
+
+        @Override
+        public int size() {
+            long count = sizeOf(source);
+            if (count < 0) {
+                return -1;
+            }
+            if (partial) {
+                return (int) ((count + step - 1) / step);
+            }
+            return count < size ? 0 : (int) ((count - size) / step + 1);
+        }
+
+        @Override
+        public Iterator<List<T>> iterator() {
+            return new Iterators.Windowed<>(source.iterator(), size, step, partial);
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super List<T>> action) {
+            Iterators.Window<T> window = new Iterators.Window<>(size, step);
+            if (!source.forEachUntil(element -> !window.add(element) || action.test(window.poll()))) {
+                return false;
+            }
+            while (partial && !window.isEmpty()) {
+                if (!action.test(window.poll())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Pairs each element with its index. The index restarts from zero on every iteration.
+     */
+    static final class WithIndex<T> implements Seq<IntObjPair<T>>, Sized {
+        private final Seq<T> source;
+
+        WithIndex(Seq<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public int size() {
+            return sizeOf(source);
+        }
+
+        @Override
+        public Iterator<IntObjPair<T>> iterator() {
+            return new Iterators.WithIndex<>(source.iterator());
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super IntObjPair<T>> action) {
+            int[] index = {0};
+            return source.forEachUntil(element -> action.test(IntObjPair.of(index[0]++, element)));
+        }
+    }
+
+    /**
+     * A {@link WithIndex} over an indexable source, where the index of an element is its position in the source.
+     */
+    static final class IndexableWithIndex<T> implements Seq<IntObjPair<T>>, Indexable<IntObjPair<T>> {
+        private final Indexable<T> source;
+
+        IndexableWithIndex(Indexable<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public IntObjPair<T> get(int index) {
+            return IntObjPair.of(index, source.get(index));
+        }
+
+        @Override
+        public Iterator<IntObjPair<T>> iterator() {
+            return new Iterators.WithIndex<>(source.iterator());
+        }
+
+        @Override
+        public boolean forEachUntil(Predicate<? super IntObjPair<T>> action) {
+            int[] index = {0};
+            return source.forEachUntil(element -> action.test(IntObjPair.of(index[0]++, element)));
+        }
+    }
+
+    // endregion
+
 }
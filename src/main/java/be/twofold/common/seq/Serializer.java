@@ -0,0 +1,19 @@
+package be.twofold.common.seq;
+
+import java.io.*;
+
+/**
+ * Writes elements to and reads them back from a binary stream, for operations that spill to disk,
+ * like {@link Seq#sortedExternal(java.util.Comparator, Serializer, int, java.nio.file.Path)}.
+ * <p>
+ * {@link #read(DataInput)} must read back exactly what {@link #write(DataOutput, Object)} wrote for the same element.
+ *
+ * @param <T> The type of the elements
+ */
+public interface Serializer<T> {
+
+    void write(DataOutput output, T value) throws IOException;
+
+    T read(DataInput input) throws IOException;
+
+}
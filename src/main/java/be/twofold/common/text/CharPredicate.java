@@ -1,6 +1,7 @@
 package be.twofold.common.text;
 
 import be.twofold.common.*;
+import be.twofold.common.seq.*;
 
 import java.util.*;
 import java.util.function.*;
@@ -78,8 +79,325 @@ public abstract class CharPredicate implements Predicate<Character> {
         return new Negate(this);
     }
 
+    /**
+     * Returns an equivalent predicate that answers every char with a single table lookup.
+     * <p>
+     * The whole predicate tree, including wrapped {@link Predicate}s, is evaluated once for every char,
+     * so wrapped predicates must not have side effects, and always give the same answer for the same char.
+     * Use this for predicates that are matched many times, as building the table costs 65536 calls and 8 KiB of memory.
+     *
+     * @return The precomputed predicate
+     */
+    public CharPredicate precompute() {
+        long[] table = new long[Precomputed.TableSize];
+        int count = 0;
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            if (matches((char) c)) {
+                table[c >>> 6] |= 1L << c;
+                count++;
+            }
+        }
+
+        if (count == 0) {
+            return none();
+        }
+        if (count == Character.MAX_VALUE + 1) {
+            return any();
+        }
+        return new Precomputed(table);
+    }
+
     // Class Methods
 
+    /**
+     * Returns the index of the first matching char, or {@code -1} if no char matches.
+     *
+     * @param cs The sequence to search
+     * @return The index, or {@code -1} if not found
+     */
+    public int indexIn(CharSequence cs) {
+        return indexIn(cs, 0);
+    }
+
+    /**
+     * Returns the index of the first matching char, starting at {@code start}, or {@code -1} if no char matches.
+     *
+     * @param cs    The sequence to search
+     * @param start The index to start searching at
+     * @return The index, or {@code -1} if not found
+     */
+    public int indexIn(CharSequence cs, int start) {
+        int len = cs.length();
+        Check.fromToIndex(start, len, len);
+
+        return find(cs, start, len, true);
+    }
+
+    /**
+     * Returns the index of the last matching char, or {@code -1} if no char matches.
+     *
+     * @param cs The sequence to search
+     * @return The index, or {@code -1} if not found
+     */
+    public int lastIndexIn(CharSequence cs) {
+        return findLast(cs, 0, cs.length(), true);
+    }
+
+    /**
+     * Returns the number of matching chars.
+     *
+     * @param cs The sequence to search
+     * @return The number of matching chars
+     */
+    public int countIn(CharSequence cs) {
+        int count = 0;
+        for (int i = 0, len = cs.length(); i < len; i++) {
+            if (matches(cs.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns {@code true} if every char matches, including when the sequence is empty.
+     *
+     * @param cs The sequence to check
+     * @return {@code true} if every char matches
+     */
+    public boolean matchesAllOf(CharSequence cs) {
+        return find(cs, 0, cs.length(), false) < 0;
+    }
+
+    /**
+     * Returns a string with all matching chars removed.
+     * If no char matches, no copy is made.
+     *
+     * @param cs The sequence to remove chars from
+     * @return The string without the matching chars
+     */
+    public String removeFrom(CharSequence cs) {
+        return remove(cs, true);
+    }
+
+    /**
+     * Returns a string with only the matching chars.
+     *
+     * @param cs The sequence to take chars from
+     * @return The string with only the matching chars
+     */
+    public String retainFrom(CharSequence cs) {
+        return remove(cs, false);
+    }
+
+    /**
+     * Returns a string with every matching char replaced by {@code replacement}.
+     * If no char matches, no copy is made.
+     *
+     * @param cs          The sequence to replace chars in
+     * @param replacement The char to replace with
+     * @return The string with the matching chars replaced
+     */
+    public String replaceFrom(CharSequence cs, char replacement) {
+        int first = indexIn(cs);
+        if (first < 0) {
+            return cs.toString();
+        }
+
+        char[] chars = cs.toString().toCharArray();
+        chars[first] = replacement;
+        for (int i = first + 1; i < chars.length; i++) {
+            if (matches(chars[i])) {
+                chars[i] = replacement;
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns a string with every matching char replaced by {@code replacement}.
+     * If no char matches, no copy is made.
+     *
+     * @param cs          The sequence to replace chars in
+     * @param replacement The sequence to replace with
+     * @return The string with the matching chars replaced
+     */
+    public String replaceFrom(CharSequence cs, CharSequence replacement) {
+        Check.notNull(replacement, "replacement is null");
+        if (replacement.length() == 1) {
+            return replaceFrom(cs, replacement.charAt(0));
+        }
+
+        int first = indexIn(cs);
+        if (first < 0) {
+            return cs.toString();
+        }
+
+        int len = cs.length();
+        StringBuilder builder = new StringBuilder(len + len / 2).append(cs, 0, first);
+        for (int i = first; i < len; i++) {
+            char c = cs.charAt(i);
+            if (matches(c)) {
+                builder.append(replacement);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns a string with every run of matching chars replaced by a single {@code replacement}.
+     * For example, {@code CharPredicate.is(' ').collapseFrom("a  b", '_')} returns {@code "a_b"}.
+     * If nothing changes, no copy is made.
+     *
+     * @param cs          The sequence to collapse chars in
+     * @param replacement The char to replace each run with
+     * @return The collapsed string
+     */
+    public String collapseFrom(CharSequence cs, char replacement) {
+        int len = cs.length();
+        for (int i = indexIn(cs); i >= 0 && i < len; i = indexIn(cs, i + 1)) {
+            char c = cs.charAt(i);
+            if (c != replacement || (i + 1 < len && matches(cs.charAt(i + 1)))) {
+                return collapse(cs, i, len, replacement, new StringBuilder(len).append(cs, 0, i));
+            }
+        }
+        return cs.toString();
+    }
+
+    /**
+     * Returns a string with the matching chars stripped from both ends,
+     * and every other run of matching chars replaced by a single {@code replacement}.
+     * For example, {@code CharPredicate.is(' ').trimAndCollapseFrom("  a  b ", '_')} returns {@code "a_b"}.
+     *
+     * @param cs          The sequence to trim and collapse
+     * @param replacement The char to replace each run with
+     * @return The trimmed and collapsed string
+     */
+    public String trimAndCollapseFrom(CharSequence cs, char replacement) {
+        int len = cs.length();
+
+        int from = 0;
+        while (from < len && matches(cs.charAt(from))) {
+            from++;
+        }
+        int to = len;
+        while (to > from && matches(cs.charAt(to - 1))) {
+            to--;
+        }
+
+        if (from == 0 && to == len) {
+            return collapseFrom(cs, replacement);
+        }
+        return collapse(cs, from, to, replacement, new StringBuilder(to - from));
+    }
+
+    /**
+     * Splits the sequence around the matching chars, into a lazy sequence of views.
+     * <p>
+     * Each part is a view of {@code cs}, no characters are copied until {@link CharSequence#toString()} is called.
+     * Like {@link String#split(String)}, but all empty parts are kept, including the trailing ones,
+     * so {@code n} matching chars always give {@code n + 1} parts.
+     *
+     * @param cs The sequence to split
+     * @return The sequence of parts
+     */
+    public Seq<CharSequence> split(CharSequence cs) {
+        return split(cs, false, false);
+    }
+
+    /**
+     * Splits the sequence around the matching chars, into a lazy sequence of views.
+     * <p>
+     * Each part is a view of {@code cs}, no characters are copied until {@link CharSequence#toString()} is called.
+     *
+     * @param cs        The sequence to split
+     * @param omitEmpty Whether to leave out empty parts, after trimming
+     * @param trim      Whether to strip whitespace, as defined by {@link Character#isWhitespace(char)}, from each part
+     * @return The sequence of parts
+     */
+    public Seq<CharSequence> split(CharSequence cs, boolean omitEmpty, boolean trim) {
+        Check.notNull(cs, "cs is null");
+
+        return () -> new SplitIterator(this, cs, omitEmpty, trim);
+    }
+
+    /**
+     * Splits the sequence around the matching chars, passing the start and end index of each part to the consumer.
+     * Nothing is allocated. The parts are the same as for {@link #split(CharSequence)}.
+     *
+     * @param cs       The sequence to split
+     * @param consumer The consumer to call for each part
+     */
+    public void split(CharSequence cs, RangeConsumer consumer) {
+        Check.notNull(consumer, "consumer is null");
+
+        int len = cs.length();
+        int start = 0;
+        while (true) {
+            int end = find(cs, start, len, true);
+            if (end < 0) {
+                consumer.accept(start, len);
+                return;
+            }
+            consumer.accept(start, end);
+            start = end + 1;
+        }
+    }
+
+    private int find(CharSequence cs, int from, int to, boolean expected) {
+        for (int i = from; i < to; i++) {
+            if (matches(cs.charAt(i)) == expected) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int findLast(CharSequence cs, int from, int to, boolean expected) {
+        for (int i = to - 1; i >= from; i--) {
+            if (matches(cs.charAt(i)) == expected) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String remove(CharSequence cs, boolean matching) {
+        int first = find(cs, 0, cs.length(), matching);
+        if (first < 0) {
+            return cs.toString();
+        }
+
+        char[] chars = cs.toString().toCharArray();
+        int length = first;
+        for (int i = first + 1; i < chars.length; i++) {
+            char c = chars[i];
+            if (matches(c) != matching) {
+                chars[length++] = c;
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    private String collapse(CharSequence cs, int from, int to, char replacement, StringBuilder builder) {
+        boolean inRun = false;
+        for (int i = from; i < to; i++) {
+            char c = cs.charAt(i);
+            if (matches(c)) {
+                if (!inRun) {
+                    builder.append(replacement);
+                    inRun = true;
+                }
+            } else {
+                builder.append(c);
+                inRun = false;
+            }
+        }
+        return builder.toString();
+    }
+
     public String stripFrom(CharSequence cs) {
         int len = cs.length();
 
@@ -146,6 +464,11 @@ public abstract class CharPredicate implements Predicate<Character> {
         public CharPredicate negate() {
             return CharPredicate.none();
         }
+
+        @Override
+        public CharPredicate precompute() {
+            return this;
+        }
     }
 
     private static final class None extends CharPredicate {
@@ -174,6 +497,11 @@ public abstract class CharPredicate implements Predicate<Character> {
         public CharPredicate negate() {
             return CharPredicate.any();
         }
+
+        @Override
+        public CharPredicate precompute() {
+            return this;
+        }
     }
 
     private static final class Is extends CharPredicate {
@@ -187,6 +515,11 @@ public abstract class CharPredicate implements Predicate<Character> {
         public boolean matches(char c) {
             return c == this.c;
         }
+
+        @Override
+        public CharPredicate precompute() {
+            return this;
+        }
     }
 
     private static final class Range extends CharPredicate {
@@ -203,6 +536,11 @@ public abstract class CharPredicate implements Predicate<Character> {
         public boolean matches(char c) {
             return lower <= c && c <= upper;
         }
+
+        @Override
+        public CharPredicate precompute() {
+            return this;
+        }
     }
 
     private static final class Among extends CharPredicate {
@@ -281,4 +619,93 @@ public abstract class CharPredicate implements Predicate<Character> {
         }
     }
 
+    private static final class Precomputed extends CharPredicate {
+        private static final int TableSize = (Character.MAX_VALUE + 1) / Long.SIZE;
+
+        private final long[] table;
+
+        private Precomputed(long[] table) {
+            this.table = table;
+        }
+
+        @Override
+        public boolean matches(char c) {
+            return (table[c >>> 6] & (1L << c)) != 0;
+        }
+
+        @Override
+        public CharPredicate negate() {
+            long[] negated = new long[TableSize];
+            for (int i = 0; i < TableSize; i++) {
+                negated[i] = ~table[i];
+            }
+            return new Precomputed(negated);
+        }
+
+        @Override
+        public CharPredicate precompute() {
+            return this;
+        }
+    }
+
+    private static final class SplitIterator implements Iterator<CharSequence> {
+        private final CharPredicate predicate;
+        private final CharSequence cs;
+        private final boolean omitEmpty;
+        private final boolean trim;
+        private int position;
+        private CharSequence next;
+
+        private SplitIterator(CharPredicate predicate, CharSequence cs, boolean omitEmpty, boolean trim) {
+            this.predicate = predicate;
+            this.cs = cs;
+            this.omitEmpty = omitEmpty;
+            this.trim = trim;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CharSequence result = next;
+            next = null;
+            return result;
+        }
+
+        private CharSequence advance() {
+            int len = cs.length();
+            while (position <= len) {
+                int start = position;
+                int end = predicate.find(cs, start, len, true);
+                if (end < 0) {
+                    end = len;
+                }
+                position = end + 1;
+
+                if (trim) {
+                    while (start < end && Character.isWhitespace(cs.charAt(start))) {
+                        start++;
+                    }
+                    while (end > start && Character.isWhitespace(cs.charAt(end - 1))) {
+                        end--;
+                    }
+                }
+                if (omitEmpty && start == end) {
+                    continue;
+                }
+                return new SubSequence(cs, start, end);
+            }
+            return null;
+        }
+    }
+
 }
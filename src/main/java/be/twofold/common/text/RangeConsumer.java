@@ -0,0 +1,17 @@
+package be.twofold.common.text;
+
+/**
+ * Accepts a range of a sequence, given as a start index and an end index.
+ */
+@FunctionalInterface
+public interface RangeConsumer {
+
+    /**
+     * Performs this operation on the given range.
+     *
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     */
+    void accept(int start, int end);
+
+}
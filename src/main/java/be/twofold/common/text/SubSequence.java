@@ -0,0 +1,75 @@
+package be.twofold.common.text;
+
+import be.twofold.common.*;
+
+import java.util.*;
+
+/**
+ * A view of a range of a {@link CharSequence}, copying nothing until {@link #toString()} is called.
+ * Two views are equal if they contain the same characters, and the hash code is the same as for the equivalent String.
+ */
+final class SubSequence implements CharSequence {
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+
+    SubSequence(CharSequence source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return source.charAt(start + Objects.checkIndex(index, end - start));
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Check.fromToIndex(start, end, length());
+        return new SubSequence(source, this.start + start, this.start + end);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SubSequence)) {
+            return false;
+        }
+
+        SubSequence other = (SubSequence) obj;
+        if (length() != other.length()) {
+            return false;
+        }
+        for (int i = 0, len = length(); i < len; i++) {
+            if (source.charAt(start + i) != other.source.charAt(other.start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            result = 31 * result + source.charAt(i);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        if (source instanceof String) {
+            return ((String) source).substring(start, end);
+        }
+        return source.subSequence(start, end).toString();
+    }
+}
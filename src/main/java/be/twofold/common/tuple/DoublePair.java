@@ -0,0 +1,50 @@
+package be.twofold.common.tuple;
+
+import java.io.*;
+
+public final class DoublePair implements Serializable {
+
+    private final double first;
+    private final double second;
+
+    private DoublePair(double first, double second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    public static DoublePair of(double first, double second) {
+        return new DoublePair(first, second);
+    }
+
+    public double getFirst() {
+        return first;
+    }
+
+    public double getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof DoublePair)) return false;
+
+        DoublePair other = (DoublePair) obj;
+        return Double.compare(first, other.first) == 0
+            && Double.compare(second, other.second) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Double.hashCode(first);
+        result = 31 * result + Double.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+}
@@ -0,0 +1,51 @@
+package be.twofold.common.tuple;
+
+import java.io.*;
+import java.util.*;
+
+public final class IntObjPair<T> implements Serializable {
+
+    private final int first;
+    private final T second;
+
+    private IntObjPair(int first, T second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    public static <T> IntObjPair<T> of(int first, T second) {
+        return new IntObjPair<>(first, second);
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public T getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof IntObjPair)) return false;
+
+        IntObjPair<?> other = (IntObjPair<?>) obj;
+        return first == other.first
+            && Objects.equals(second, other.second);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Integer.hashCode(first);
+        result = 31 * result + Objects.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+}
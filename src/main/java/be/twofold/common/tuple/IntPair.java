@@ -0,0 +1,50 @@
+package be.twofold.common.tuple;
+
+import java.io.*;
+
+public final class IntPair implements Serializable {
+
+    private final int first;
+    private final int second;
+
+    private IntPair(int first, int second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    public static IntPair of(int first, int second) {
+        return new IntPair(first, second);
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof IntPair)) return false;
+
+        IntPair other = (IntPair) obj;
+        return first == other.first
+            && second == other.second;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Integer.hashCode(first);
+        result = 31 * result + Integer.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+}
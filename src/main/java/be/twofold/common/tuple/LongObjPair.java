@@ -0,0 +1,51 @@
+package be.twofold.common.tuple;
+
+import java.io.*;
+import java.util.*;
+
+public final class LongObjPair<T> implements Serializable {
+
+    private final long first;
+    private final T second;
+
+    private LongObjPair(long first, T second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    public static <T> LongObjPair<T> of(long first, T second) {
+        return new LongObjPair<>(first, second);
+    }
+
+    public long getFirst() {
+        return first;
+    }
+
+    public T getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof LongObjPair)) return false;
+
+        LongObjPair<?> other = (LongObjPair<?>) obj;
+        return first == other.first
+            && Objects.equals(second, other.second);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Long.hashCode(first);
+        result = 31 * result + Objects.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+}
@@ -0,0 +1,50 @@
+package be.twofold.common.tuple;
+
+import java.io.*;
+
+public final class LongPair implements Serializable {
+
+    private final long first;
+    private final long second;
+
+    private LongPair(long first, long second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    public static LongPair of(long first, long second) {
+        return new LongPair(first, second);
+    }
+
+    public long getFirst() {
+        return first;
+    }
+
+    public long getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof LongPair)) return false;
+
+        LongPair other = (LongPair) obj;
+        return first == other.first
+            && second == other.second;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Long.hashCode(first);
+        result = 31 * result + Long.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+}
@@ -0,0 +1,51 @@
+package be.twofold.common.tuple;
+
+import java.io.*;
+import java.util.*;
+
+public final class ObjIntPair<T> implements Serializable {
+
+    private final T first;
+    private final int second;
+
+    private ObjIntPair(T first, int second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    public static <T> ObjIntPair<T> of(T first, int second) {
+        return new ObjIntPair<>(first, second);
+    }
+
+    public T getFirst() {
+        return first;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ObjIntPair)) return false;
+
+        ObjIntPair<?> other = (ObjIntPair<?>) obj;
+        return Objects.equals(first, other.first)
+            && second == other.second;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(first);
+        result = 31 * result + Integer.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+}
@@ -0,0 +1,51 @@
+package be.twofold.common.tuple;
+
+import java.io.*;
+import java.util.*;
+
+public final class ObjLongPair<T> implements Serializable {
+
+    private final T first;
+    private final long second;
+
+    private ObjLongPair(T first, long second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    public static <T> ObjLongPair<T> of(T first, long second) {
+        return new ObjLongPair<>(first, second);
+    }
+
+    public T getFirst() {
+        return first;
+    }
+
+    public long getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ObjLongPair)) return false;
+
+        ObjLongPair<?> other = (ObjLongPair<?>) obj;
+        return Objects.equals(first, other.first)
+            && second == other.second;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(first);
+        result = 31 * result + Long.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+}
@@ -2,6 +2,8 @@ package be.twofold.common;
 
 import org.junit.jupiter.api.*;
 
+import java.util.*;
+
 import static org.assertj.core.api.Assertions.*;
 
 @SuppressWarnings("RedundantCast")
@@ -393,6 +395,23 @@ class ArrayUtilsTest {
         assertThat(ArrayUtils.indexOf(array, 0, 2, true)).isEqualTo(1);
     }
 
+    @Test
+    void testIndexOfByteInLongRange() {
+        byte[] array = new byte[40];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (byte) (i * 7 + 0x70);
+        }
+        for (int from = 0; from < 10; from++) {
+            for (int to = array.length - 10; to <= array.length; to++) {
+                for (int i = 0; i < array.length; i++) {
+                    int expected = i >= from && i < to ? i : -1;
+                    assertThat(ArrayUtils.indexOf(array, from, to, array[i])).isEqualTo(expected);
+                }
+                assertThat(ArrayUtils.indexOf(array, from, to, (byte) 0x71)).isEqualTo(-1);
+            }
+        }
+    }
+
     // endregion
 
     // region testLastIndexOf
@@ -659,6 +678,153 @@ class ArrayUtilsTest {
         assertThat(ArrayUtils.lastIndexOf(array, 0, 2, true)).isEqualTo(1);
     }
 
+    @Test
+    void testLastIndexOfByteInLongRange() {
+        byte[] array = new byte[40];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (byte) (i * 7 + 0x70);
+        }
+        for (int from = 0; from < 10; from++) {
+            for (int to = array.length - 10; to <= array.length; to++) {
+                for (int i = 0; i < array.length; i++) {
+                    int expected = i >= from && i < to ? i : -1;
+                    assertThat(ArrayUtils.lastIndexOf(array, from, to, array[i])).isEqualTo(expected);
+                }
+                assertThat(ArrayUtils.lastIndexOf(array, from, to, (byte) 0x71)).isEqualTo(-1);
+            }
+        }
+
+        byte[] zeros = new byte[20];
+        zeros[3] = 1;
+        assertThat(ArrayUtils.lastIndexOf(zeros, 0, 20, (byte) 0)).isEqualTo(19);
+        assertThat(ArrayUtils.lastIndexOf(zeros, 0, 20, (byte) 1)).isEqualTo(3);
+        assertThat(ArrayUtils.indexOf(zeros, 0, 20, (byte) 1)).isEqualTo(3);
+    }
+
+    // endregion
+
+    // region testCompare
+
+    @Test
+    void testCompareByte() {
+        assertThat(ArrayUtils.compare(new byte[]{1, 2, 3}, new byte[]{1, 2, 3})).isZero();
+        assertThat(ArrayUtils.compare(new byte[]{1, 2}, new byte[]{1, 2, 3})).isNegative();
+        assertThat(ArrayUtils.compare(new byte[]{1, 2, 3}, new byte[]{1, 2})).isPositive();
+        assertThat(ArrayUtils.compare(new byte[]{1, -2, 3}, new byte[]{1, 2, 3})).isNegative();
+        assertThat(ArrayUtils.compare(new byte[]{0, 1, 2, 3}, 1, 4, new byte[]{1, 2, 3, 0}, 0, 3)).isZero();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> ArrayUtils.compare(new byte[2], 2, 1, new byte[2], 0, 2));
+    }
+
+    @Test
+    void testCompareMatchesArrays() {
+        int[] a = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        int[] b = {1, 2, 3, 4, 5, 6, 7, 0, 9};
+        assertThat(Integer.signum(ArrayUtils.compare(a, b))).isEqualTo(Integer.signum(Arrays.compare(a, b)));
+        assertThat(ArrayUtils.compare(a, 0, 7, b, 0, 7)).isZero();
+
+        double[] c = {0.0, Double.NaN};
+        double[] d = {-0.0, Double.NaN};
+        assertThat(ArrayUtils.compare(c, c.clone())).isZero();
+        assertThat(ArrayUtils.compare(c, d)).isPositive();
+
+        boolean[] e = {true, false};
+        boolean[] f = {true, true};
+        assertThat(ArrayUtils.compare(e, f)).isNegative();
+    }
+
+    // endregion
+
+    // region testHashCode
+
+    @Test
+    void testHashCodeMatchesArrays() {
+        Random random = new Random(42);
+        for (int length = 0; length < 12; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            short[] shorts = new short[length];
+            int[] ints = new int[length];
+            long[] longs = new long[length];
+            float[] floats = new float[length];
+            double[] doubles = new double[length];
+            char[] chars = new char[length];
+            boolean[] booleans = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                shorts[i] = (short) random.nextInt();
+                ints[i] = random.nextInt();
+                longs[i] = random.nextLong();
+                floats[i] = random.nextFloat();
+                doubles[i] = random.nextDouble();
+                chars[i] = (char) random.nextInt();
+                booleans[i] = random.nextBoolean();
+            }
+
+            assertThat(ArrayUtils.hashCode(bytes)).isEqualTo(Arrays.hashCode(bytes));
+            assertThat(ArrayUtils.hashCode(shorts)).isEqualTo(Arrays.hashCode(shorts));
+            assertThat(ArrayUtils.hashCode(ints)).isEqualTo(Arrays.hashCode(ints));
+            assertThat(ArrayUtils.hashCode(longs)).isEqualTo(Arrays.hashCode(longs));
+            assertThat(ArrayUtils.hashCode(floats)).isEqualTo(Arrays.hashCode(floats));
+            assertThat(ArrayUtils.hashCode(doubles)).isEqualTo(Arrays.hashCode(doubles));
+            assertThat(ArrayUtils.hashCode(chars)).isEqualTo(Arrays.hashCode(chars));
+            assertThat(ArrayUtils.hashCode(booleans)).isEqualTo(Arrays.hashCode(booleans));
+        }
+    }
+
+    @Test
+    void testHashCodeWithFromToIndex() {
+        int[] array = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        for (int from = 0; from <= array.length; from++) {
+            for (int to = from; to <= array.length; to++) {
+                assertThat(ArrayUtils.hashCode(array, from, to))
+                    .isEqualTo(Arrays.hashCode(Arrays.copyOfRange(array, from, to)));
+            }
+        }
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> ArrayUtils.hashCode(array, 2, 1));
+    }
+
+    // endregion
+
+    // region testToString
+
+    @Test
+    void testToStringMatchesArrays() {
+        Random random = new Random(42);
+        for (int length = 0; length < 12; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            short[] shorts = new short[length];
+            int[] ints = new int[length];
+            long[] longs = new long[length];
+            double[] doubles = new double[length];
+            for (int i = 0; i < length; i++) {
+                shorts[i] = (short) random.nextInt();
+                ints[i] = random.nextInt() >> random.nextInt(32);
+                longs[i] = random.nextLong() >> random.nextInt(64);
+                doubles[i] = random.nextBoolean() ? random.nextInt(1000) - 500 : random.nextDouble();
+            }
+
+            assertThat(ArrayUtils.toString(bytes)).isEqualTo(Arrays.toString(bytes));
+            assertThat(ArrayUtils.toString(shorts)).isEqualTo(Arrays.toString(shorts));
+            assertThat(ArrayUtils.toString(ints)).isEqualTo(Arrays.toString(ints));
+            assertThat(ArrayUtils.toString(longs)).isEqualTo(Arrays.toString(longs));
+            assertThat(ArrayUtils.toString(doubles)).isEqualTo(Arrays.toString(doubles));
+        }
+    }
+
+    @Test
+    void testToStringExtremes() {
+        int[] ints = {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE};
+        long[] longs = {Long.MIN_VALUE, Integer.MIN_VALUE - 1L, 0, Long.MAX_VALUE};
+        double[] doubles = {-0.0, 0.0, 9999999.0, 1e7, Double.NaN, Double.NEGATIVE_INFINITY, Double.MIN_VALUE};
+
+        assertThat(ArrayUtils.toString(ints)).isEqualTo(Arrays.toString(ints));
+        assertThat(ArrayUtils.toString(longs)).isEqualTo(Arrays.toString(longs));
+        assertThat(ArrayUtils.toString(doubles)).isEqualTo(Arrays.toString(doubles));
+        assertThat(ArrayUtils.toString(ints, 1, 3)).isEqualTo("[-1, 0]");
+    }
+
     // endregion
 
 }
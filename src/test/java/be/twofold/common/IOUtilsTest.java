@@ -1,8 +1,17 @@
 package be.twofold.common;
 
+import be.twofold.common.seq.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.*;
+import org.junit.jupiter.api.io.*;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -69,4 +78,254 @@ public class IOUtilsTest {
             .isSameAs(bufferedWriter);
     }
 
+    @Test
+    public void testLines(@TempDir Path directory) throws IOException {
+        assertThatNullPointerException()
+            .isThrownBy(() -> IOUtils.lines(null));
+
+        Path path = directory.resolve("lines.txt");
+        String content = "one\ntwo\r\nthree\rfour\n\nfive";
+        Files.write(path, content.getBytes(StandardCharsets.US_ASCII));
+
+        List<String> expected = new BufferedReader(new StringReader(content)).lines().collect(Collectors.toList());
+        assertThat(IOUtils.lines(path).map(CharSequence::toString).toList())
+            .isEqualTo(expected)
+            .containsExactly("one", "two", "three", "four", "", "five");
+        assertThat(IOUtils.lines(path).filter(line -> line.length() == 4).count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLinesTrailingTerminator(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("lines.txt");
+        Files.write(path, "one\r\ntwo\r\n".getBytes(StandardCharsets.US_ASCII));
+        assertThat(IOUtils.lines(path).map(CharSequence::toString).toList()).containsExactly("one", "two");
+
+        Files.write(path, new byte[0]);
+        assertThat(IOUtils.lines(path).toList()).isEmpty();
+    }
+
+    @Test
+    public void testLinesAreViews(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("lines.txt");
+        Files.write(path, "key=value\nkey=other\n".getBytes(StandardCharsets.US_ASCII));
+
+        List<CharSequence> lines = IOUtils.lines(path).toList();
+        CharSequence key1 = lines.get(0).subSequence(0, 3);
+        CharSequence key2 = lines.get(1).subSequence(0, 3);
+
+        assertThat(key1.length()).isEqualTo(3);
+        assertThat(key1.charAt(2)).isEqualTo('y');
+        assertThat(key1).isEqualTo(key2);
+        assertThat(key1.hashCode()).isEqualTo("key".hashCode());
+        assertThat(lines.get(0).subSequence(4, 9).toString()).isEqualTo("value");
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> key1.charAt(3));
+    }
+
+    @Test
+    public void testLinesMissingFile(@TempDir Path directory) {
+        Seq<CharSequence> lines = IOUtils.lines(directory.resolve("missing.txt"));
+        assertThatExceptionOfType(UncheckedIOException.class)
+            .isThrownBy(lines::count);
+    }
+
+    @Test
+    public void testRecords(@TempDir Path directory) throws IOException {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> IOUtils.records(directory, 0));
+
+        Path path = directory.resolve("records.bin");
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7});
+
+        List<ByteBuffer> records = IOUtils.records(path, 3).toList();
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0)).isEqualTo(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+        assertThat(records.get(1)).isEqualTo(ByteBuffer.wrap(new byte[]{4, 5, 6}));
+        assertThat(records.get(2)).isEqualTo(ByteBuffer.wrap(new byte[]{7}));
+        assertThat(records.get(0).isReadOnly()).isTrue();
+    }
+
+    @Test
+    public void testCopyStreams() throws IOException {
+        byte[] bytes = new byte[20000];
+        new Random(42).nextBytes(bytes);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertThat(IOUtils.copy(new ByteArrayInputStream(bytes), output)).isEqualTo(bytes.length);
+        assertThat(output.toByteArray()).isEqualTo(bytes);
+    }
+
+    @Test
+    public void testCopyFileStreams(@TempDir Path directory) throws IOException {
+        byte[] bytes = new byte[20000];
+        new Random(42).nextBytes(bytes);
+        Path source = directory.resolve("source.bin");
+        Path target = directory.resolve("target.bin");
+        Files.write(source, bytes);
+
+        try (FileInputStream input = new FileInputStream(source.toFile());
+             FileOutputStream output = new FileOutputStream(target.toFile())) {
+            assertThat(input.skip(100)).isEqualTo(100);
+            output.write(1);
+
+            assertThat(IOUtils.copy(input, output)).isEqualTo(bytes.length - 100);
+            assertThat(input.read()).isEqualTo(-1);
+            output.write(2);
+        }
+
+        byte[] result = Files.readAllBytes(target);
+        assertThat(result).hasSize(bytes.length - 100 + 2);
+        assertThat(result[0]).isEqualTo((byte) 1);
+        assertThat(Arrays.copyOfRange(result, 1, result.length - 1)).isEqualTo(Arrays.copyOfRange(bytes, 100, bytes.length));
+        assertThat(result[result.length - 1]).isEqualTo((byte) 2);
+    }
+
+    @Test
+    public void testCopyChannels() throws IOException {
+        byte[] bytes = new byte[20000];
+        new Random(42).nextBytes(bytes);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = IOUtils.copy(Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(output));
+        assertThat(count).isEqualTo(bytes.length);
+        assertThat(output.toByteArray()).isEqualTo(bytes);
+    }
+
+    @Test
+    public void testCopyPaths(@TempDir Path directory) throws IOException {
+        byte[] bytes = new byte[20000];
+        new Random(42).nextBytes(bytes);
+        Path source = directory.resolve("source.bin");
+        Path target = directory.resolve("target.bin");
+        Files.write(source, bytes);
+        Files.write(target, new byte[30000]);
+
+        assertThat(IOUtils.copy(source, target)).isEqualTo(bytes.length);
+        assertThat(Files.readAllBytes(target)).isEqualTo(bytes);
+        assertThatNullPointerException()
+            .isThrownBy(() -> IOUtils.copy(source, (Path) null));
+    }
+
+    @Test
+    public void testCopyPathOntoItself(@TempDir Path directory) throws IOException {
+        byte[] bytes = new byte[20000];
+        new Random(42).nextBytes(bytes);
+        Path source = directory.resolve("source.bin");
+        Files.write(source, bytes);
+
+        assertThat(IOUtils.copy(source, source)).isZero();
+        assertThat(IOUtils.copy(source, directory.resolve(".").resolve("source.bin"))).isZero();
+        assertThat(Files.readAllBytes(source)).isEqualTo(bytes);
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    public void testCopyFileWithoutSize(@TempDir Path directory) throws IOException {
+        // Files in /proc report a size of 0, but still have content
+        Path source = Paths.get("/proc/self/status");
+        Path target = directory.resolve("target.txt");
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (InputStream input = Files.newInputStream(source)) {
+            IOUtils.copy(input, expected, new byte[256]);
+        }
+        assertThat(expected.size()).isPositive();
+
+        try (FileInputStream input = new FileInputStream(source.toFile());
+             FileOutputStream output = new FileOutputStream(target.toFile())) {
+            assertThat(IOUtils.copy(input, output)).isPositive();
+        }
+        assertThat(Files.readAllLines(target)).anyMatch(line -> line.startsWith("Name:"));
+
+        assertThat(IOUtils.copy(source, target)).isPositive();
+        assertThat(Files.readAllLines(target)).anyMatch(line -> line.startsWith("Name:"));
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    public void testCopyPipe(@TempDir Path directory) throws Exception {
+        byte[] bytes = new byte[20000];
+        new Random(42).nextBytes(bytes);
+        Path pipe = directory.resolve("pipe");
+        Path target = directory.resolve("target.bin");
+        assertThat(new ProcessBuilder("mkfifo", pipe.toString()).start().waitFor()).isZero();
+
+        Thread writer = new Thread(() -> {
+            try {
+                Files.write(pipe, bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.start();
+        try (FileInputStream input = new FileInputStream(pipe.toFile());
+             FileOutputStream output = new FileOutputStream(target.toFile())) {
+            assertThat(IOUtils.copy(input, output)).isEqualTo(bytes.length);
+        }
+        writer.join();
+
+        assertThat(Files.readAllBytes(target)).isEqualTo(bytes);
+    }
+
+    @Test
+    public void testBufferedWithSize() throws IOException {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> IOUtils.buffered(new ByteArrayInputStream(new byte[0]), 0));
+
+        BufferedInputStream input = IOUtils.buffered(new ByteArrayInputStream(new byte[]{1, 2}), 1);
+        assertThat(input.read()).isEqualTo(1);
+        assertThat(IOUtils.buffered(input, 16)).isSameAs(input);
+        assertThat(IOUtils.buffered(new ByteArrayOutputStream(), 16)).isInstanceOf(BufferedOutputStream.class);
+        assertThat(IOUtils.buffered(new StringReader(""), 16)).isInstanceOf(BufferedReader.class);
+        assertThat(IOUtils.buffered(new StringWriter(), 16)).isInstanceOf(BufferedWriter.class);
+    }
+
+    @Test
+    public void testCopyWithBuffer() throws IOException {
+        byte[] bytes = new byte[1000];
+        new Random(42).nextBytes(bytes);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertThat(IOUtils.copy(new ByteArrayInputStream(bytes), output, new byte[7])).isEqualTo(bytes.length);
+        assertThat(output.toByteArray()).isEqualTo(bytes);
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> IOUtils.copy(new ByteArrayInputStream(bytes), output, new byte[0]));
+
+        output.reset();
+        ByteBuffer buffer = ByteBuffer.allocate(7).position(3);
+        long count = IOUtils.copy(Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(output), buffer);
+        assertThat(count).isEqualTo(bytes.length);
+        assertThat(output.toByteArray()).isEqualTo(bytes);
+
+        StringWriter writer = new StringWriter();
+        assertThat(IOUtils.copy(new StringReader("Hello, World!"), writer, new char[3])).isEqualTo(13);
+        assertThat(writer).hasToString("Hello, World!");
+    }
+
+    @Test
+    public void testCopyNested() throws IOException {
+        byte[] bytes = new byte[20000];
+        new Random(42).nextBytes(bytes);
+
+        ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        OutputStream outer = new OutputStream() {
+            @Override
+            public void write(int b) {
+                inner.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                IOUtils.copy(new ByteArrayInputStream(b, off, len), inner);
+            }
+        };
+
+        assertThat(IOUtils.copy(new ByteArrayInputStream(bytes), outer)).isEqualTo(bytes.length);
+        assertThat(inner.toByteArray()).isEqualTo(bytes);
+
+        StringWriter writer = new StringWriter();
+        assertThat(IOUtils.copy(new StringReader("Hello, World!"), writer)).isEqualTo(13);
+        assertThat(writer).hasToString("Hello, World!");
+    }
+
 }
@@ -1,7 +1,12 @@
 package be.twofold.common;
 
+import be.twofold.common.tuple.*;
 import org.junit.jupiter.api.*;
 
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
 import static org.assertj.core.api.Assertions.*;
 
 class NumberUtilsTest {
@@ -27,6 +32,78 @@ class NumberUtilsTest {
         assertThat(NumberUtils.tryParseLong("123456789012")).hasValue(123456789012L);
     }
 
+    @Test
+    void testTryParseIntMatchesParseInt() {
+        String[] inputs = {
+            "0", "1", "-1", "+1", "-0", "007", "2147483647", "-2147483648", "2147483648", "-2147483649",
+            "", "-", "+", "1-", "--1", " 1", "1 ", "12a", "99999999999999999999", "\u0661\u0662"
+        };
+        for (int radix : new int[]{2, 10, 16, 36}) {
+            for (String input : inputs) {
+                OptionalInt expected = parseInt(input, radix);
+                assertThat(NumberUtils.tryParseInt(input, 0, input.length(), radix)).as(input).isEqualTo(expected);
+                assertThat(NumberUtils.parseInt(input, 0, input.length(), radix, -42)).as(input).isEqualTo(expected.orElse(-42));
+                if (input.chars().allMatch(c -> c < 0x80)) {
+                    byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+                    assertThat(NumberUtils.tryParseInt(bytes, 0, bytes.length, radix)).as(input).isEqualTo(expected);
+                    assertThat(NumberUtils.parseInt(bytes, 0, bytes.length, radix, -42)).as(input).isEqualTo(expected.orElse(-42));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTryParseLongMatchesParseLong() {
+        String[] inputs = {
+            "0", "1", "-1", "+1", "9223372036854775807", "-9223372036854775808",
+            "9223372036854775808", "-9223372036854775809", "7fffffffffffffff", "-8000000000000000",
+            "", "-", "1-", "12g", "99999999999999999999999"
+        };
+        for (int radix : new int[]{2, 10, 16, 36}) {
+            for (String input : inputs) {
+                OptionalLong expected = parseLong(input, radix);
+                byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+                assertThat(NumberUtils.tryParseLong(input, 0, input.length(), radix)).as(input).isEqualTo(expected);
+                assertThat(NumberUtils.tryParseLong(bytes, 0, bytes.length, radix)).as(input).isEqualTo(expected);
+                assertThat(NumberUtils.parseLong(input, 0, input.length(), radix, -42)).as(input).isEqualTo(expected.orElse(-42));
+                assertThat(NumberUtils.parseLong(bytes, 0, bytes.length, radix, -42)).as(input).isEqualTo(expected.orElse(-42));
+            }
+        }
+    }
+
+    @Test
+    void testTryParseRange() {
+        String s = "id=12345;count=-7";
+        assertThat(NumberUtils.tryParseInt(s, 3, 8)).hasValue(12345);
+        assertThat(NumberUtils.tryParseLong(s, 15, 17)).hasValue(-7);
+        assertThat(NumberUtils.tryParseInt(s, 0, 8)).isEmpty();
+
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        assertThat(NumberUtils.tryParseInt(bytes, 3, 8)).hasValue(12345);
+        assertThat(NumberUtils.tryParseLong(bytes, 15, 17)).hasValue(-7);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> NumberUtils.tryParseInt(s, 10, 20));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> NumberUtils.tryParseInt(s, 3, 8, 37));
+    }
+
+    private static OptionalInt parseInt(String s, int radix) {
+        try {
+            return OptionalInt.of(Integer.parseInt(s, radix));
+        } catch (NumberFormatException e) {
+            return OptionalInt.empty();
+        }
+    }
+
+    private static OptionalLong parseLong(String s, int radix) {
+        try {
+            return OptionalLong.of(Long.parseLong(s, radix));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
     @Test
     void testTryParseDouble() {
         assertThat(NumberUtils.tryParseDouble(null)).isEmpty();
@@ -34,6 +111,86 @@ class NumberUtilsTest {
         assertThat(NumberUtils.tryParseDouble("123.456")).hasValue(123.456);
     }
 
+    @Test
+    void testTryParseDoubleMatchesParseDouble() {
+        String[] inputs = {
+            "0", "-0", "+0.0", "0e999999999", "1", "-1", "1.", ".5", "-.5e-3", "1e5", "1E+5", "1.5f", "2.5D", " 3.25 ",
+            "9007199254740992", "9007199254740993", "9007199254740995", "123456789012345678901234567890",
+            "0.1", "0.30000000000000004", "1.7976931348623157e308", "1.7976931348623159e308", "2e308",
+            "2.2250738585072011e-308", "2.2250738585072014e-308", "4.9e-324", "2.4703282292062328e-324", "1e-400",
+            "1e23", "8.41e21", "5e-324", "7.2057594037927933e16", "0.000000000000000000000000000001234",
+            "NaN", "-Infinity", "+Infinity", "0x1.8p1", "-0X10P-2d",
+            "", " ", "-", "+", ".", "e5", "1e", "1e+", "1.5.5", "1..5", "1e5.5", "--1", "1f5", "1ff", "NaNf", "0x", "foo"
+        };
+        for (String input : inputs) {
+            assertParseDouble(input);
+        }
+    }
+
+    @Test
+    void testTryParseDoubleFuzz() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            assertParseDouble(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            assertParseDouble(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+
+            StringBuilder builder = new StringBuilder();
+            if (random.nextBoolean()) {
+                builder.append('-');
+            }
+            int digits = 1 + random.nextInt(random.nextBoolean() ? 20 : 40);
+            int point = random.nextInt(digits + 1);
+            for (int d = 0; d < digits; d++) {
+                if (d == point) {
+                    builder.append('.');
+                }
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                builder.append('e').append(random.nextInt(700) - 350);
+            }
+            assertParseDouble(builder.toString());
+        }
+    }
+
+    @Test
+    void testTryParseDoubleRange() {
+        String s = "x=1.5e3;y=-0.25";
+        assertThat(NumberUtils.tryParseDouble(s, 2, 7)).hasValue(1500.0);
+        assertThat(NumberUtils.parseDouble(s, 10, 15, Double.NaN)).isEqualTo(-0.25);
+        assertThat(NumberUtils.parseDouble(s, 0, 7, Double.NaN)).isNaN();
+
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        assertThat(NumberUtils.tryParseDouble(bytes, 2, 7)).hasValue(1500.0);
+        assertThat(NumberUtils.parseDouble(bytes, 10, 15, Double.NaN)).isEqualTo(-0.25);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> NumberUtils.tryParseDouble(s, 10, 20));
+    }
+
+    private static void assertParseDouble(String input) {
+        OptionalDouble expected = parseDouble(input);
+        OptionalDouble actual = NumberUtils.tryParseDouble(input);
+        byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+        OptionalDouble actualBytes = NumberUtils.tryParseDouble(bytes, 0, bytes.length);
+
+        assertThat(actual.isPresent()).as(input).isEqualTo(expected.isPresent());
+        assertThat(actualBytes.isPresent()).as(input).isEqualTo(expected.isPresent());
+        if (expected.isPresent()) {
+            long expectedBits = Double.doubleToRawLongBits(expected.getAsDouble());
+            assertThat(Double.doubleToRawLongBits(actual.getAsDouble())).as(input).isEqualTo(expectedBits);
+            assertThat(Double.doubleToRawLongBits(actualBytes.getAsDouble())).as(input).isEqualTo(expectedBits);
+        }
+    }
+
+    private static OptionalDouble parseDouble(String s) {
+        try {
+            return OptionalDouble.of(Double.parseDouble(s));
+        } catch (NumberFormatException e) {
+            return OptionalDouble.empty();
+        }
+    }
+
     // endregion
 
     // region testMin
@@ -188,4 +345,169 @@ class NumberUtilsTest {
 
     // endregion
 
+    // region testMinMax
+
+    @Test
+    void testMinMax() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> NumberUtils.minMax((int[]) null));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> NumberUtils.minMax(new int[0]));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> NumberUtils.minMax(new double[]{1, 2}, 1, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> NumberUtils.minMax(new long[]{1, 2}, 1, 3));
+
+        assertThat(NumberUtils.minMax(3, -1, 4, 1, 5)).isEqualTo(IntPair.of(-1, 5));
+        assertThat(NumberUtils.minMax(3L, -1L, 4L, 1L, 5L)).isEqualTo(LongPair.of(-1, 5));
+        assertThat(NumberUtils.minMax(3f, -1f, 4f, 1f, 5f)).isEqualTo(DoublePair.of(-1, 5));
+        assertThat(NumberUtils.minMax(3d, -1d, 4d, 1d, 5d)).isEqualTo(DoublePair.of(-1, 5));
+        assertThat(NumberUtils.minMax(new int[]{9, 3, -1, 4, 9}, 1, 4)).isEqualTo(IntPair.of(-1, 4));
+    }
+
+    @Test
+    void testMinMaxRange() {
+        int[] ints = {9, 3, -1, 4, -9};
+        assertThat(NumberUtils.max(ints, 1, 4)).isEqualTo(4);
+        assertThat(NumberUtils.min(ints, 1, 4)).isEqualTo(-1);
+        assertThat(NumberUtils.max(new byte[]{9, 3, -1}, 1, 3)).isEqualTo((byte) 3);
+        assertThat(NumberUtils.min(new short[]{-9, 3, -1}, 1, 3)).isEqualTo((short) -1);
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> NumberUtils.max(ints, 2, 2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> NumberUtils.min(ints, 3, 2));
+    }
+
+    @Test
+    void testMinMaxMatchesSequential() {
+        Random random = new Random(42);
+        double[] specials = {Double.NaN, 0.0, -0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+        for (int length = 1; length < 20; length++) {
+            for (int round = 0; round < 200; round++) {
+                int[] ints = new int[length];
+                long[] longs = new long[length];
+                float[] floats = new float[length];
+                double[] doubles = new double[length];
+                for (int i = 0; i < length; i++) {
+                    ints[i] = random.nextInt(7) - 3;
+                    longs[i] = random.nextLong();
+                    doubles[i] = random.nextInt(4) == 0 ? specials[random.nextInt(specials.length)] : random.nextInt(5) - 2;
+                    floats[i] = (float) doubles[i];
+                }
+
+                int expectedIntMin = Arrays.stream(ints).min().getAsInt();
+                int expectedIntMax = Arrays.stream(ints).max().getAsInt();
+                assertThat(NumberUtils.min(ints)).isEqualTo(expectedIntMin);
+                assertThat(NumberUtils.max(ints)).isEqualTo(expectedIntMax);
+                assertThat(NumberUtils.minMax(ints)).isEqualTo(IntPair.of(expectedIntMin, expectedIntMax));
+                assertThat(NumberUtils.minMax(longs))
+                    .isEqualTo(LongPair.of(Arrays.stream(longs).min().getAsLong(), Arrays.stream(longs).max().getAsLong()));
+
+                String description = Arrays.toString(doubles);
+                double expectedMin = sequentialMin(doubles);
+                double expectedMax = sequentialMax(doubles);
+                assertThat(NumberUtils.min(doubles)).as(description).isEqualTo(Double.valueOf(expectedMin));
+                assertThat(NumberUtils.max(doubles)).as(description).isEqualTo(Double.valueOf(expectedMax));
+                assertThat(NumberUtils.minMax(doubles)).as(description).isEqualTo(DoublePair.of(expectedMin, expectedMax));
+                assertThat(NumberUtils.min(floats)).as(description).isEqualTo(Float.valueOf((float) expectedMin));
+                assertThat(NumberUtils.max(floats)).as(description).isEqualTo(Float.valueOf((float) expectedMax));
+                assertThat(NumberUtils.minMax(floats)).as(description).isEqualTo(DoublePair.of(expectedMin, expectedMax));
+            }
+        }
+    }
+
+    private static double sequentialMin(double[] array) {
+        double min = array[0];
+        for (double value : array) {
+            if (value < min) {
+                min = value;
+            }
+        }
+        return min;
+    }
+
+    private static double sequentialMax(double[] array) {
+        double max = array[0];
+        for (double value : array) {
+            if (value > max) {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    // endregion
+
+    // region testWrite
+
+    @Test
+    void testWriteIntMatchesToString() {
+        Random random = new Random(42);
+        byte[] bytes = new byte[16];
+        char[] chars = new char[16];
+        StringWriter writer = new StringWriter();
+        for (int i = 0; i < 10_000; i++) {
+            int value = i < 4 ? new int[]{0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE}[i] : random.nextInt() >> random.nextInt(32);
+            String expected = Integer.toString(value);
+
+            assertThat(NumberUtils.stringLength(value)).isEqualTo(expected.length());
+            assertThat(NumberUtils.writeTo(value, bytes, 2)).isEqualTo(2 + expected.length());
+            assertThat(new String(bytes, 2, expected.length(), StandardCharsets.US_ASCII)).isEqualTo(expected);
+            assertThat(NumberUtils.writeTo(value, chars, 3)).isEqualTo(3 + expected.length());
+            assertThat(new String(chars, 3, expected.length())).isEqualTo(expected);
+            assertThat(NumberUtils.appendTo(value, new StringBuilder()).toString()).isEqualTo(expected);
+            writer.getBuffer().setLength(0);
+            assertThat(NumberUtils.appendTo(value, writer).toString()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testWriteLongMatchesToString() {
+        Random random = new Random(42);
+        byte[] bytes = new byte[24];
+        char[] chars = new char[24];
+        StringWriter writer = new StringWriter();
+        for (int i = 0; i < 10_000; i++) {
+            long value = i < 4 ? new long[]{0, -1, Long.MIN_VALUE, Long.MAX_VALUE}[i] : random.nextLong() >> random.nextInt(64);
+            String expected = Long.toString(value);
+
+            assertThat(NumberUtils.stringLength(value)).isEqualTo(expected.length());
+            assertThat(NumberUtils.writeTo(value, bytes, 2)).isEqualTo(2 + expected.length());
+            assertThat(new String(bytes, 2, expected.length(), StandardCharsets.US_ASCII)).isEqualTo(expected);
+            assertThat(NumberUtils.writeTo(value, chars, 3)).isEqualTo(3 + expected.length());
+            assertThat(new String(chars, 3, expected.length())).isEqualTo(expected);
+            writer.getBuffer().setLength(0);
+            assertThat(NumberUtils.appendTo(value, writer).toString()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testWriteDoubleMatchesToString() {
+        Random random = new Random(42);
+        byte[] bytes = new byte[32];
+        char[] chars = new char[32];
+        double[] specials = {0.0, -0.0, 1.0, -9999999.0, 1e7, Double.NaN, Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE};
+        for (int i = 0; i < 10_000; i++) {
+            double value = i < specials.length ? specials[i]
+                : random.nextBoolean() ? Double.longBitsToDouble(random.nextLong()) : random.nextInt(20_000_000) - 10_000_000;
+            String expected = Double.toString(value);
+
+            assertThat(NumberUtils.writeTo(value, bytes, 2)).isEqualTo(2 + expected.length());
+            assertThat(new String(bytes, 2, expected.length(), StandardCharsets.US_ASCII)).isEqualTo(expected);
+            assertThat(NumberUtils.writeTo(value, chars, 3)).isEqualTo(3 + expected.length());
+            assertThat(new String(chars, 3, expected.length())).isEqualTo(expected);
+            assertThat(NumberUtils.appendTo(value, new StringBuilder()).toString()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testWriteOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> NumberUtils.writeTo(12345, new byte[6], 2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> NumberUtils.writeTo(1.5, new char[4], 2));
+    }
+
+    // endregion
+
 }
@@ -0,0 +1,82 @@
+package be.twofold.common.collect;
+
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ByteListTest {
+
+    @Test
+    void testEmpty() {
+        ByteList list = new ByteList();
+        assertThat(list.size()).isZero();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.toArray()).isEmpty();
+        assertThat(list.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void testAddGrows() {
+        ByteList list = new ByteList(0);
+        for (int i = 0; i < 1000; i++) {
+            list.add((byte) i);
+        }
+        assertThat(list.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(list.get(i)).isEqualTo((byte) i);
+        }
+    }
+
+    @Test
+    void testAddAll() {
+        ByteList list = new ByteList(2);
+        list.add((byte) 0);
+        list.addAll(new byte[]{1, 2, 3, 4, 5}, 1, 4);
+
+        ByteList other = new ByteList();
+        other.addAll(new byte[]{6, 7});
+        list.addAll(other);
+
+        assertThat(list.toArray()).containsExactly(0, 2, 3, 4, 6, 7);
+    }
+
+    @Test
+    void testIndexOf() {
+        ByteList list = new ByteList(64);
+        for (int i = 0; i < 40; i++) {
+            list.add((byte) (i % 20 + 1));
+        }
+
+        assertThat(list.indexOf((byte) 18)).isEqualTo(17);
+        assertThat(list.lastIndexOf((byte) 18)).isEqualTo(37);
+        // The unused tail of the backing array is zero, but not part of the list
+        assertThat(list.contains((byte) 0)).isFalse();
+    }
+
+    @Test
+    void testSortAndCapacity() {
+        ByteList list = new ByteList();
+        list.addAll(new byte[]{3, -1, 2});
+
+        list.sort();
+        assertThat(list.toArray()).containsExactly(-1, 2, 3);
+        list.sortDescending();
+        assertThat(list.toArray()).containsExactly(3, 2, -1);
+
+        list.trimToSize();
+        assertThat(list.array()).containsExactly(3, 2, -1);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        ByteList list1 = new ByteList(4);
+        ByteList list2 = new ByteList(100);
+        list1.addAll(new byte[]{1, 2, 3});
+        list2.addAll(new byte[]{1, 2, 3});
+
+        assertThat(list1).isEqualTo(list2);
+        assertThat(list1.hashCode()).isEqualTo(list2.hashCode());
+        assertThat(list1.toString()).isEqualTo("[1, 2, 3]");
+    }
+
+}
@@ -0,0 +1,152 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.seq.*;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleListTest {
+
+    @Test
+    void testEmpty() {
+        DoubleList list = new DoubleList();
+        assertThat(list.size()).isZero();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.toArray()).isEmpty();
+        assertThat(list.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new DoubleList(-1));
+    }
+
+    @Test
+    void testAddGrows() {
+        DoubleList list = new DoubleList(0);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        assertThat(list.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void testGetAndSet() {
+        DoubleList list = new DoubleList();
+        list.addAll(new double[]{1, 2, 3});
+
+        assertThat(list.get(1)).isEqualTo(2);
+        assertThat(list.set(1, 5)).isEqualTo(2);
+        assertThat(list.get(1)).isEqualTo(5);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> list.get(3));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> list.set(-1, 0));
+    }
+
+    @Test
+    void testAddAllRange() {
+        DoubleList list = new DoubleList(2);
+        list.add(0);
+        list.addAll(new double[]{1, 2, 3, 4, 5}, 1, 4);
+        assertThat(list.toArray()).containsExactly(0, 2, 3, 4);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> list.addAll(new double[]{1}, 0, 2));
+    }
+
+    @Test
+    void testAddAllSeq() {
+        DoubleList list = new DoubleList();
+        list.addAll(DoubleSeq.of(0, 1, 2));
+
+        DoubleList other = new DoubleList();
+        other.addAll(new double[]{3, 4});
+        list.addAll(other);
+
+        assertThat(list.toArray()).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void testIndexOf() {
+        DoubleList list = new DoubleList(16);
+        list.addAll(new double[]{1, 2, 3, 2, 1});
+
+        assertThat(list.indexOf(2)).isEqualTo(1);
+        assertThat(list.lastIndexOf(2)).isEqualTo(3);
+        assertThat(list.contains(3)).isTrue();
+        // The unused tail of the backing array is zero, but not part of the list
+        assertThat(list.contains(0)).isFalse();
+    }
+
+    @Test
+    void testCapacity() {
+        DoubleList list = new DoubleList();
+        list.ensureCapacity(100);
+        assertThat(list.array()).hasSize(100);
+
+        list.add(1);
+        list.trimToSize();
+        assertThat(list.array()).containsExactly(1);
+    }
+
+    @Test
+    void testClear() {
+        DoubleList list = new DoubleList();
+        list.addAll(new double[]{1, 2, 3});
+        list.clear();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.contains(1)).isFalse();
+    }
+
+    @Test
+    void testSortAndReverse() {
+        DoubleList list = new DoubleList(16);
+        list.addAll(new double[]{3, 1, 2});
+
+        list.sort();
+        assertThat(list.toArray()).containsExactly(1, 2, 3);
+        list.sortDescending();
+        assertThat(list.toArray()).containsExactly(3, 2, 1);
+        list.reverse();
+        assertThat(list.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testSeq() {
+        DoubleList list = new DoubleList();
+        list.addAll(new double[]{1, 2, 3, 4});
+
+        assertThat(list.count()).isEqualTo(4);
+        assertThat(list.sum()).isEqualTo(10.0);
+        assertThat(list.filter(i -> i % 2 == 0).toArray()).containsExactly(2, 4);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        DoubleList list1 = new DoubleList(4);
+        DoubleList list2 = new DoubleList(100);
+        list1.addAll(new double[]{1, 2, 3});
+        list2.addAll(new double[]{1, 2, 3});
+
+        assertThat(list1).isEqualTo(list2);
+        assertThat(list1.hashCode()).isEqualTo(list2.hashCode());
+
+        list2.add(4);
+        assertThat(list1).isNotEqualTo(list2);
+    }
+
+    @Test
+    void testToString() {
+        DoubleList list = new DoubleList();
+        list.addAll(new double[]{1, -2, 3});
+        assertThat(list.toString()).isEqualTo("[1.0, -2.0, 3.0]");
+    }
+
+}
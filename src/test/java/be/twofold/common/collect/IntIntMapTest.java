@@ -0,0 +1,134 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.tuple.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntIntMapTest {
+
+    @Test
+    void testEmpty() {
+        IntIntMap map = new IntIntMap();
+        assertThat(map.size()).isZero();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.getOrDefault(1, -1)).isEqualTo(-1);
+        assertThat(map.containsKey(0)).isFalse();
+        assertThat(map.toString()).isEqualTo("{}");
+    }
+
+    @Test
+    void testPutAndGet() {
+        IntIntMap map = new IntIntMap();
+        map.put(1, 10);
+        map.put(2, 20);
+        map.put(1, 11);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.getOrDefault(1, -1)).isEqualTo(11);
+        assertThat(map.getOrDefault(2, -1)).isEqualTo(20);
+        assertThat(map.getOrDefault(3, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void testZeroKey() {
+        IntIntMap map = new IntIntMap();
+        assertThat(map.addTo(0, 5)).isEqualTo(5);
+        assertThat(map.addTo(0, 5)).isEqualTo(10);
+        assertThat(map.getOrDefault(0, -1)).isEqualTo(10);
+        assertThat(map.size()).isEqualTo(1);
+
+        assertThat(map.remove(0)).isTrue();
+        assertThat(map.remove(0)).isFalse();
+        assertThat(map.getOrDefault(0, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void testAddTo() {
+        IntIntMap map = new IntIntMap();
+        for (int i = 0; i < 1000; i++) {
+            map.addTo(i % 10, 1);
+        }
+        assertThat(map.size()).isEqualTo(10);
+        assertThat(map.values().toArray()).containsOnly(100);
+    }
+
+    @Test
+    void testRemoveKeepsCollidingKeys() {
+        IntIntMap map = new IntIntMap(4);
+        for (int i = 1; i <= 64; i++) {
+            map.put(i << 16, i);
+        }
+        for (int i = 1; i <= 64; i += 2) {
+            assertThat(map.remove(i << 16)).isTrue();
+        }
+        for (int i = 1; i <= 64; i++) {
+            assertThat(map.getOrDefault(i << 16, -1)).isEqualTo(i % 2 == 0 ? i : -1);
+        }
+        assertThat(map.size()).isEqualTo(32);
+    }
+
+    @Test
+    void testViews() {
+        IntIntMap map = new IntIntMap();
+        map.put(0, 10);
+        map.put(1, 11);
+        map.put(2, 12);
+
+        assertThat(map.keys().toArray()).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(map.values().toArray()).containsExactlyInAnyOrder(10, 11, 12);
+        assertThat(map.entries().toList()).containsExactlyInAnyOrder(
+            IntPair.of(0, 10), IntPair.of(1, 11), IntPair.of(2, 12));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        IntIntMap map1 = new IntIntMap();
+        IntIntMap map2 = new IntIntMap(1000);
+        for (int i = 0; i < 100; i++) {
+            map1.put(i, i * 2);
+            map2.put(99 - i, (99 - i) * 2);
+        }
+
+        assertThat(map1).isEqualTo(map2);
+        assertThat(map1.hashCode()).isEqualTo(map2.hashCode());
+
+        map2.put(50, 0);
+        assertThat(map1).isNotEqualTo(map2);
+    }
+
+    @Test
+    void testMatchesHashMap() {
+        Random random = new Random(42);
+        IntIntMap map = new IntIntMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2048) - 1024;
+            int value = random.nextInt(100);
+            switch (random.nextInt(4)) {
+                case 0:
+                    map.put(key, value);
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    assertThat(map.addTo(key, value)).isEqualTo(expected.merge(key, value, Integer::sum));
+                    break;
+                case 2:
+                    assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+                    break;
+                default:
+                    assertThat(map.getOrDefault(key, -1)).isEqualTo(expected.getOrDefault(key, -1));
+                    break;
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.entries().forEach(entry -> actual.put(entry.getFirst(), entry.getSecond()));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+}
@@ -0,0 +1,152 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.seq.*;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntListTest {
+
+    @Test
+    void testEmpty() {
+        IntList list = new IntList();
+        assertThat(list.size()).isZero();
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.toArray()).isEmpty();
+        assertThat(list.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new IntList(-1));
+    }
+
+    @Test
+    void testAddGrows() {
+        IntList list = new IntList(0);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        assertThat(list.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void testGetAndSet() {
+        IntList list = new IntList();
+        list.addAll(new int[]{1, 2, 3});
+
+        assertThat(list.get(1)).isEqualTo(2);
+        assertThat(list.set(1, 5)).isEqualTo(2);
+        assertThat(list.get(1)).isEqualTo(5);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> list.get(3));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> list.set(-1, 0));
+    }
+
+    @Test
+    void testAddAllRange() {
+        IntList list = new IntList(2);
+        list.add(0);
+        list.addAll(new int[]{1, 2, 3, 4, 5}, 1, 4);
+        assertThat(list.toArray()).containsExactly(0, 2, 3, 4);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> list.addAll(new int[]{1}, 0, 2));
+    }
+
+    @Test
+    void testAddAllSeq() {
+        IntList list = new IntList();
+        list.addAll(IntSeq.range(0, 3));
+
+        IntList other = new IntList();
+        other.addAll(new int[]{3, 4});
+        list.addAll(other);
+
+        assertThat(list.toArray()).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void testIndexOf() {
+        IntList list = new IntList(16);
+        list.addAll(new int[]{1, 2, 3, 2, 1});
+
+        assertThat(list.indexOf(2)).isEqualTo(1);
+        assertThat(list.lastIndexOf(2)).isEqualTo(3);
+        assertThat(list.contains(3)).isTrue();
+        // The unused tail of the backing array is zero, but not part of the list
+        assertThat(list.contains(0)).isFalse();
+    }
+
+    @Test
+    void testCapacity() {
+        IntList list = new IntList();
+        list.ensureCapacity(100);
+        assertThat(list.array()).hasSize(100);
+
+        list.add(1);
+        list.trimToSize();
+        assertThat(list.array()).containsExactly(1);
+    }
+
+    @Test
+    void testClear() {
+        IntList list = new IntList();
+        list.addAll(new int[]{1, 2, 3});
+        list.clear();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.contains(1)).isFalse();
+    }
+
+    @Test
+    void testSortAndReverse() {
+        IntList list = new IntList(16);
+        list.addAll(new int[]{3, 1, 2});
+
+        list.sort();
+        assertThat(list.toArray()).containsExactly(1, 2, 3);
+        list.sortDescending();
+        assertThat(list.toArray()).containsExactly(3, 2, 1);
+        list.reverse();
+        assertThat(list.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testSeq() {
+        IntList list = new IntList();
+        list.addAll(new int[]{1, 2, 3, 4});
+
+        assertThat(list.count()).isEqualTo(4);
+        assertThat(list.sum()).isEqualTo(10);
+        assertThat(list.filter(i -> i % 2 == 0).toArray()).containsExactly(2, 4);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        IntList list1 = new IntList(4);
+        IntList list2 = new IntList(100);
+        list1.addAll(new int[]{1, 2, 3});
+        list2.addAll(new int[]{1, 2, 3});
+
+        assertThat(list1).isEqualTo(list2);
+        assertThat(list1.hashCode()).isEqualTo(list2.hashCode());
+
+        list2.add(4);
+        assertThat(list1).isNotEqualTo(list2);
+    }
+
+    @Test
+    void testToString() {
+        IntList list = new IntList();
+        list.addAll(new int[]{1, -2, 3});
+        assertThat(list.toString()).isEqualTo("[1, -2, 3]");
+    }
+
+}
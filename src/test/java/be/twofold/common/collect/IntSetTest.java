@@ -0,0 +1,127 @@
+package be.twofold.common.collect;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntSetTest {
+
+    @Test
+    void testEmpty() {
+        IntSet set = new IntSet();
+        assertThat(set.size()).isZero();
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.toArray()).isEmpty();
+        assertThat(set.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void testAddAndContains() {
+        IntSet set = new IntSet();
+        assertThat(set.add(1)).isTrue();
+        assertThat(set.add(2)).isTrue();
+        assertThat(set.add(1)).isFalse();
+
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains(1)).isTrue();
+        assertThat(set.contains(3)).isFalse();
+    }
+
+    @Test
+    void testZeroValue() {
+        IntSet set = new IntSet();
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.toArray()).containsExactly(0);
+
+        assertThat(set.remove(0)).isTrue();
+        assertThat(set.remove(0)).isFalse();
+        assertThat(set.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testRemoveKeepsCollidingValues() {
+        IntSet set = new IntSet(4);
+        for (int i = 1; i <= 64; i++) {
+            set.add(i << 16);
+        }
+        for (int i = 1; i <= 64; i += 2) {
+            assertThat(set.remove(i << 16)).isTrue();
+        }
+        for (int i = 1; i <= 64; i++) {
+            assertThat(set.contains(i << 16)).isEqualTo(i % 2 == 0);
+        }
+        assertThat(set.count()).isEqualTo(32);
+    }
+
+    @Test
+    void testSeq() {
+        IntSet set = new IntSet();
+        set.add(0);
+        set.add(-1);
+        set.add(2);
+
+        assertThat(set.count()).isEqualTo(3);
+        assertThat(set.sum()).isEqualTo(1);
+        assertThat(set.filter(i -> i > 0).toArray()).containsExactly(2);
+    }
+
+    @Test
+    void testClear() {
+        IntSet set = new IntSet();
+        set.add(0);
+        set.add(1);
+        set.clear();
+
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains(1)).isFalse();
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        IntSet set1 = new IntSet();
+        IntSet set2 = new IntSet(1000);
+        for (int i = 0; i < 100; i++) {
+            set1.add(i);
+            set2.add(99 - i);
+        }
+
+        assertThat(set1).isEqualTo(set2);
+        assertThat(set1.hashCode()).isEqualTo(set2.hashCode());
+
+        set2.remove(50);
+        set2.add(100);
+        assertThat(set1).isNotEqualTo(set2);
+    }
+
+    @Test
+    void testMatchesHashSet() {
+        Random random = new Random(42);
+        IntSet set = new IntSet();
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(2048) - 1024;
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertThat(set.add(value)).isEqualTo(expected.add(value));
+                    break;
+                case 1:
+                    assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+                    break;
+                default:
+                    assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+                    break;
+            }
+            assertThat(set.size()).isEqualTo(expected.size());
+        }
+
+        assertThat(set.boxed().toList()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+}
@@ -0,0 +1,168 @@
+package be.twofold.common.collect;
+
+import be.twofold.common.tuple.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongObjMapTest {
+
+    @Test
+    void testEmpty() {
+        LongObjMap<String> map = new LongObjMap<>();
+        assertThat(map.size()).isZero();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(1)).isNull();
+        assertThat(map.containsKey(0)).isFalse();
+        assertThat(map.keys().toArray()).isEmpty();
+        assertThat(map.toString()).isEqualTo("{}");
+    }
+
+    @Test
+    void testInvalidExpectedSize() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new LongObjMap<>(-1));
+    }
+
+    @Test
+    void testPutAndGet() {
+        LongObjMap<String> map = new LongObjMap<>();
+        assertThat(map.put(1, "one")).isNull();
+        assertThat(map.put(2, "two")).isNull();
+        assertThat(map.put(1, "uno")).isEqualTo("one");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1)).isEqualTo("uno");
+        assertThat(map.get(2)).isEqualTo("two");
+        assertThat(map.get(3)).isNull();
+        assertThat(map.getOrDefault(3, "three")).isEqualTo("three");
+    }
+
+    @Test
+    void testZeroKey() {
+        LongObjMap<String> map = new LongObjMap<>();
+        assertThat(map.put(0, "zero")).isNull();
+        assertThat(map.containsKey(0)).isTrue();
+        assertThat(map.get(0)).isEqualTo("zero");
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.keys().toArray()).containsExactly(0L);
+
+        assertThat(map.remove(0)).isEqualTo("zero");
+        assertThat(map.containsKey(0)).isFalse();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testNullValue() {
+        LongObjMap<String> map = new LongObjMap<>();
+        map.put(1, null);
+        assertThat(map.containsKey(1)).isTrue();
+        assertThat(map.getOrDefault(1, "default")).isNull();
+    }
+
+    @Test
+    void testComputeIfAbsent() {
+        LongObjMap<List<String>> map = new LongObjMap<>();
+        map.computeIfAbsent(1, __ -> new ArrayList<>()).add("a");
+        map.computeIfAbsent(1, __ -> new ArrayList<>()).add("b");
+        map.computeIfAbsent(0, __ -> new ArrayList<>()).add("c");
+
+        assertThat(map.get(1)).containsExactly("a", "b");
+        assertThat(map.get(0)).containsExactly("c");
+    }
+
+    @Test
+    void testRemoveKeepsCollidingKeys() {
+        // Keys differing only in the high bits must still spread over the table
+        LongObjMap<Integer> map = new LongObjMap<>(4);
+        for (int i = 1; i <= 64; i++) {
+            map.put((long) i << 32, i);
+        }
+        for (int i = 1; i <= 64; i += 2) {
+            assertThat(map.remove((long) i << 32)).isEqualTo(i);
+        }
+        for (int i = 1; i <= 64; i++) {
+            assertThat(map.get((long) i << 32)).isEqualTo(i % 2 == 0 ? i : null);
+        }
+        assertThat(map.size()).isEqualTo(32);
+    }
+
+    @Test
+    void testViews() {
+        LongObjMap<String> map = new LongObjMap<>();
+        map.put(0, "zero");
+        map.put(1, "one");
+        map.put(2, "two");
+
+        assertThat(map.keys().toArray()).containsExactlyInAnyOrder(0L, 1L, 2L);
+        assertThat(map.values().toList()).containsExactlyInAnyOrder("zero", "one", "two");
+        assertThat(map.entries().toList()).containsExactlyInAnyOrder(
+            LongObjPair.of(0, "zero"), LongObjPair.of(1, "one"), LongObjPair.of(2, "two"));
+    }
+
+    @Test
+    void testClear() {
+        LongObjMap<String> map = new LongObjMap<>();
+        map.put(0, "zero");
+        map.put(1, "one");
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(1)).isNull();
+        assertThat(map.containsKey(0)).isFalse();
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        LongObjMap<String> map1 = new LongObjMap<>();
+        LongObjMap<String> map2 = new LongObjMap<>(1000);
+        for (int i = 0; i < 100; i++) {
+            map1.put(i, String.valueOf(i));
+            map2.put(99 - i, String.valueOf(99 - i));
+        }
+
+        assertThat(map1).isEqualTo(map2);
+        assertThat(map1.hashCode()).isEqualTo(map2.hashCode());
+
+        map2.put(50, "other");
+        assertThat(map1).isNotEqualTo(map2);
+    }
+
+    @Test
+    void testToString() {
+        LongObjMap<String> map = new LongObjMap<>();
+        map.put(1, "one");
+        assertThat(map.toString()).isEqualTo("{1=one}");
+    }
+
+    @Test
+    void testMatchesHashMap() {
+        Random random = new Random(42);
+        LongObjMap<Integer> map = new LongObjMap<>();
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2048) - 1024 + ((long) random.nextInt(4) << 40);
+            int value = random.nextInt();
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+                    break;
+                case 1:
+                    assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+                    break;
+                default:
+                    assertThat(map.get(key)).isEqualTo(expected.get(key));
+                    break;
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+
+        Map<Long, Integer> actual = new HashMap<>();
+        map.entries().forEach(entry -> actual.put(entry.getFirst(), entry.getSecond()));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+}
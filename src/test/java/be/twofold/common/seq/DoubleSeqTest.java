@@ -0,0 +1,136 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DoubleSeqTest {
+
+    private static final DoubleSeq Empty = DoubleSeq.of();
+    private static final DoubleSeq Values = DoubleSeq.of(1.0, 2.0, 3.0, 4.0);
+
+    @Test
+    void testOf() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> DoubleSeq.of((double[]) null));
+
+        assertThat(DoubleSeq.of(new double[0])).isSameAs(Empty);
+        assertThat(Values.toArray()).containsExactly(1.0, 2.0, 3.0, 4.0);
+    }
+
+    @Test
+    void testIterator() {
+        PrimitiveIterator.OfDouble iterator = DoubleSeq.of(1.0).iterator();
+        assertThat(iterator.nextDouble()).isEqualTo(1.0);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(iterator::nextDouble);
+    }
+
+    @Test
+    void testBoxed() {
+        assertThat(Values.boxed()).containsExactly(1.0, 2.0, 3.0, 4.0);
+        assertThat(Empty.boxed()).isEmpty();
+    }
+
+    @Test
+    void testDrop() {
+        assertThat(Values.drop(0)).isSameAs(Values);
+        assertThat(Values.drop(2).toArray()).containsExactly(3.0, 4.0);
+        assertThat(Values.drop(5).toArray()).isEmpty();
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Values.drop(4).iterator().nextDouble());
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Values.drop(-1));
+    }
+
+    @Test
+    void testFilter() {
+        assertThat(Values.filter(i -> i % 2 == 0).toArray()).containsExactly(2.0, 4.0);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Values.filter(i -> false).iterator().nextDouble());
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.filter(null));
+    }
+
+    @Test
+    void testMap() {
+        assertThat(Values.map(i -> i * 10).toArray()).containsExactly(10.0, 20.0, 30.0, 40.0);
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.map(null));
+    }
+
+    @Test
+    void testMapToObj() {
+        assertThat(Values.mapToObj(Double::toString)).containsExactly("1.0", "2.0", "3.0", "4.0");
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.mapToObj(null));
+    }
+
+    @Test
+    void testTake() {
+        assertThat(Values.take(0)).isSameAs(Empty);
+        assertThat(Values.take(2).toArray()).containsExactly(1.0, 2.0);
+        assertThat(Values.take(5).toArray()).containsExactly(1.0, 2.0, 3.0, 4.0);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Values.take(1).filter(i -> false).iterator().nextDouble());
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Values.take(-1));
+    }
+
+    @Test
+    void testAverage() {
+        assertThat(Values.average()).isEqualTo(2.5);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(Empty::average);
+
+        assertThat(Values.averageOptional()).hasValue(2.5);
+        assertThat(Empty.averageOptional()).isEmpty();
+    }
+
+    @Test
+    void testCount() {
+        assertThat(Values.count()).isEqualTo(4);
+        assertThat(Empty.count()).isEqualTo(0);
+    }
+
+    @Test
+    void testFold() {
+        assertThat(Values.fold(1.0, (a, b) -> a * b)).isEqualTo(24.0);
+        assertThat(Empty.fold(1.0, (a, b) -> a * b)).isEqualTo(1.0);
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.fold(0.0, null));
+    }
+
+    @Test
+    void testForEach() {
+        List<Double> list = new ArrayList<>();
+        Values.forEach(list::add);
+        assertThat(list).containsExactly(1.0, 2.0, 3.0, 4.0);
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.forEach(null));
+    }
+
+    @Test
+    void testSum() {
+        assertThat(Values.sum()).isEqualTo(10.0);
+        assertThat(Empty.sum()).isEqualTo(0.0);
+    }
+
+    @Test
+    void testSummary() {
+        DoubleSummaryStatistics summary = Values.summary();
+        assertThat(summary.getCount()).isEqualTo(4);
+        assertThat(summary.getSum()).isEqualTo(10.0);
+        assertThat(summary.getMin()).isEqualTo(1.0);
+        assertThat(summary.getMax()).isEqualTo(4.0);
+    }
+
+    @Test
+    void testToArray() {
+        assertThat(DoubleSeq.of(new double[100]).toArray()).hasSize(100);
+        assertThat(Empty.toArray()).isEmpty();
+    }
+
+}
@@ -0,0 +1,143 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntSeqTest {
+
+    private static final IntSeq Empty = IntSeq.of();
+    private static final IntSeq Values = IntSeq.of(1, 2, 3, 4);
+
+    @Test
+    void testOf() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> IntSeq.of((int[]) null));
+
+        assertThat(IntSeq.of(new int[0])).isSameAs(Empty);
+        assertThat(Values.toArray()).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void testRange() {
+        assertThat(IntSeq.range(0, 5).toArray()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(IntSeq.range(5, 5).toArray()).isEmpty();
+        assertThat(IntSeq.range(5, 0).toArray()).isEmpty();
+    }
+
+    @Test
+    void testIterator() {
+        PrimitiveIterator.OfInt iterator = IntSeq.of(1).iterator();
+        assertThat(iterator.nextInt()).isEqualTo(1);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(iterator::nextInt);
+    }
+
+    @Test
+    void testBoxed() {
+        assertThat(Values.boxed()).containsExactly(1, 2, 3, 4);
+        assertThat(Empty.boxed()).isEmpty();
+    }
+
+    @Test
+    void testDrop() {
+        assertThat(Values.drop(0)).isSameAs(Values);
+        assertThat(Values.drop(2).toArray()).containsExactly(3, 4);
+        assertThat(Values.drop(5).toArray()).isEmpty();
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Values.drop(4).iterator().nextInt());
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Values.drop(-1));
+    }
+
+    @Test
+    void testFilter() {
+        assertThat(Values.filter(i -> i % 2 == 0).toArray()).containsExactly(2, 4);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Values.filter(i -> false).iterator().nextInt());
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.filter(null));
+    }
+
+    @Test
+    void testMap() {
+        assertThat(Values.map(i -> i * 10).toArray()).containsExactly(10, 20, 30, 40);
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.map(null));
+    }
+
+    @Test
+    void testMapToObj() {
+        assertThat(Values.mapToObj(Integer::toString)).containsExactly("1", "2", "3", "4");
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.mapToObj(null));
+    }
+
+    @Test
+    void testTake() {
+        assertThat(Values.take(0)).isSameAs(Empty);
+        assertThat(Values.take(2).toArray()).containsExactly(1, 2);
+        assertThat(Values.take(5).toArray()).containsExactly(1, 2, 3, 4);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Values.take(1).filter(i -> false).iterator().nextInt());
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Values.take(-1));
+    }
+
+    @Test
+    void testAverage() {
+        assertThat(Values.average()).isEqualTo(2.5);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(Empty::average);
+
+        assertThat(Values.averageOptional()).hasValue(2.5);
+        assertThat(Empty.averageOptional()).isEmpty();
+    }
+
+    @Test
+    void testCount() {
+        assertThat(Values.count()).isEqualTo(4);
+        assertThat(Empty.count()).isEqualTo(0);
+    }
+
+    @Test
+    void testFold() {
+        assertThat(Values.fold(1, (a, b) -> a * b)).isEqualTo(24);
+        assertThat(Empty.fold(1, (a, b) -> a * b)).isEqualTo(1);
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.fold(0, null));
+    }
+
+    @Test
+    void testForEach() {
+        List<Integer> list = new ArrayList<>();
+        Values.forEach(list::add);
+        assertThat(list).containsExactly(1, 2, 3, 4);
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.forEach(null));
+    }
+
+    @Test
+    void testSum() {
+        assertThat(Values.sum()).isEqualTo(10);
+        assertThat(Empty.sum()).isEqualTo(0);
+    }
+
+    @Test
+    void testSummary() {
+        IntSummaryStatistics summary = Values.summary();
+        assertThat(summary.getCount()).isEqualTo(4);
+        assertThat(summary.getSum()).isEqualTo(10);
+        assertThat(summary.getMin()).isEqualTo(1);
+        assertThat(summary.getMax()).isEqualTo(4);
+    }
+
+    @Test
+    void testToArray() {
+        assertThat(IntSeq.range(0, 100).toArray()).hasSize(100);
+        assertThat(Empty.toArray()).isEmpty();
+    }
+
+}
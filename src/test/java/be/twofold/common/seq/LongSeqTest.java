@@ -0,0 +1,136 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongSeqTest {
+
+    private static final LongSeq Empty = LongSeq.of();
+    private static final LongSeq Values = LongSeq.of(1L, 2L, 3L, 4L);
+
+    @Test
+    void testOf() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> LongSeq.of((long[]) null));
+
+        assertThat(LongSeq.of(new long[0])).isSameAs(Empty);
+        assertThat(Values.toArray()).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void testIterator() {
+        PrimitiveIterator.OfLong iterator = LongSeq.of(1L).iterator();
+        assertThat(iterator.nextLong()).isEqualTo(1L);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(iterator::nextLong);
+    }
+
+    @Test
+    void testBoxed() {
+        assertThat(Values.boxed()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(Empty.boxed()).isEmpty();
+    }
+
+    @Test
+    void testDrop() {
+        assertThat(Values.drop(0)).isSameAs(Values);
+        assertThat(Values.drop(2).toArray()).containsExactly(3L, 4L);
+        assertThat(Values.drop(5).toArray()).isEmpty();
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Values.drop(4).iterator().nextLong());
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Values.drop(-1));
+    }
+
+    @Test
+    void testFilter() {
+        assertThat(Values.filter(i -> i % 2 == 0).toArray()).containsExactly(2L, 4L);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Values.filter(i -> false).iterator().nextLong());
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.filter(null));
+    }
+
+    @Test
+    void testMap() {
+        assertThat(Values.map(i -> i * 10).toArray()).containsExactly(10L, 20L, 30L, 40L);
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.map(null));
+    }
+
+    @Test
+    void testMapToObj() {
+        assertThat(Values.mapToObj(Long::toString)).containsExactly("1", "2", "3", "4");
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.mapToObj(null));
+    }
+
+    @Test
+    void testTake() {
+        assertThat(Values.take(0)).isSameAs(Empty);
+        assertThat(Values.take(2).toArray()).containsExactly(1L, 2L);
+        assertThat(Values.take(5).toArray()).containsExactly(1L, 2L, 3L, 4L);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Values.take(1).filter(i -> false).iterator().nextLong());
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Values.take(-1));
+    }
+
+    @Test
+    void testAverage() {
+        assertThat(Values.average()).isEqualTo(2.5);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(Empty::average);
+
+        assertThat(Values.averageOptional()).hasValue(2.5);
+        assertThat(Empty.averageOptional()).isEmpty();
+    }
+
+    @Test
+    void testCount() {
+        assertThat(Values.count()).isEqualTo(4);
+        assertThat(Empty.count()).isEqualTo(0);
+    }
+
+    @Test
+    void testFold() {
+        assertThat(Values.fold(1L, (a, b) -> a * b)).isEqualTo(24L);
+        assertThat(Empty.fold(1L, (a, b) -> a * b)).isEqualTo(1L);
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.fold(0L, null));
+    }
+
+    @Test
+    void testForEach() {
+        List<Long> list = new ArrayList<>();
+        Values.forEach(list::add);
+        assertThat(list).containsExactly(1L, 2L, 3L, 4L);
+        assertThatNullPointerException()
+            .isThrownBy(() -> Values.forEach(null));
+    }
+
+    @Test
+    void testSum() {
+        assertThat(Values.sum()).isEqualTo(10L);
+        assertThat(Empty.sum()).isEqualTo(0L);
+    }
+
+    @Test
+    void testSummary() {
+        LongSummaryStatistics summary = Values.summary();
+        assertThat(summary.getCount()).isEqualTo(4);
+        assertThat(summary.getSum()).isEqualTo(10L);
+        assertThat(summary.getMin()).isEqualTo(1L);
+        assertThat(summary.getMax()).isEqualTo(4L);
+    }
+
+    @Test
+    void testToArray() {
+        assertThat(LongSeq.of(new long[100]).toArray()).hasSize(100);
+        assertThat(Empty.toArray()).isEmpty();
+    }
+
+}
@@ -0,0 +1,62 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqAsStreamTest {
+
+    @Test
+    void testAsStream() {
+        assertThat(Strings.asStream().collect(Collectors.toList()))
+            .containsExactly("one", "two", "three", "four", "five");
+        assertThat(Strings.map(String::length).asStream().count()).isEqualTo(5);
+        assertThat(Empty.asStream().count()).isZero();
+    }
+
+    @Test
+    void testAsStreamIsLazy() {
+        Seq<String> seq = Seq.seq(List.of("one", "two").iterator());
+
+        Stream<String> stream = seq.asStream();
+        assertThat(seq.toList()).containsExactly("one", "two");
+        assertThatIllegalStateException()
+            .isThrownBy(() -> stream.collect(Collectors.toList()));
+    }
+
+    @Test
+    void testAsStreamKeepsCharacteristics() {
+        Seq<String> array = Seq.of("one", "two", "three");
+        List<Seq<?>> seqs = List.of(
+            array,
+            Seq.seq(List.of("one", "two")),
+            Seq.seq(new HashSet<>(List.of("one", "two"))),
+            array.map(String::length),
+            array.filter(s -> s.startsWith("t")),
+            array.drop(1),
+            array.drop(1).map(String::length),
+            array.sorted(),
+            array.distinct(),
+            Seq.seq(new HashSet<>(List.of("one", "two"))).map(String::length)
+        );
+
+        // Streams only track these, the rest can't be observed
+        int tracked = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.DISTINCT | Spliterator.SORTED;
+        for (Seq<?> seq : seqs) {
+            int expected = seq.spliterator().characteristics();
+            int characteristics = Seqs.characteristics(seq);
+            if (characteristics >= 0) {
+                assertThat(characteristics).as(seq.getClass().getSimpleName()).isEqualTo(expected);
+            }
+            assertThat(seq.asStream().peek(__ -> {}).spliterator().characteristics() & tracked)
+                .as(seq.getClass().getSimpleName())
+                .isEqualTo(expected & tracked);
+        }
+        assertThat(Seqs.characteristics(Seq.seq(List.of("one").iterator()))).isEqualTo(Spliterator.ORDERED);
+    }
+
+}
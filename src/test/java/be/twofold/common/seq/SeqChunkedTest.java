@@ -0,0 +1,55 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqChunkedTest {
+
+    @Test
+    void testChunked() {
+        assertThat(Strings.chunked(2).toList()).containsExactly(
+            List.of("one", "two"),
+            List.of("three", "four"),
+            List.of("five")
+        );
+        assertThat(Strings.chunked(5).toList()).containsExactly(List.of("one", "two", "three", "four", "five"));
+        assertThat(Empty.chunked(2).toList()).isEmpty();
+    }
+
+    @Test
+    void testChunkedIterator() {
+        Iterator<List<String>> iterator = Strings.chunked(3).iterator();
+        assertThat(iterator.next()).containsExactly("one", "two", "three");
+        assertThat(iterator.next()).containsExactly("four", "five");
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(iterator::next);
+    }
+
+    @Test
+    void testChunkedIsLazy() {
+        List<Integer> seen = new ArrayList<>();
+        Seq<List<Integer>> seq = IntSeq.range(0, 1_000_000).boxed().onEach(seen::add).chunked(10);
+
+        assertThat(seq.first()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(seen).hasSize(10);
+    }
+
+    @Test
+    void testChunkedSize() {
+        assertThat(Strings.chunked(2).count()).isEqualTo(3);
+        assertThat(Strings.chunked(5).count()).isEqualTo(1);
+        assertThat(Strings.chunked(Integer.MAX_VALUE).count()).isEqualTo(1);
+    }
+
+    @Test
+    void testChunkedInvalidSize() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Strings.chunked(0));
+    }
+
+}
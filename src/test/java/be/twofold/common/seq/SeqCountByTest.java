@@ -0,0 +1,62 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqCountByTest {
+
+    @Test
+    void testCountBy() {
+        assertThat(Strings.countBy(String::length)).containsOnly(
+            Map.entry(3, 2L),
+            Map.entry(4, 2L),
+            Map.entry(5, 1L)
+        );
+        assertThat(Empty.countBy(String::length)).isEmpty();
+    }
+
+    @Test
+    void testCountByManyElements() {
+        Map<Integer, Long> counts = IntSeq.range(0, 100_000).boxed().countBy(i -> i % 3);
+        assertThat(counts).containsOnly(
+            Map.entry(0, 33_334L),
+            Map.entry(1, 33_333L),
+            Map.entry(2, 33_333L)
+        );
+    }
+
+    @Test
+    void testCountByDestination() {
+        TreeMap<Integer, Long> destination = new TreeMap<>(Map.of(3, 10L, 6, 1L));
+        TreeMap<Integer, Long> result = Strings.countBy(String::length, destination);
+
+        assertThat(result).isSameAs(destination);
+        assertThat(result).containsExactly(
+            Map.entry(3, 12L),
+            Map.entry(4, 2L),
+            Map.entry(5, 1L),
+            Map.entry(6, 1L)
+        );
+    }
+
+    @Test
+    void testCountByExpectedKeys() {
+        assertThat(Strings.countBy(String::length, 3)).isEqualTo(Strings.countBy(String::length));
+        assertThat(Strings.countBy(String::length, 0)).isEqualTo(Strings.countBy(String::length));
+    }
+
+    @Test
+    void testCountByInvalidArguments() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.countBy(null));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.countBy(String::length, null));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Strings.countBy(String::length, -1));
+    }
+
+}
@@ -0,0 +1,47 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqCountTest {
+
+    @Test
+    void testCount() {
+        assertThat(Strings.count()).isEqualTo(5);
+        assertThat(Empty.count()).isZero();
+    }
+
+    @Test
+    void testCountWithPredicate() {
+        assertThat(Strings.count(s -> s.startsWith("t"))).isEqualTo(2);
+        assertThat(Empty.count(s -> s.startsWith("t"))).isZero();
+    }
+
+    @Test
+    void testCountOnIterable() {
+        assertThat(Seq.seq(List.of("one", "two")).count()).isEqualTo(2);
+        assertThat(Seq.seq(new LinkedHashSet<>(List.of("one", "two"))).count()).isEqualTo(2);
+        assertThat(Seq.seq(List.of("one", "two").iterator()).count()).isEqualTo(2);
+    }
+
+    @Test
+    void testCountKeepsSizeThroughOperations() {
+        List<String> seen = new ArrayList<>();
+        Seq<String> seq = Seq.seq(new ArrayDeque<>(List.of("b", "c", "a")))
+            .map(String::toUpperCase)
+            .onEach(seen::add)
+            .sorted()
+            .drop(1);
+
+        assertThat(seq.count()).isEqualTo(2);
+        assertThat(seen).isEmpty();
+        assertThat(seq.toList()).containsExactly("B", "C");
+        assertThat(Strings.indexed().take(3).count()).isEqualTo(3);
+        assertThat(Strings.filter(s -> s.length() == 3).count()).isEqualTo(2);
+    }
+
+}
@@ -2,6 +2,8 @@ package be.twofold.common.seq;
 
 import org.junit.jupiter.api.*;
 
+import java.util.*;
+
 import static be.twofold.common.seq.Sequences.*;
 import static org.assertj.core.api.Assertions.*;
 
@@ -38,4 +40,20 @@ class SeqDropTest {
             .isThrownBy(() -> Strings.drop(-1));
     }
 
+    @Test
+    void testDropTwice() {
+        assertThat(Strings.drop(1).drop(2)).containsExactly("four", "five");
+        assertThat(Strings.drop(1).take(2).drop(1)).containsExactly("three");
+    }
+
+    @Test
+    void testDropOnList() {
+        List<String> list = new ArrayList<>(List.of("one", "two", "three"));
+        Seq<String> seq = Seq.seq(list).drop(1);
+        list.add("four");
+
+        assertThat(seq).containsExactly("two", "three", "four");
+        assertThat(seq.count()).isEqualTo(3);
+        assertThat(seq.last()).isEqualTo("four");
+    }
 }
@@ -0,0 +1,55 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqForEachChunkTest {
+
+    @Test
+    void testForEachChunk() {
+        List<List<String>> chunks = new ArrayList<>();
+        Strings.forEachChunk(2, chunk -> chunks.add(List.copyOf(chunk)));
+
+        assertThat(chunks).containsExactly(
+            List.of("one", "two"),
+            List.of("three", "four"),
+            List.of("five")
+        );
+    }
+
+    @Test
+    void testForEachChunkEmpty() {
+        List<List<String>> chunks = new ArrayList<>();
+        Empty.forEachChunk(2, chunks::add);
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    void testForEachChunkReusesBuffer() {
+        Set<List<String>> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        Strings.forEachChunk(2, buffers::add);
+
+        assertThat(buffers).hasSize(1);
+        assertThat(buffers.iterator().next()).isEmpty();
+    }
+
+    @Test
+    void testForEachChunkIsReadOnly() {
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> Strings.forEachChunk(2, chunk -> chunk.add("six")));
+    }
+
+    @Test
+    void testForEachChunkInvalidArguments() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Strings.forEachChunk(0, chunk -> {
+            }));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.forEachChunk(1, null));
+    }
+
+}
@@ -0,0 +1,117 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqForEachUntilTest {
+
+    @Test
+    void testForEachUntilConsumesAll() {
+        List<String> result = new ArrayList<>();
+        assertThat(Strings.forEachUntil(result::add)).isTrue();
+        assertThat(result).containsExactly("one", "two", "three", "four", "five");
+    }
+
+    @Test
+    void testForEachUntilStops() {
+        List<String> result = new ArrayList<>();
+        assertThat(Strings.forEachUntil(s -> result.add(s) && !s.equals("two"))).isFalse();
+        assertThat(result).containsExactly("one", "two");
+    }
+
+    @Test
+    void testForEachUntilThrows() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.forEachUntil(null));
+    }
+
+    @Test
+    void testForEachUntilOnListKeepsIteratorGuarantees() {
+        List<String> snapshot = new CopyOnWriteArrayList<>(List.of("one", "two", "three"));
+        List<String> result = new ArrayList<>();
+        Seq.seq(snapshot).forEach(s -> {
+            snapshot.clear();
+            result.add(s);
+        });
+        assertThat(result).containsExactly("one", "two", "three");
+
+        List<String> growing = new ArrayList<>(List.of("one", "two"));
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+            .isThrownBy(() -> Seq.seq(growing).forEach(growing::add));
+    }
+
+    @Test
+    void testPipelineMatchesIterator() {
+        Seq<String> seq = Strings
+            .drop(1)
+            .dropWhile(s -> s.startsWith("t"))
+            .flatMap(s -> List.of(s, s.toUpperCase()))
+            .filter(s -> s.length() == 4)
+            .map(s -> s + "!")
+            .takeWhile(s -> !s.equals("five!"))
+            .take(3);
+
+        List<String> pushed = new ArrayList<>();
+        seq.forEachUntil(pushed::add);
+        assertThat(pushed)
+            .containsExactly("four!", "FOUR!")
+            .containsExactlyElementsOf(seq);
+    }
+
+    @Test
+    void testTakeShortCircuitsInfiniteSource() {
+        Seq<Integer> naturals = () -> Stream.iterate(0, i -> i + 1).iterator();
+        List<Integer> seen = new ArrayList<>();
+
+        assertThat(naturals.onEach(seen::add).take(3).toList()).containsExactly(0, 1, 2);
+        assertThat(seen).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void testFirstShortCircuits() {
+        List<String> seen = new ArrayList<>();
+
+        assertThat(Strings.onEach(seen::add).first(s -> s.startsWith("t"))).isEqualTo("two");
+        assertThat(seen).containsExactly("one", "two");
+    }
+
+    @Test
+    void testTakeWhileShortCircuits() {
+        List<String> seen = new ArrayList<>();
+
+        assertThat(Strings.onEach(seen::add).takeWhile(s -> s.length() == 3).count()).isEqualTo(2);
+        assertThat(seen).containsExactly("one", "two", "three");
+    }
+
+    @Test
+    void testStopInsideTakeIsReported() {
+        assertThat(Strings.take(3).forEachUntil(s -> false)).isFalse();
+        assertThat(Strings.take(3).forEachUntil(s -> true)).isTrue();
+        assertThat(Strings.takeWhile(s -> true).forEachUntil(s -> false)).isFalse();
+        assertThat(Strings.takeWhile(s -> false).forEachUntil(s -> false)).isTrue();
+    }
+
+    @Test
+    void testTakeInsideFlatMapDoesNotStopOuter() {
+        Seq<String> seq = Seq.of(1, 2, 3)
+            .flatMap(i -> Strings.take(i));
+
+        assertThat(seq.toList())
+            .containsExactly("one", "one", "two", "one", "two", "three");
+        assertThat(seq.first()).isEqualTo("one");
+    }
+
+    @Test
+    void testOnceForEachUntil() {
+        Seq<String> once = Strings.once();
+        assertThat(once.any()).isTrue();
+        assertThatIllegalStateException().isThrownBy(once::any);
+    }
+
+}
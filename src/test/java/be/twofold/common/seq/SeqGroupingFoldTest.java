@@ -0,0 +1,55 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqGroupingFoldTest {
+
+    @Test
+    void testGroupingFold() {
+        Map<Integer, String> result = Strings.groupingFold(String::length, "", (acc, s) -> acc + s.charAt(0));
+        assertThat(result).containsOnly(
+            Map.entry(3, "ot"),
+            Map.entry(4, "ff"),
+            Map.entry(5, "t")
+        );
+        assertThat(Empty.groupingFold(String::length, "", String::concat)).isEmpty();
+    }
+
+    @Test
+    void testGroupingFoldDestination() {
+        Map<Integer, Integer> destination = new HashMap<>(Map.of(3, 100));
+        Map<Integer, Integer> result = Strings.groupingFold(String::length, 0, (acc, s) -> acc + 1, destination);
+
+        assertThat(result).isSameAs(destination);
+        assertThat(result).containsOnly(
+            Map.entry(3, 102),
+            Map.entry(4, 2),
+            Map.entry(5, 1)
+        );
+    }
+
+    @Test
+    void testGroupingFoldRejectsNullResult() {
+        Map<Integer, String> destination = new HashMap<>(Map.of(3, "x"));
+
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.groupingFold(String::length, "", (acc, s) -> null, destination));
+        assertThat(destination).containsOnly(Map.entry(3, "x"));
+    }
+
+    @Test
+    void testGroupingFoldInvalidArguments() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.groupingFold(null, "", String::concat));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.groupingFold(String::length, "", null));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.groupingFold(String::length, "", String::concat, null));
+    }
+
+}
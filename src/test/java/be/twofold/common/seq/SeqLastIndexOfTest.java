@@ -2,6 +2,7 @@ package be.twofold.common.seq;
 
 import org.junit.jupiter.api.*;
 
+import java.util.*;
 import java.util.function.*;
 
 import static be.twofold.common.seq.Sequences.*;
@@ -24,4 +25,9 @@ class SeqLastIndexOfTest {
             .isThrownBy(() -> Strings.lastIndexOf((Predicate<String>) null));
     }
 
+    @Test
+    void testLastIndexOfOnIterator() {
+        Seq<String> seq = Seq.seq(List.of("one", "two", "one", "two").iterator());
+        assertThat(seq.lastIndexOf("one")).isEqualTo(2);
+    }
 }
@@ -35,4 +35,25 @@ class SeqLastTest {
         assertThat(Empty.lastOptional(s -> s.startsWith("t"))).isEmpty();
     }
 
+    @Test
+    void testLastOnList() {
+        assertThat(Seq.seq(List.of("one", "two")).last()).isEqualTo("two");
+        assertThat(Seq.seq(new LinkedList<>(List.of("one", "two"))).last()).isEqualTo("two");
+        assertThat(Seq.seq(List.<String>of()).lastOptional()).isEmpty();
+        assertThat(Seq.seq(Arrays.asList("one", null)).lastOptional()).isEmpty();
+    }
+
+    @Test
+    void testLastAfterMapDoesNotIterate() {
+        List<String> list = List.of("one", "two", "three");
+        List<String> mapped = new ArrayList<>();
+        Seq<Integer> seq = Seq.seq(list).onEach(mapped::add).map(String::length);
+
+        assertThat(seq.last()).isEqualTo(5);
+        assertThat(mapped).containsExactly("three");
+        assertThat(seq.drop(1).take(1).toList()).containsExactly(3);
+        assertThat(mapped).containsExactly("three", "two");
+        assertThat(seq.lastIndexOf(3)).isEqualTo(1);
+        assertThat(mapped).containsExactly("three", "two", "three", "two");
+    }
 }
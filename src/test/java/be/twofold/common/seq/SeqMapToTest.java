@@ -0,0 +1,34 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqMapToTest {
+
+    @Test
+    void testMapToInt() {
+        assertThat(Strings.mapToInt(String::length).toArray()).containsExactly(3, 3, 5, 4, 4);
+        assertThat(Empty.mapToInt(String::length).toArray()).isEmpty();
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.mapToInt(null));
+    }
+
+    @Test
+    void testMapToLong() {
+        assertThat(Strings.mapToLong(String::length).toArray()).containsExactly(3L, 3L, 5L, 4L, 4L);
+        assertThat(Empty.mapToLong(String::length).toArray()).isEmpty();
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.mapToLong(null));
+    }
+
+    @Test
+    void testMapToDouble() {
+        assertThat(Strings.mapToDouble(String::length).toArray()).containsExactly(3.0, 3.0, 5.0, 4.0, 4.0);
+        assertThat(Empty.mapToDouble(String::length).toArray()).isEmpty();
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.mapToDouble(null));
+    }
+
+}
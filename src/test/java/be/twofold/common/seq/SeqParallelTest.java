@@ -0,0 +1,127 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqParallelTest {
+
+    private static final List<Integer> Numbers = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+    @Test
+    void testParallelMatchesSequential() {
+        Seq<Integer> seq = Seq.seq(Numbers)
+            .filter(i -> i % 3 != 0)
+            .map(i -> i * 2);
+
+        assertThat(seq.parallel().count()).isEqualTo(seq.count());
+        assertThat(seq.parallel().sum((Integer i) -> i)).isEqualTo(seq.sum((Integer i) -> i));
+        assertThat(seq.parallel().sum((Integer i) -> (long) i)).isEqualTo(seq.sum((Integer i) -> (long) i));
+        assertThat(seq.parallel().summary((Integer i) -> i).getMax()).isEqualTo(seq.summary((Integer i) -> i).getMax());
+        assertThat(seq.parallel().toList()).isEqualTo(seq.toList());
+    }
+
+    @Test
+    void testParallelKeepsOrder() {
+        Integer[] array = Numbers.toArray(new Integer[0]);
+        Seq<Integer> seq = Seq.of(array).map(i -> i + 1);
+
+        assertThat(seq.parallel().toList()).isEqualTo(seq.toList());
+        assertThat(seq.parallel().groupBy(i -> i % 10)).isEqualTo(seq.groupBy(i -> i % 10));
+        assertThat(seq.take(1000).parallel().fold("", (s, i) -> s + i % 10, String::concat))
+            .isEqualTo(seq.take(1000).fold("", (s, i) -> s + i % 10));
+    }
+
+    @Test
+    void testParallelKeepsOrderOfStatefulOperations() {
+        Seq<String> seq = Seq.seq(Numbers).mapIndexed((index, i) -> index + ":" + i);
+        List<String> expected = Seq.seq(Numbers).map(i -> i + ":" + i).toList();
+
+        assertThat(seq.parallel().toList()).isEqualTo(expected);
+    }
+
+    @Test
+    void testParallelCountByMatchesSequential() {
+        // Few keys stay in the partial maps, many keys get flushed to the shared map in auto mode
+        Seq<Integer> seq = Seq.seq(Numbers);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ParallelSeq.Grouping grouping : ParallelSeq.Grouping.values()) {
+                assertThat(seq.parallel(pool).countBy(i -> i % 16, grouping))
+                    .isEqualTo(seq.countBy(i -> i % 16));
+                assertThat(seq.parallel(pool).countBy(i -> i / 2, grouping))
+                    .isEqualTo(seq.countBy(i -> i / 2));
+                assertThat(seq.parallel(pool).sumBy(i -> i % 16, i -> i, grouping))
+                    .isEqualTo(seq.sumBy(i -> i % 16, i -> i));
+                assertThat(seq.parallel(pool).sumBy(i -> i / 3, i -> i, grouping))
+                    .isEqualTo(seq.sumBy(i -> i / 3, i -> i));
+            }
+            assertThat(Empty.parallel(pool).countBy(s -> s)).isEmpty();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelGroupingFoldKeepsOrder() {
+        Seq<Integer> seq = Seq.seq(Numbers).take(1000);
+
+        assertThat(seq.parallel().groupingFold(i -> i % 3, "", (s, i) -> s + i % 10, String::concat))
+            .isEqualTo(seq.groupingFold(i -> i % 3, "", (s, i) -> s + i % 10));
+    }
+
+    @Test
+    void testParallelUnknownSize() {
+        Seq<Integer> seq = Seq.seq(Stream.iterate(0, i -> i + 1)).take(10_000);
+
+        assertThat(seq.parallel().toList()).isEqualTo(Numbers.subList(0, 10_000));
+    }
+
+    @Test
+    void testParallelEmpty() {
+        assertThat(Empty.parallel().count()).isZero();
+        assertThat(Empty.parallel().toList()).isEmpty();
+    }
+
+    @Test
+    void testParallelCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertThat(Seq.seq(Numbers).parallel(pool).count()).isEqualTo(Numbers.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSequential() {
+        assertThat(Strings.parallel().sequential()).isSameAs(Strings);
+    }
+
+    @Test
+    void testSpliteratorIsSized() {
+        assertThat(Strings.spliterator().hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(Strings.map(String::length).spliterator().getExactSizeIfKnown()).isEqualTo(5);
+        assertThat(Strings.filter(s -> true).spliterator().hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    @Test
+    void testParallelThrows() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.parallel(null));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.parallel().countBy(null));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.parallel().countBy(String::length, null));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.parallel().sumBy(String::length, null));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.parallel().groupingFold(String::length, "", (acc, s) -> null, String::concat));
+    }
+
+}
@@ -0,0 +1,132 @@
+package be.twofold.common.seq;
+
+import be.twofold.common.tuple.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqSortedExternalTest {
+
+    private static final Serializer<String> StringSerializer = new Serializer<>() {
+        @Override
+        public void write(DataOutput output, String value) throws IOException {
+            output.writeUTF(value);
+        }
+
+        @Override
+        public String read(DataInput input) throws IOException {
+            return input.readUTF();
+        }
+    };
+
+    private static final Serializer<IntPair> PairSerializer = new Serializer<>() {
+        @Override
+        public void write(DataOutput output, IntPair value) throws IOException {
+            output.writeInt(value.getFirst());
+            output.writeInt(value.getSecond());
+        }
+
+        @Override
+        public IntPair read(DataInput input) throws IOException {
+            return IntPair.of(input.readInt(), input.readInt());
+        }
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSortedExternalInMemory() {
+        Seq<String> seq = Strings.sortedExternal(Comparator.naturalOrder(), StringSerializer, 10, tempDir);
+
+        assertThat(seq.toList()).containsExactly("five", "four", "one", "three", "two");
+        assertThat(Empty.sortedExternal(Comparator.naturalOrder(), StringSerializer, 10, tempDir).toList()).isEmpty();
+    }
+
+    @Test
+    void testSortedExternalSpills() {
+        Seq<String> seq = Strings.sortedExternal(Comparator.naturalOrder(), StringSerializer, 2, tempDir);
+
+        assertThat(seq.toList()).containsExactly("five", "four", "one", "three", "two");
+        assertThat(seq.count()).isEqualTo(5);
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void testSortedExternalMatchesSortIncludingTies() {
+        // More runs than are merged at once, and few keys, so there are plenty of ties to check stability
+        Random random = new Random(42);
+        List<IntPair> pairs = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            pairs.add(IntPair.of(random.nextInt(100), i));
+        }
+        Comparator<IntPair> byKey = Comparator.comparingInt(IntPair::getFirst);
+
+        List<IntPair> expected = new ArrayList<>(pairs);
+        expected.sort(byKey);
+        List<IntPair> actual = Seq.seq(pairs)
+            .sortedExternal(byKey, PairSerializer, 100, tempDir)
+            .toList();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void testSortedExternalCleansUpWhenStoppedEarly() {
+        Seq<String> seq = Strings.sortedExternal(Comparator.naturalOrder(), StringSerializer, 1, tempDir);
+
+        assertThat(seq.first()).isEqualTo("five");
+        assertThat(seq.take(2).toList()).containsExactly("five", "four");
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void testSortedExternalWrapsIOException() {
+        Serializer<String> failing = new Serializer<>() {
+            @Override
+            public void write(DataOutput output, String value) throws IOException {
+                output.writeUTF(value);
+            }
+
+            @Override
+            public String read(DataInput input) throws IOException {
+                throw new IOException("Boom");
+            }
+        };
+
+        Seq<String> seq = Strings.sortedExternal(Comparator.naturalOrder(), failing, 2, tempDir);
+        assertThatExceptionOfType(UncheckedIOException.class)
+            .isThrownBy(seq::toList)
+            .withMessageContaining("Boom");
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void testSortedExternalInvalidArguments() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.sortedExternal(null, StringSerializer, 1, tempDir));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.sortedExternal(Comparator.naturalOrder(), null, 1, tempDir));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Strings.sortedExternal(Comparator.naturalOrder(), StringSerializer, 0, tempDir));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.sortedExternal(Comparator.naturalOrder(), StringSerializer, 1, null));
+    }
+
+    private List<Path> tempFiles() {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
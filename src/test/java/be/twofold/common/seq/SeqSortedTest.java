@@ -0,0 +1,89 @@
+package be.twofold.common.seq;
+
+import be.twofold.common.tuple.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqSortedTest {
+
+    @Test
+    void testSorted() {
+        assertThat(Strings.sorted().toList()).containsExactly("five", "four", "one", "three", "two");
+        assertThat(Empty.sorted().toList()).isEmpty();
+    }
+
+    @Test
+    void testSortedTake() {
+        assertThat(Strings.sorted().take(2).toList()).containsExactly("five", "four");
+        assertThat(Strings.sorted().take(2).take(3).toList()).containsExactly("five", "four");
+        assertThat(Strings.sorted().take(10).toList()).hasSize(5);
+        assertThat(Strings.sorted().take(0).toList()).isEmpty();
+        assertThat(Strings.sorted().take(2).count()).isEqualTo(2);
+    }
+
+    @Test
+    void testSortedFirst() {
+        assertThat(Strings.sorted().first()).isEqualTo("five");
+        assertThat(Strings.sorted(Comparator.reverseOrder()).firstOptional()).hasValue("two");
+        assertThat(Empty.sorted().firstOptional()).isEmpty();
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> Empty.sorted().first());
+    }
+
+    @Test
+    void testSortedMinMax() {
+        assertThat(Strings.sorted().min()).isEqualTo("five");
+        assertThat(Strings.sorted().max()).isEqualTo("two");
+        assertThat(Strings.sorted().take(3).max()).isEqualTo("one");
+        assertThat(Strings.sorted().maxOptional(Comparator.comparing(String::length))).hasValue("three");
+        assertThat(Empty.sorted().minOptional()).isEmpty();
+    }
+
+    @Test
+    void testSortedDoesNotSortForMinMax() {
+        int[] comparisons = {0};
+        Comparator<String> counting = (a, b) -> {
+            comparisons[0]++;
+            return a.compareTo(b);
+        };
+
+        assertThat(Strings.sorted(counting).max(counting)).isEqualTo("two");
+        assertThat(comparisons[0]).isEqualTo(4);
+    }
+
+    @Test
+    void testSortedMinMaxKeepTiesInSortedOrder() {
+        Comparator<String> byLength = Comparator.comparing(String::length);
+        List<String> sorted = List.of("a1", "b1");
+
+        assertThat(Seq.of("b1", "a1").sorted().min(byLength)).isEqualTo(Seq.seq(sorted).min(byLength));
+        assertThat(Seq.of("b1", "a1").sorted().max(byLength)).isEqualTo(Seq.seq(sorted).max(byLength));
+        assertThat(Seq.of("b1", "a1").sorted().minOptional(byLength)).isEqualTo(Seq.seq(sorted).minOptional(byLength));
+        assertThat(Seq.of("b1", "a1").sorted().maxOptional(byLength)).isEqualTo(Seq.seq(sorted).maxOptional(byLength));
+        assertThat(Seq.of("bb", "a", "cc").sorted(byLength).max()).isEqualTo("cc");
+        assertThat(Seq.of("bb", "a", "cc").sorted(byLength.reversed()).min()).isEqualTo("a");
+    }
+
+    @Test
+    void testSortedTakeMatchesFullSort() {
+        // Few distinct keys, so there are plenty of ties to check stability
+        Random random = new Random(42);
+        List<IntPair> pairs = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            pairs.add(IntPair.of(random.nextInt(50), i));
+        }
+        Comparator<IntPair> byKey = Comparator.comparingInt(IntPair::getFirst);
+
+        List<IntPair> expected = new ArrayList<>(pairs);
+        expected.sort(byKey);
+        for (int count : new int[]{1, 7, 100, 5000, 10_000, 20_000}) {
+            List<IntPair> actual = Seq.seq(pairs.iterator()).sorted(byKey).take(count).toList();
+            assertThat(actual).isEqualTo(expected.subList(0, Math.min(count, expected.size())));
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqSumByTest {
+
+    @Test
+    void testSumBy() {
+        assertThat(Strings.sumBy(String::length, String::length)).containsOnly(
+            Map.entry(3, 6L),
+            Map.entry(4, 8L),
+            Map.entry(5, 5L)
+        );
+        assertThat(Empty.sumBy(String::length, String::length)).isEmpty();
+    }
+
+    @Test
+    void testSumByDoesNotOverflowInt() {
+        Map<Boolean, Long> sums = IntSeq.range(0, 10).boxed().sumBy(i -> i % 2 == 0, i -> Integer.MAX_VALUE);
+        assertThat(sums).containsOnly(
+            Map.entry(true, 5L * Integer.MAX_VALUE),
+            Map.entry(false, 5L * Integer.MAX_VALUE)
+        );
+    }
+
+    @Test
+    void testSumByDestination() {
+        Map<Character, Long> destination = new LinkedHashMap<>();
+        destination.put('t', 100L);
+        Map<Character, Long> result = Strings.sumBy(s -> s.charAt(0), String::length, destination);
+
+        assertThat(result).isSameAs(destination);
+        assertThat(result).containsOnly(
+            Map.entry('t', 108L),
+            Map.entry('o', 3L),
+            Map.entry('f', 8L)
+        );
+    }
+
+    @Test
+    void testSumByExpectedKeys() {
+        assertThat(Strings.sumBy(String::length, String::length, 3))
+            .isEqualTo(Strings.sumBy(String::length, String::length));
+        assertThat(Empty.sumBy(String::length, String::length, 100)).isEmpty();
+    }
+
+    @Test
+    void testSumByInvalidArguments() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.sumBy(null, String::length));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.sumBy(String::length, null));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.sumBy(String::length, String::length, null));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Strings.sumBy(String::length, String::length, -1));
+    }
+
+}
@@ -2,6 +2,8 @@ package be.twofold.common.seq;
 
 import org.junit.jupiter.api.*;
 
+import java.util.*;
+
 import static be.twofold.common.seq.Sequences.*;
 import static org.assertj.core.api.Assertions.*;
 
@@ -38,4 +40,18 @@ class SeqTakeTest {
             .isThrownBy(() -> Strings.take(-1));
     }
 
+    @Test
+    void testTakeTwice() {
+        assertThat(Strings.take(4).take(2)).containsExactly("one", "two");
+        assertThat(Strings.take(4).drop(1).take(2)).containsExactly("two", "three");
+    }
+
+    @Test
+    void testTakeOnList() {
+        Seq<String> seq = Seq.seq(List.of("one", "two", "three")).take(2);
+
+        assertThat(seq.count()).isEqualTo(2);
+        assertThat(seq.last()).isEqualTo("two");
+        assertThat(seq.toList()).containsExactly("one", "two");
+    }
 }
@@ -0,0 +1,47 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqTopTest {
+
+    @Test
+    void testTop() {
+        assertThat(Strings.top(2).toList()).containsExactly("two", "three");
+        assertThat(Strings.top(2, Comparator.comparing(String::length)).toList()).containsExactly("three", "four");
+        assertThat(Strings.top(10).toList()).hasSize(5);
+        assertThat(Empty.top(2).toList()).isEmpty();
+    }
+
+    @Test
+    void testBottom() {
+        assertThat(Strings.bottom(2).toList()).containsExactly("five", "four");
+        assertThat(Strings.bottom(2, Comparator.comparing(String::length)).toList()).containsExactly("one", "two");
+        assertThat(Strings.bottom(0).toList()).isEmpty();
+        assertThat(Empty.bottom(2).toList()).isEmpty();
+    }
+
+    @Test
+    void testTopLargeInput() {
+        Seq<Integer> seq = () -> new Random(42).ints(100_000).iterator();
+
+        List<Integer> expected = seq.toList();
+        expected.sort(Comparator.reverseOrder());
+        assertThat(seq.top(100).toList()).isEqualTo(expected.subList(0, 100));
+    }
+
+    @Test
+    void testTopInvalidArguments() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Strings.top(-1));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.top(1, null));
+        assertThatNullPointerException()
+            .isThrownBy(() -> Strings.bottom(1, null));
+    }
+
+}
@@ -0,0 +1,88 @@
+package be.twofold.common.seq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqWindowedTest {
+
+    @Test
+    void testWindowedOverlapping() {
+        assertThat(Strings.windowed(3, 1, false).toList()).containsExactly(
+            List.of("one", "two", "three"),
+            List.of("two", "three", "four"),
+            List.of("three", "four", "five")
+        );
+    }
+
+    @Test
+    void testWindowedOverlappingPartial() {
+        assertThat(Strings.windowed(3, 2, true).toList()).containsExactly(
+            List.of("one", "two", "three"),
+            List.of("three", "four", "five"),
+            List.of("five")
+        );
+    }
+
+    @Test
+    void testWindowedSkipping() {
+        assertThat(Strings.windowed(1, 2, false).toList()).containsExactly(
+            List.of("one"),
+            List.of("three"),
+            List.of("five")
+        );
+        assertThat(Strings.windowed(2, 3, true).toList()).containsExactly(
+            List.of("one", "two"),
+            List.of("four", "five")
+        );
+    }
+
+    @Test
+    void testWindowedTooLarge() {
+        assertThat(Strings.windowed(6, 1, false).toList()).isEmpty();
+        assertThat(Strings.windowed(6, 1, true).toList()).hasSize(5);
+    }
+
+    @Test
+    void testWindowedIteratorMatchesForEach() {
+        for (int size = 1; size <= 6; size++) {
+            for (int step = 1; step <= 6; step++) {
+                for (boolean partial : new boolean[]{false, true}) {
+                    Seq<List<String>> seq = Strings.windowed(size, step, partial);
+
+                    List<List<String>> pulled = new ArrayList<>();
+                    seq.iterator().forEachRemaining(pulled::add);
+                    assertThat(seq.toList()).isEqualTo(pulled);
+                    assertThat(seq.count()).isEqualTo(pulled.size());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testWindowedWindowsAreIndependent() {
+        List<List<String>> windows = Strings.windowed(2, 1, false).toList();
+        windows.get(0).clear();
+        assertThat(windows.get(1)).containsExactly("two", "three");
+    }
+
+    @Test
+    void testWindowedShortCircuits() {
+        assertThat(Strings.windowed(2, 1, true).take(2).toList()).containsExactly(
+            List.of("one", "two"),
+            List.of("two", "three")
+        );
+    }
+
+    @Test
+    void testWindowedInvalidArguments() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Strings.windowed(0, 1, false));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Strings.windowed(1, 0, false));
+    }
+
+}
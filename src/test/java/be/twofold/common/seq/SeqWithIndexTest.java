@@ -0,0 +1,51 @@
+package be.twofold.common.seq;
+
+import be.twofold.common.tuple.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static be.twofold.common.seq.Sequences.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SeqWithIndexTest {
+
+    @Test
+    void testWithIndex() {
+        assertThat(Strings.withIndex().toList()).containsExactly(
+            IntObjPair.of(0, "one"),
+            IntObjPair.of(1, "two"),
+            IntObjPair.of(2, "three"),
+            IntObjPair.of(3, "four"),
+            IntObjPair.of(4, "five")
+        );
+        assertThat(Empty.withIndex().toList()).isEmpty();
+    }
+
+    @Test
+    void testWithIndexRestartsOnEveryIteration() {
+        Seq<IntObjPair<String>> seq = Strings.filter(s -> s.startsWith("t")).withIndex();
+
+        List<IntObjPair<String>> expected = List.of(IntObjPair.of(0, "two"), IntObjPair.of(1, "three"));
+        assertThat(seq.toList()).isEqualTo(expected);
+        assertThat(seq.toList()).isEqualTo(expected);
+        assertThat(seq.iterator()).toIterable().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void testWithIndexKeepsSize() {
+        assertThat(Strings.withIndex().count()).isEqualTo(5);
+        assertThat(Strings.withIndex().take(2).last()).isEqualTo(IntObjPair.of(1, "two"));
+    }
+
+    @Test
+    void testWithIndexOnListDoesNotIterate() {
+        List<String> mapped = new ArrayList<>();
+        Seq<String> seq = Seq.seq(List.of("one", "two", "three")).onEach(mapped::add);
+
+        assertThat(seq.withIndex().last()).isEqualTo(IntObjPair.of(2, "three"));
+        assertThat(seq.indexed().drop(1).first()).isEqualTo(Pair.of(1, "two"));
+        assertThat(mapped).containsExactly("three", "two");
+    }
+
+}
@@ -2,6 +2,7 @@ package be.twofold.common.text;
 
 import org.junit.jupiter.api.*;
 
+import java.util.*;
 import java.util.function.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -213,6 +214,168 @@ class CharPredicateTest {
         assertThat(predicate).isEqualTo(originalPredicate);
     }
 
+    @Test
+    void testPrecompute() {
+        CharPredicate predicate = CharPredicate.range('a', 'z')
+            .or(CharPredicate.among("_$"))
+            .or(CharPredicate.from(Character::isDigit))
+            .and(CharPredicate.is('x').negate());
+        CharPredicate precomputed = predicate.precompute();
+
+        testAllChars(precomputed, predicate::matches, "precompute");
+        testAllChars(precomputed.negate(), c -> !predicate.matches(c), "precompute negate");
+        assertThat(precomputed.matches(Character.MAX_VALUE)).isEqualTo(predicate.matches(Character.MAX_VALUE));
+        assertThat(precomputed.precompute()).isSameAs(precomputed);
+    }
+
+    @Test
+    void testPrecomputeSimplifies() {
+        CharPredicate range = CharPredicate.range(C1, C2);
+        assertThat(range.precompute()).isSameAs(range);
+        assertThat(CharPredicate.is(C1).and(CharPredicate.is(C2)).precompute()).isEqualTo(CharPredicate.none());
+        assertThat(range.or(range.negate()).precompute()).isEqualTo(CharPredicate.any());
+    }
+
+    @Test
+    void testIndexIn() {
+        CharPredicate predicate = CharPredicate.among("ab");
+
+        assertThat(predicate.indexIn("xxaxb")).isEqualTo(2);
+        assertThat(predicate.indexIn(new StringBuilder("xxaxb"))).isEqualTo(2);
+        assertThat(predicate.indexIn("xxaxb", 3)).isEqualTo(4);
+        assertThat(predicate.indexIn("xxaxb", 5)).isEqualTo(-1);
+        assertThat(predicate.indexIn("xyz")).isEqualTo(-1);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> predicate.indexIn("xyz", 4));
+        assertThatNullPointerException()
+            .isThrownBy(() -> predicate.indexIn(null));
+    }
+
+    @Test
+    void testLastIndexIn() {
+        CharPredicate predicate = CharPredicate.among("ab");
+
+        assertThat(predicate.lastIndexIn("xxaxbx")).isEqualTo(4);
+        assertThat(predicate.lastIndexIn(new StringBuilder("xxaxbx"))).isEqualTo(4);
+        assertThat(predicate.lastIndexIn("xyz")).isEqualTo(-1);
+        assertThat(predicate.lastIndexIn("")).isEqualTo(-1);
+    }
+
+    @Test
+    void testCountIn() {
+        CharPredicate predicate = CharPredicate.among("ab");
+
+        assertThat(predicate.countIn("abxab")).isEqualTo(4);
+        assertThat(predicate.countIn(new StringBuilder("abxab"))).isEqualTo(4);
+        assertThat(predicate.countIn("")).isZero();
+    }
+
+    @Test
+    void testMatchesAllOf() {
+        CharPredicate predicate = CharPredicate.range('0', '9');
+
+        assertThat(predicate.matchesAllOf("0123")).isTrue();
+        assertThat(predicate.matchesAllOf("01a3")).isFalse();
+        assertThat(predicate.matchesAllOf("")).isTrue();
+    }
+
+    @Test
+    void testRemoveAndRetainFrom() {
+        CharPredicate predicate = CharPredicate.range('0', '9');
+        String noDigits = "abc";
+
+        assertThat(predicate.removeFrom("a1b22c3")).isEqualTo("abc");
+        assertThat(predicate.removeFrom(noDigits)).isSameAs(noDigits);
+        assertThat(predicate.removeFrom(new StringBuilder("1a"))).isEqualTo("a");
+        assertThat(predicate.retainFrom("a1b22c3")).isEqualTo("1223");
+        assertThat(predicate.retainFrom("123")).isEqualTo("123");
+    }
+
+    @Test
+    void testReplaceFrom() {
+        CharPredicate predicate = CharPredicate.is(' ');
+        String noSpaces = "abc";
+
+        assertThat(predicate.replaceFrom("a b  c", '_')).isEqualTo("a_b__c");
+        assertThat(predicate.replaceFrom(noSpaces, '_')).isSameAs(noSpaces);
+        assertThat(predicate.replaceFrom("a b  c", "%20")).isEqualTo("a%20b%20%20c");
+        assertThat(predicate.replaceFrom("a b", "")).isEqualTo("ab");
+        assertThat(predicate.replaceFrom("a b", "-")).isEqualTo("a-b");
+        assertThat(predicate.replaceFrom(noSpaces, "%20")).isSameAs(noSpaces);
+    }
+
+    @Test
+    void testCollapseFrom() {
+        CharPredicate predicate = CharPredicate.among(" \t");
+        String collapsed = "a b c";
+
+        assertThat(predicate.collapseFrom("a \t b\tc", ' ')).isEqualTo("a b c");
+        assertThat(predicate.collapseFrom("  a  ", '_')).isEqualTo("_a_");
+        assertThat(predicate.collapseFrom(collapsed, ' ')).isSameAs(collapsed);
+        assertThat(predicate.collapseFrom("a b  c", ' ')).isEqualTo("a b c");
+        assertThat(predicate.collapseFrom("", ' ')).isEmpty();
+    }
+
+    @Test
+    void testTrimAndCollapseFrom() {
+        CharPredicate predicate = CharPredicate.among(" \t");
+
+        assertThat(predicate.trimAndCollapseFrom("  a \t b\tc ", ' ')).isEqualTo("a b c");
+        assertThat(predicate.trimAndCollapseFrom("a  b", '_')).isEqualTo("a_b");
+        assertThat(predicate.trimAndCollapseFrom(" \t ", ' ')).isEmpty();
+        assertThat(predicate.trimAndCollapseFrom("", ' ')).isEmpty();
+    }
+
+    @Test
+    void testSplit() {
+        CharPredicate comma = CharPredicate.is(',');
+
+        assertThat(comma.split("a,b,,c,").map(CharSequence::toString).toList())
+            .containsExactly("a", "b", "", "c", "");
+        assertThat(comma.split("").map(CharSequence::toString).toList())
+            .containsExactly("");
+        assertThat(comma.split(new StringBuilder("a,b")).map(CharSequence::toString).toList())
+            .containsExactly("a", "b");
+        assertThatNullPointerException()
+            .isThrownBy(() -> comma.split(null));
+    }
+
+    @Test
+    void testSplitOmitEmptyAndTrim() {
+        CharPredicate comma = CharPredicate.is(',');
+
+        assertThat(comma.split(" a , b ,, ,c,", true, true).map(CharSequence::toString).toList())
+            .containsExactly("a", "b", "c");
+        assertThat(comma.split(" a , b ,, ,c,", true, false).map(CharSequence::toString).toList())
+            .containsExactly(" a ", " b ", " ", "c");
+        assertThat(comma.split(" a ,, ", false, true).map(CharSequence::toString).toList())
+            .containsExactly("a", "", "");
+        assertThat(comma.split(",,", true, false).count()).isZero();
+    }
+
+    @Test
+    void testSplitViews() {
+        List<CharSequence> parts = CharPredicate.is('=').split("key=value=key").toList();
+
+        assertThat(parts.get(0).length()).isEqualTo(3);
+        assertThat(parts.get(1).charAt(1)).isEqualTo('a');
+        assertThat(parts.get(1).subSequence(1, 4).toString()).isEqualTo("alu");
+        assertThat(parts.get(0)).isEqualTo(parts.get(2));
+        assertThat(parts.get(0)).isNotEqualTo(parts.get(1));
+        assertThat(parts.get(0).hashCode()).isEqualTo("key".hashCode());
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> parts.get(0).charAt(3));
+    }
+
+    @Test
+    void testSplitRanges() {
+        List<String> parts = new ArrayList<>();
+        String s = "a,b,,c,";
+        CharPredicate.is(',').split(s, (start, end) -> parts.add(s.substring(start, end)));
+
+        assertThat(parts).containsExactly("a", "b", "", "c", "");
+    }
+
     private void testAllChars(CharPredicate actual, Predicate<Character> expected, String name) {
         for (char c = Character.MIN_VALUE; c < Character.MAX_VALUE; c++) {
             if (actual.matches(c) != expected.test(c)) {
@@ -0,0 +1,24 @@
+package be.twofold.common.tuple;
+
+import nl.jqno.equalsverifier.*;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class DoublePairTest {
+
+    @Test
+    public void testEqualsAndHashCode() {
+        EqualsVerifier.forClass(DoublePair.class)
+            .verify();
+    }
+
+    @Test
+    public void testBasics() {
+        DoublePair pair = DoublePair.of(1.5, 2.5);
+        assertThat(pair.getFirst()).isEqualTo(1.5);
+        assertThat(pair.getSecond()).isEqualTo(2.5);
+        assertThat(pair.toString()).isEqualTo("(1.5, 2.5)");
+    }
+
+}
@@ -0,0 +1,24 @@
+package be.twofold.common.tuple;
+
+import nl.jqno.equalsverifier.*;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class IntObjPairTest {
+
+    @Test
+    public void testEqualsAndHashCode() {
+        EqualsVerifier.forClass(IntObjPair.class)
+            .verify();
+    }
+
+    @Test
+    public void testBasics() {
+        IntObjPair<String> pair = IntObjPair.of(1, "second");
+        assertThat(pair.getFirst()).isEqualTo(1);
+        assertThat(pair.getSecond()).isEqualTo("second");
+        assertThat(pair.toString()).isEqualTo("(1, second)");
+    }
+
+}
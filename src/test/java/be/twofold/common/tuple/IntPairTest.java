@@ -0,0 +1,24 @@
+package be.twofold.common.tuple;
+
+import nl.jqno.equalsverifier.*;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class IntPairTest {
+
+    @Test
+    public void testEqualsAndHashCode() {
+        EqualsVerifier.forClass(IntPair.class)
+            .verify();
+    }
+
+    @Test
+    public void testBasics() {
+        IntPair pair = IntPair.of(1, 2);
+        assertThat(pair.getFirst()).isEqualTo(1);
+        assertThat(pair.getSecond()).isEqualTo(2);
+        assertThat(pair.toString()).isEqualTo("(1, 2)");
+    }
+
+}
@@ -0,0 +1,24 @@
+package be.twofold.common.tuple;
+
+import nl.jqno.equalsverifier.*;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class LongObjPairTest {
+
+    @Test
+    public void testEqualsAndHashCode() {
+        EqualsVerifier.forClass(LongObjPair.class)
+            .verify();
+    }
+
+    @Test
+    public void testBasics() {
+        LongObjPair<String> pair = LongObjPair.of(1L, "second");
+        assertThat(pair.getFirst()).isEqualTo(1L);
+        assertThat(pair.getSecond()).isEqualTo("second");
+        assertThat(pair.toString()).isEqualTo("(1, second)");
+    }
+
+}
@@ -0,0 +1,24 @@
+package be.twofold.common.tuple;
+
+import nl.jqno.equalsverifier.*;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class LongPairTest {
+
+    @Test
+    public void testEqualsAndHashCode() {
+        EqualsVerifier.forClass(LongPair.class)
+            .verify();
+    }
+
+    @Test
+    public void testBasics() {
+        LongPair pair = LongPair.of(1L, 2L);
+        assertThat(pair.getFirst()).isEqualTo(1L);
+        assertThat(pair.getSecond()).isEqualTo(2L);
+        assertThat(pair.toString()).isEqualTo("(1, 2)");
+    }
+
+}
@@ -0,0 +1,24 @@
+package be.twofold.common.tuple;
+
+import nl.jqno.equalsverifier.*;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ObjIntPairTest {
+
+    @Test
+    public void testEqualsAndHashCode() {
+        EqualsVerifier.forClass(ObjIntPair.class)
+            .verify();
+    }
+
+    @Test
+    public void testBasics() {
+        ObjIntPair<String> pair = ObjIntPair.of("first", 2);
+        assertThat(pair.getFirst()).isEqualTo("first");
+        assertThat(pair.getSecond()).isEqualTo(2);
+        assertThat(pair.toString()).isEqualTo("(first, 2)");
+    }
+
+}
@@ -0,0 +1,24 @@
+package be.twofold.common.tuple;
+
+import nl.jqno.equalsverifier.*;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ObjLongPairTest {
+
+    @Test
+    public void testEqualsAndHashCode() {
+        EqualsVerifier.forClass(ObjLongPair.class)
+            .verify();
+    }
+
+    @Test
+    public void testBasics() {
+        ObjLongPair<String> pair = ObjLongPair.of("first", 2L);
+        assertThat(pair.getFirst()).isEqualTo("first");
+        assertThat(pair.getSecond()).isEqualTo(2L);
+        assertThat(pair.toString()).isEqualTo("(first, 2)");
+    }
+
+}